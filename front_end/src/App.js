@@ -15,6 +15,7 @@ import DashboardPage from './components/DashboardPage';
 
 // 백엔드 부분
 import { loginUser, logoutUser, register } from './services/login';
+import { refreshAccessToken, onSessionExpired } from './services/httpClient';
 
 // ✅ i18n
 import { useTranslation } from 'react-i18next';
@@ -55,6 +56,8 @@ const App = () => {
       setIsLoggedIn(true);
       setUsername(savedUser);
       setCurrentPage("home");
+      // 새로고침으로 예약 갱신이 없어졌으므로 액세스 토큰 재발급 + 갱신 예약
+      refreshAccessToken().catch(() => {});
     }
   }, []);
 
@@ -86,9 +89,8 @@ const App = () => {
     return true;
   };
 
-  // ✅ 로그아웃
-  const handleLogout = () => {
-    logoutUser();
+  // ✅ 로그인 상태 초기화 (화면을 로그인 페이지로)
+  const clearSession = () => {
     setIsLoggedIn(false);
     setUsername("");
     setCurrentPage("login");
@@ -96,6 +98,21 @@ const App = () => {
     localStorage.removeItem("username");
   };
 
+  // ✅ 로그아웃
+  const handleLogout = () => {
+    logoutUser();
+    clearSession();
+  };
+
+  // 🔹 리프레시 토큰 만료/폐기(401) 시 로그인 페이지로 이동
+  useEffect(() => {
+    onSessionExpired(() => {
+      clearSession();
+      setAuthPage('login');
+    });
+    return () => onSessionExpired(null);
+  }, []);
+
   // ✅ 회원가입/로그인 페이지 전환
   const handleSignupClick = () => setAuthPage('signup');
   const handleBackToLogin = () => setAuthPage('login');
@@ -219,6 +219,32 @@ const DashboardPage = ({ setCurrentPage, handleLogout, username }) => {
 
     useEffect(() => { loadAll(); }, [loadAll]);
 
+    // 실시간(SSE): 서버가 1초 단위로 병합한 정상/불량 증분을 받아 차트1의 최신 구간에 누적 (DB 재조회 없음)
+    const chart1IncludesNow = useMemo(() => {
+        const f = filters.chart1;
+        if (f.period === 'daily') return f.endDate >= today;
+        if (f.period === 'monthly') return f.endDate === currentYearMonth;
+        if (f.period === 'yearly') return f.endDate === currentYear;
+        return false;
+    }, [filters.chart1, today, currentYearMonth, currentYear]);
+
+    useEffect(() => {
+        if (!chart1IncludesNow || typeof EventSource === 'undefined') return undefined;
+        const source = new EventSource('/api/dashboard/live', { withCredentials: true });
+        source.addEventListener('quality', (e) => {
+            const delta = JSON.parse(e.data);
+            setQuality(prev => {
+                if (prev.length === 0) return prev;
+                const last = prev[prev.length - 1];
+                return [
+                    ...prev.slice(0, -1),
+                    { ...last, normal: last.normal + delta.normal, defective: last.defective + delta.defect }
+                ];
+            });
+        });
+        return () => source.close();
+    }, [chart1IncludesNow]);
+
     const prepareAreaData = (data) => {
         if (data.length === 1) {
             const item = data[0];
@@ -10,9 +10,11 @@ export const API_ENDPOINTS = {
     login: '/api/auth/login',
     logout: '/api/auth/logout',
     register:'/api/auth/register',
+    refresh: '/api/auth/refresh',
   },
   log:{
     logs:'/api/logs',
+    page:'/api/logs/page',
   },
   // 필요한 다른 엔드포인트들을 여기에 추가
 }; 
\ No newline at end of file
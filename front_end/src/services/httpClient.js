@@ -1,5 +1,5 @@
 import axios, { AxiosInstance, AxiosResponse } from 'axios';
-import { apiConfig } from '../config/api';
+import { apiConfig, API_ENDPOINTS } from '../config/api';
 
 // axios 인스턴스 생성 AxiosInstance
 const httpClient = axios.create({
@@ -23,13 +23,76 @@ httpClient.interceptors.request.use(
   }
 );
 
+// 액세스 토큰 갱신 - 만료(expiresIn 초) 1분 전에 리프레시 토큰 쿠키로 재발급 (비밀번호 재입력 없음)
+const REFRESH_MARGIN_SECONDS = 60;
+let refreshTimer = null;
+let refreshPromise = null;
+let sessionExpiredHandler = null;
+
+// 리프레시 토큰이 만료/폐기되어 갱신이 401 로 거절되면 호출 (로그인 화면으로 이동)
+export const onSessionExpired = (handler) => {
+  sessionExpiredHandler = handler;
+};
+
+export const cancelTokenRefresh = () => {
+  clearTimeout(refreshTimer);
+  refreshTimer = null;
+};
+
+export const scheduleTokenRefresh = (expiresIn) => {
+  cancelTokenRefresh();
+  if (!expiresIn) {
+    return;
+  }
+  const delay = Math.max(expiresIn - REFRESH_MARGIN_SECONDS, 5) * 1000;
+  refreshTimer = setTimeout(() => {
+    refreshAccessToken().catch(() => {});
+  }, delay);
+};
+
+// 동시에 여러 요청이 갱신을 시도해도 서버 호출은 1건 (리프레시 토큰은 1회용)
+export const refreshAccessToken = () => {
+  if (!refreshPromise) {
+    refreshPromise = httpClient.post(API_ENDPOINTS.auth.refresh)
+      .then((response) => {
+        scheduleTokenRefresh(response.data?.expiresIn);
+        return response.data;
+      })
+      .catch((error) => {
+        if (error.response?.status === 401) {
+          cancelTokenRefresh();
+          if (sessionExpiredHandler) {
+            sessionExpiredHandler();
+          }
+        }
+        throw error;
+      })
+      .finally(() => {
+        refreshPromise = null;
+      });
+  }
+  return refreshPromise;
+};
+
 // 응답 인터셉터 AxiosResponse
 httpClient.interceptors.response.use(
   (response) => {
     console.log(`API 응답: ${response.status} ${response.config.url}`);
     return response;
   },
-  (error) => {
+  async (error) => {
+    const config = error.config;
+    // 401 이면 토큰 갱신 후 1회 재시도 (새로고침 등으로 예약 갱신이 없어진 경우)
+    if (error.response?.status === 401 && config && !config._retried
+        && config.url !== API_ENDPOINTS.auth.refresh && config.url !== API_ENDPOINTS.auth.login) {
+      config._retried = true;
+      try {
+        await refreshAccessToken();
+        return httpClient(config);
+      } catch (refreshError) {
+        cancelTokenRefresh();
+      }
+    }
     console.error('응답 인터셉터 오류:', error);
     return Promise.reject(error);
   }
@@ -1,5 +1,5 @@
 import axios from 'axios';
-import httpClient from './httpClient';
+import httpClient, { cancelTokenRefresh, scheduleTokenRefresh } from './httpClient';
 import {API_ENDPOINTS} from '../config/api';
 
 /**
@@ -15,7 +15,8 @@ export const loginUser = async (id, pw) => {
             API_ENDPOINTS.auth.login,
             { id, pw }
         );
-        return response.data; // { name: "홍길동" }
+        scheduleTokenRefresh(response.data?.expiresIn);
+        return response.data; // { name: "홍길동", expiresIn: 900 }
     } catch (error) { //unknown
         if (axios.isAxiosError(error) && error.response) {
             throw new Error((error.response.data )?.message || '로그인에 실패했습니다.');
@@ -29,6 +30,7 @@ export const loginUser = async (id, pw) => {
  * @returns Promise<string> (서버 메시지)
  */
 export const logoutUser = async () => {
+    cancelTokenRefresh();
     try {
         const response = await httpClient.post(API_ENDPOINTS.auth.logout);
         return response.data?.message || '로그아웃';
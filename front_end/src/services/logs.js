@@ -20,4 +20,21 @@ export const logs = async () => {
         }
         throw new Error('알 수 없는 오류가 발생했습니다.');
     }
-};
\ No newline at end of file
+};
+
+/**
+ * 로그 페이지 조회 함수 (keyset 페이지네이션)
+ * @param params { size, cursor, result, defectType, productCode, from, to }
+ * @returns Promise<{ items, nextCursor, hasNext }> - 다음 페이지는 nextCursor를 cursor로 전달
+ */
+export const logsPage = async (params = {}) => {
+    try {
+        const response = await httpClient.get(API_ENDPOINTS.log.page, { params });
+        return response.data;
+    } catch (error) {
+        if (axios.isAxiosError(error) && error.response) {
+            throw new Error((error.response.data )?.message || '잘못된 자료입니다.');
+        }
+        throw new Error('알 수 없는 오류가 발생했습니다.');
+    }
+};
@@ -32,14 +32,24 @@ CREATE TABLE user_tbl /* 사용자테이블 */ (
 );
 
 CREATE TABLE detection_log_tbl (
+    log_id BIGINT NOT NULL AUTO_INCREMENT, -- 로그 ID (keyset 페이지네이션 보조 정렬 키)
+    capture_id VARCHAR(100) NOT NULL, -- 촬영 ID (장비 재전송 판별용 UNIQUE)
     input_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, -- 촬영 시간
+    classes VARCHAR(255), -- 검출 클래스 요약 (예: 1:0.9700,3:0.7200)
     product_code VARCHAR(50), -- 제품 코드
     product_result VARCHAR(20) NOT NULL, -- 검출 결과 (양품, 불량품, 보류)
     defect_type VARCHAR(100), -- 불량 유형
     confidence VARCHAR(100), -- 검출 확률
     user_id VARCHAR(20), -- 작업자 ID
-    image_url VARCHAR(255) -- 제품 이미지 URL
+    image_url VARCHAR(255), -- 제품 이미지 URL
+    CONSTRAINT detection_log_tbl_pk PRIMARY KEY (log_id),
+    CONSTRAINT detection_log_tbl_uk_capture UNIQUE (capture_id)
 );
 
 ALTER TABLE user_tbl ADD COLUMN user_provider VARCHAR(50);
-ALTER TABLE user_tbl ADD COLUMN user_provider_id VARCHAR(255);
\ No newline at end of file
+ALTER TABLE user_tbl ADD COLUMN user_provider_id VARCHAR(255);
+
+-- 검출 로그 keyset 페이지네이션/기간 조회용 인덱스 (ORDER BY input_date DESC, log_id DESC)
+CREATE INDEX idx_detection_log_date_id ON detection_log_tbl (input_date, log_id);
+-- 결과(불량/양품) 필터 + 기간 조회용 인덱스
+CREATE INDEX idx_detection_log_result_date ON detection_log_tbl (product_result, input_date, log_id);
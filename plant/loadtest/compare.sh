@@ -0,0 +1,54 @@
+#!/usr/bin/env bash
+#
+# 플랫폼 스레드 / 가상 스레드 부하 비교 (device-load.js 를 두 프로파일로 차례로 실행)
+# - plant 디렉터리에서 실행: loadtest/compare.sh
+# - 필요: k6, Java 21 툴체인 (vthreads 실행은 -PjavaVersion=21 로 빌드), dev 프로파일이 접속할 MySQL
+# - 서버 로그와 k6 요약은 loadtest/results/ 에 저장 (<MODE>.log, <MODE>.json)
+# - 같은 장비에서 k6 와 서버를 함께 돌리면 CPU 를 나눠 쓰므로, 가능하면 BASE_URL 로 다른 장비의 서버를 지정
+#
+# 환경 변수: PROFILES (기본 dev), READY_TIMEOUT (서버 기동 대기 초, 기본 180), 그 외는 device-load.js 와 같음
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+mkdir -p loadtest/results
+
+PROFILES="${PROFILES:-dev}"
+READY_TIMEOUT="${READY_TIMEOUT:-180}"
+HEALTH_URL="http://127.0.0.1:8081/actuator/health"
+
+command -v k6 >/dev/null || { echo "k6 가 없습니다. (https://k6.io)" >&2; exit 1; }
+
+run_mode() {
+    local mode="$1" java_version="$2" profiles="$3"
+    local log="loadtest/results/${mode}.log"
+
+    echo "[${mode}] 서버 기동 (Java ${java_version}, profiles=${profiles})"
+    gradle -q bootRun -PjavaVersion="${java_version}" --args="--spring.profiles.active=${profiles}" >"${log}" 2>&1 &
+    local server_pid=$!
+    trap 'kill ${server_pid} 2>/dev/null || true' EXIT
+
+    local waited=0
+    until curl -sf "${HEALTH_URL}" >/dev/null; do
+        if ! kill -0 "${server_pid}" 2>/dev/null || [ "${waited}" -ge "${READY_TIMEOUT}" ]; then
+            echo "[${mode}] 서버가 준비되지 않았습니다. ${log} 확인" >&2
+            exit 1
+        fi
+        sleep 2
+        waited=$((waited + 2))
+    done
+
+    # VirtualThreadConfig 가 Java 21 미만에서 남기는 경고 - 플랫폼 스레드 결과를 가상 스레드 결과로 기록하지 않도록 중단
+    if [ "${mode}" = "vthreads" ] && grep -q "플랫폼 스레드로 동작합니다" "${log}"; then
+        echo "[vthreads] Java 21 미만으로 실행되어 비교를 중단합니다." >&2
+        exit 1
+    fi
+
+    k6 run --quiet -e MODE="${mode}" loadtest/device-load.js
+
+    kill "${server_pid}" 2>/dev/null || true
+    wait "${server_pid}" 2>/dev/null || true
+    trap - EXIT
+}
+
+run_mode platform 17 "${PROFILES}"
+run_mode vthreads 21 "${PROFILES},vthreads"
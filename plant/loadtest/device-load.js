@@ -0,0 +1,88 @@
+/*
+ * 장비(라즈베리파이) 동시 접속 부하 테스트 - k6 (https://k6.io)
+ * - VU 1개 = 장비 1대, 추론 결과 전송(POST /api/pi/infer) 후 설정 조회(GET /api/pi/settings) 반복
+ * - 기본 1,000대 동시 접속, 결과는 처리량(http_reqs /s)과 p(99) 응답 시간으로 비교
+ *
+ * 플랫폼 스레드 / 가상 스레드 비교 방법 (같은 DB, 같은 장비에서 번갈아 실행)
+ *   1) gradle bootRun --args='--spring.profiles.active=dev'
+ *      k6 run -e MODE=platform loadtest/device-load.js   (plant 디렉터리에서 실행)
+ *   2) gradle bootRun -PjavaVersion=21 --args='--spring.profiles.active=dev,vthreads'
+ *      k6 run -e MODE=vthreads loadtest/device-load.js
+ *   결과 요약은 loadtest/results/<MODE>.json 에 저장됨 (측정값은 실행 환경마다 다르므로 저장소에 올리지 않음)
+ *   loadtest/compare.sh 가 위 두 단계를 차례로 실행 (서버 기동 대기, Java 21 미만 vthreads 실행 차단)
+ *
+ * 환경 변수
+ *   BASE_URL (기본 http://localhost:8080), DEVICES (기본 1000), DURATION (기본 2m), INTERVAL_MS (장비별 전송 간격, 기본 200)
+ *   DEVICE_ID, DEVICE_KEY (Base64) - device.auth.enabled=true 인 서버에서 HMAC 서명 헤더 추가 (DeviceAuthenticationFilter 와 같은 규칙)
+ */
+import http from 'k6/http';
+import crypto from 'k6/crypto';
+import encoding from 'k6/encoding';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MODE = __ENV.MODE || 'platform';
+const INTERVAL_SECONDS = Number(__ENV.INTERVAL_MS || 200) / 1000;
+const DEVICE_ID = __ENV.DEVICE_ID;
+const DEVICE_KEY = __ENV.DEVICE_KEY ? encoding.b64decode(__ENV.DEVICE_KEY, 'std') : null;
+
+export const options = {
+    scenarios: {
+        devices: {
+            executor: 'constant-vus',
+            vus: Number(__ENV.DEVICES || 1000),
+            duration: __ENV.DURATION || '2m',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+// 서명 대상 = 장비ID \n 시각(epoch 초) \n nonce \n 메서드 \n URI (nonce 는 요청마다 새로 생성, 서버가 재사용 거부)
+function deviceHeaders(method, uri) {
+    if (!DEVICE_ID || !DEVICE_KEY) {
+        return {};
+    }
+    const timestamp = Math.floor(Date.now() / 1000);
+    const nonce = encoding.b64encode(crypto.randomBytes(16), 'rawurl');
+    const canonical = `${DEVICE_ID}\n${timestamp}\n${nonce}\n${method}\n${uri}`;
+    return {
+        'X-Device-Id': DEVICE_ID,
+        'X-Device-Timestamp': String(timestamp),
+        'X-Device-Nonce': nonce,
+        'X-Device-Signature': crypto.hmac('sha256', DEVICE_KEY, canonical, 'base64'),
+    };
+}
+
+export default function () {
+    const seq = __ITER;
+    const captureId = `load-${MODE}-${__VU}-${seq}`;
+    const result = JSON.stringify({
+        confidence: 0.9,
+        classes: [[1, 0.9], [4, Math.random()]],
+    });
+
+    const infer = http.post(`${BASE_URL}/api/pi/infer`,
+        { capture_id: captureId, result: result, seq: String(seq) },
+        { headers: deviceHeaders('POST', '/api/pi/infer'), tags: { name: 'infer' } });
+    check(infer, { 'infer 200': (r) => r.status === 200 });
+
+    const settings = http.get(`${BASE_URL}/api/pi/settings`,
+        { headers: deviceHeaders('GET', '/api/pi/settings'), tags: { name: 'settings' } });
+    check(settings, { 'settings 200/304': (r) => r.status === 200 || r.status === 304 });
+
+    sleep(INTERVAL_SECONDS);
+}
+
+export function handleSummary(data) {
+    const reqs = data.metrics.http_reqs.values;
+    const duration = data.metrics.http_req_duration.values;
+    const line = `[${MODE}] 처리량 ${reqs.rate.toFixed(1)} req/s, p(99) ${duration['p(99)'].toFixed(1)} ms, `
+        + `p(95) ${duration['p(95)'].toFixed(1)} ms, 실패율 ${(data.metrics.http_req_failed.values.rate * 100).toFixed(2)}%\n`;
+    return {
+        stdout: line,
+        [`loadtest/results/${MODE}.json`]: JSON.stringify(data, null, 2),
+    };
+}
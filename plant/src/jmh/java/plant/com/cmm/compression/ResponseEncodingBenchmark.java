@@ -0,0 +1,166 @@
+package plant.com.cmm.compression;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+import plant.com.config.MessageConverterConfig;
+import plant.dev.logplant.dto.LogPlantDTO.LogPageRow;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/*
+ * 대용량 로그 응답(LogPageRow 100,000행) 인코딩 - 크기 / 시간
+ * - json: 보안 ObjectMapper (기존 응답), smile: createSmileObjectMapper (Accept: application/x-jackson-smile)
+ * - identity: 압축 없음, gzipPooled: DeflaterPool + PooledGzipOutputStream (ResponseCompressionFilter), gzipJdk: 응답마다 new GZIPOutputStream
+ * - 출력은 바이트 수만 세고 버림 (네트워크 제외), 응답 크기는 보조 카운터 responseBytes 로 함께 보고 (EncodedSize)
+ *
+ * 실행: gradle jmh -PjmhArgs="ResponseEncodingBenchmark -f 1 -wi 3 -i 5 -prof gc"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseEncodingBenchmark {
+
+    @Param({"100000"})
+    public int rows;
+
+    private ObjectMapper jsonMapper;
+    private ObjectMapper smileMapper;
+    private DeflaterPool deflaterPool;
+    private List<LogPageRow> payload;
+
+    /** 기록된 바이트 수만 세는 출력 스트림 */
+    static final class CountingOutputStream extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        jsonMapper = MessageConverterConfig.createSecureObjectMapper();
+        smileMapper = MessageConverterConfig.createSmileObjectMapper();
+        deflaterPool = new DeflaterPool(new SimpleMeterRegistry(), 6, 4);
+
+        String[] products = {"Banana", "Strawberry", "Melon"};
+        String[] results = {"양품", "불량품", "보류"};
+        String[] types = {null, "Damage-H", "Damage-B"};
+        LocalDateTime base = LocalDateTime.of(2025, 10, 1, 8, 0);
+        payload = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            LocalDateTime at = base.plusSeconds(i * 7L);
+            payload.add(new LogPageRow((long) (rows - i), at,
+                    at.toString().substring(0, 16).replace('T', ' '),
+                    products[i % 3], results[i % 7 == 0 ? 1 : (i % 31 == 0 ? 2 : 0)], types[i % 7 == 0 ? 1 + (i % 2) : 0],
+                    Math.floor((0.80 + (i % 20) / 100.0) * 100) / 100,
+                    "http://192.168.10.79:8080/static/frames/cap-" + (100000 + i) + ".jpg"));
+        }
+
+    }
+
+    /**
+     * 응답 1건의 인코딩 크기 (바이트)
+     * - EVENTS 카운터는 결과 표에서 측정 반복 값의 합으로 보고되므로 첫 측정 반복에서 한 번만 기록 (나머지 반복은 0)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+        public long responseBytes;
+        private boolean recorded;
+        private boolean armed;
+
+        @Setup(Level.Iteration)
+        public void reset(IterationParams params) {
+            responseBytes = 0;
+            armed = params.getType() == IterationType.MEASUREMENT && !recorded;
+        }
+
+        long record(long bytes) {
+            if (armed) {
+                responseBytes = bytes;
+                armed = false;
+                recorded = true;
+            }
+            return bytes;
+        }
+    }
+
+    private long write(ObjectMapper mapper, boolean gzip, boolean pooled) throws IOException {
+        CountingOutputStream counter = new CountingOutputStream();
+        if (!gzip) {
+            mapper.writeValue(counter, payload);
+            return counter.count;
+        }
+        if (pooled) {
+            PooledGzipOutputStream out = new PooledGzipOutputStream(counter, deflaterPool, false);
+            try {
+                mapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(out, payload);
+                out.finish();
+            } finally {
+                out.release();
+            }
+            return counter.count;
+        }
+        try (GZIPOutputStream out = new GZIPOutputStream(counter, 8192)) {
+            mapper.writeValue(out, payload);
+        }
+        return counter.count;
+    }
+
+    @Benchmark
+    public long jsonIdentity(EncodedSize size) throws IOException {
+        return size.record(write(jsonMapper, false, false));
+    }
+
+    @Benchmark
+    public long jsonGzipPooled(EncodedSize size) throws IOException {
+        return size.record(write(jsonMapper, true, true));
+    }
+
+    @Benchmark
+    public long jsonGzipJdk(EncodedSize size) throws IOException {
+        return size.record(write(jsonMapper, true, false));
+    }
+
+    @Benchmark
+    public long smileIdentity(EncodedSize size) throws IOException {
+        return size.record(write(smileMapper, false, false));
+    }
+
+    @Benchmark
+    public long smileGzipPooled(EncodedSize size) throws IOException {
+        return size.record(write(smileMapper, true, true));
+    }
+}
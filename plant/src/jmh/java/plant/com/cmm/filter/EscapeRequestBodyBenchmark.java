@@ -0,0 +1,118 @@
+package plant.com.cmm.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import plant.com.cmm.xss.XssInputSanitizer;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/*
+ * 창고 일괄 등록 형태의 JSON 본문 필터링 비교
+ * - tree: 기존 방식 (lines() 로 문자열 → readTree → 텍스트 노드 치환 → writeValueAsString → getBytes)
+ * - streaming: XssInputSanitizer.sanitizeJson (JsonParser → JsonGenerator, 문자열 값만 치환)
+ *
+ * 실행: gradle jmh -PjmhArgs="EscapeRequestBodyBenchmark -f 1 -wi 3 -i 5 -prof gc"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EscapeRequestBodyBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Param({"10", "1000"})
+    public int items;
+
+    private byte[] body;
+
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder("{\"warehouse\":\"제1창고\",\"items\":[");
+        for (int i = 0; i < items; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"productCode\":\"Banana-").append(i)
+                    .append("\",\"qty\":").append(i % 50)
+                    .append(",\"location\":\"A-").append(i % 12).append("-03\"")
+                    .append(",\"memo\":\"입고 검수 완료 <정상>\",\"hold\":false}");
+        }
+        body = sb.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] tree() throws IOException {
+        String json = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8))
+                .lines().collect(Collectors.joining(System.lineSeparator()));
+        JsonNode root = sanitizeNode(OBJECT_MAPPER.readTree(json));
+        return OBJECT_MAPPER.writeValueAsString(root).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] streaming() throws IOException {
+        return XssInputSanitizer.sanitizeJson(new ByteArrayInputStream(body), StandardCharsets.UTF_8);
+    }
+
+    private static JsonNode sanitizeNode(JsonNode node) {
+        if (node.isObject()) {
+            ObjectNode objectNode = (ObjectNode) node;
+            Iterator<Map.Entry<String, JsonNode>> fields = objectNode.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                JsonNode sanitized = sanitizeNode(field.getValue());
+                if (sanitized != field.getValue()) {
+                    objectNode.replace(field.getKey(), sanitized);
+                }
+            }
+        } else if (node.isArray()) {
+            ArrayNode arrayNode = (ArrayNode) node;
+            for (int i = 0; i < arrayNode.size(); i++) {
+                JsonNode sanitized = sanitizeNode(arrayNode.get(i));
+                if (sanitized != arrayNode.get(i)) {
+                    arrayNode.set(i, sanitized);
+                }
+            }
+        } else if (node.isTextual()) {
+            String text = node.asText();
+            StringBuilder sb = new StringBuilder();
+            for (char c : text.toCharArray()) {
+                switch (c) {
+                    case '<': sb.append("&lt;"); break;
+                    case '>': sb.append("&gt;"); break;
+                    case '&': sb.append("&amp;"); break;
+                    case '"': sb.append("&quot;"); break;
+                    case '\'': sb.append("&apos;"); break;
+                    default: sb.append(c); break;
+                }
+            }
+            String sanitized = EsxapeFilerPattern.regexEsxapeFilerPattern(sb.toString());
+            return text.equals(sanitized) ? node : new TextNode(sanitized);
+        }
+        return node;
+    }
+}
@@ -0,0 +1,58 @@
+package plant.com.cmm.filter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * EsxapeFilerPattern 단일 스캔 vs 기존 정규식 22단계 체인 비교
+ * - plain: 로그 응답에 흔한 값 (변경 없음)
+ * - korean: 한글 텍스트 (변경 없음)
+ * - attribute: on이벤트= / href / style 치환이 일어나는 값 (단일 스캔으로 처리)
+ * - attack: script 태그 포함 (정규식 체인으로 위임)
+ *
+ * 실행: gradle jmh -PjmhArgs="EsxapeFilerBenchmark -f 1 -wi 3 -i 5 -prof gc"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EsxapeFilerBenchmark {
+
+    @Param({"plain", "korean", "attribute", "attack"})
+    public String kind;
+
+    private String value;
+
+    @Setup
+    public void setup() {
+        value = switch (kind) {
+            case "plain" -> "/static/frames/capture_20251019_100000_banana_defect.jpg";
+            case "korean" -> "컨베이어 2번 라인 바나나 불량 (멍) 감지 - 신뢰도 0.97";
+            case "attribute" -> "<a href=\"/logs\" style=\"color:red\" onclick=\"go()\">로그</a>";
+            default -> "<script>alert(document.cookie)</script><img src=\"x\" onerror=alert(1)>";
+        };
+    }
+
+    @Benchmark
+    public String regexChain() {
+        return EsxapeFilerPattern.regexEsxapeFilerPattern(value);
+    }
+
+    @Benchmark
+    public String singlePass() {
+        return EsxapeFilerPattern.esxapeFilerPattern(value);
+    }
+}
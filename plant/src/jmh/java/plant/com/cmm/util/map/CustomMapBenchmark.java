@@ -0,0 +1,115 @@
+package plant.com.cmm.util.map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * CustomMap(오픈 어드레싱) vs 기존 ListOrderedMap 기반 구현 비교
+ * - buildRow: MyBatis 결과 1행(7컬럼) 생성
+ * - getSameCase: 저장한 표기 그대로 7개 키 조회
+ * - getUpperCase: 대문자 표기로 7개 키 조회 (기존 구현은 camelCase 키를 찾지 못하고 3회 조회 + 문자열 2개 생성)
+ * - overwriteRow: 같은 키 7개 재저장
+ *
+ * 실행: gradle jmh -PjmhArgs="CustomMapBenchmark -f 1 -wi 3 -i 5"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomMapBenchmark {
+
+    private static final String[] KEYS = {"id", "timestamp", "productCode", "result", "type", "confidence", "image"};
+
+    private String[] upperKeys;
+    private Object[] values;
+    private CustomMap customMap;
+    private LegacyCustomMap legacyMap;
+
+    @Setup
+    public void setup() {
+        upperKeys = new String[KEYS.length];
+        for (int i = 0; i < KEYS.length; i++) {
+            upperKeys[i] = KEYS[i].toUpperCase(Locale.ROOT);
+        }
+        values = new Object[]{1L, "2025-10-19 10:00", "Banana", "양품", null, 0.97, "/static/frames/capture_1.jpg"};
+        customMap = new CustomMap();
+        legacyMap = new LegacyCustomMap();
+        fill(customMap);
+        fill(legacyMap);
+    }
+
+    private void fill(Map<String, Object> map) {
+        for (int i = 0; i < KEYS.length; i++) {
+            map.put(KEYS[i], values[i]);
+        }
+    }
+
+    @Benchmark
+    public Object buildRowCustomMap() {
+        CustomMap map = new CustomMap();
+        fill(map);
+        return map;
+    }
+
+    @Benchmark
+    public Object buildRowLegacy() {
+        LegacyCustomMap map = new LegacyCustomMap();
+        fill(map);
+        return map;
+    }
+
+    @Benchmark
+    public void getSameCaseCustomMap(Blackhole bh) {
+        for (String key : KEYS) {
+            bh.consume(customMap.get(key));
+        }
+    }
+
+    @Benchmark
+    public void getSameCaseLegacy(Blackhole bh) {
+        for (String key : KEYS) {
+            bh.consume(legacyMap.get(key));
+        }
+    }
+
+    @Benchmark
+    public void getUpperCaseCustomMap(Blackhole bh) {
+        for (String key : upperKeys) {
+            bh.consume(customMap.get(key));
+        }
+    }
+
+    @Benchmark
+    public void getUpperCaseLegacy(Blackhole bh) {
+        for (String key : upperKeys) {
+            bh.consume(legacyMap.get(key));
+        }
+    }
+
+    @Benchmark
+    public Object overwriteRowCustomMap() {
+        fill(customMap);
+        return customMap;
+    }
+
+    @Benchmark
+    public Object overwriteRowLegacy() {
+        fill(legacyMap);
+        return legacyMap;
+    }
+}
@@ -0,0 +1,46 @@
+package plant.com.cmm.util.map;
+
+import org.apache.commons.collections4.map.ListOrderedMap;
+
+/*
+ * 벤치마크 비교용: 기존 ListOrderedMap 기반 CustomMap의 get/put 구현 (변경 전 코드 그대로)
+ */
+public class LegacyCustomMap extends ListOrderedMap<String, Object> {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public Object get(Object key) {
+        if (key == null) {
+            return null;
+        }
+        String stringKey = String.valueOf(key);
+        Object obj = super.get(stringKey);
+
+        if (obj == null) {
+            obj = super.get(stringKey.toLowerCase());
+
+            if (obj == null) {
+                obj = super.get(stringKey.toUpperCase());
+            }
+        }
+        return obj;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        if ("undefined".equals(key)) {
+            return null;
+        }
+
+        String lower = key.toLowerCase();
+        String upper = key.toUpperCase();
+        this.remove(lower);
+        this.remove(upper);
+
+        if (value instanceof String && " ".equals(value)) {
+            value = "";
+        }
+        return super.put(key, value);
+    }
+}
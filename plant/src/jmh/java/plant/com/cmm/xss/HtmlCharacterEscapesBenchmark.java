@@ -0,0 +1,69 @@
+package plant.com.cmm.xss;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import plant.com.config.MessageConverterConfig;
+import plant.dev.logplant.dto.LogPlantDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 보안 ObjectMapper(MessageConverterConfig) 직렬화 - HtmlCharacterEscapes 사전 계산 표 vs 기존 구현
+ * - 검출 로그 500행 (한글 판정/유형, 이미지 경로) 응답
+ *
+ * 실행: gradle jmh -PjmhArgs="HtmlCharacterEscapesBenchmark -f 1 -wi 3 -i 5 -prof gc"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HtmlCharacterEscapesBenchmark {
+
+    private static final String[] RESULTS = {"양품", "불량품", "보류"};
+    private static final String[] TYPES = {null, "멍 (bruise)", "곰팡이 #2", "찍힘"};
+
+    private ObjectMapper tableMapper;
+    private ObjectMapper legacyMapper;
+    private List<LogPlantDTO.LogRow> rows;
+
+    @Setup
+    public void setup() {
+        tableMapper = MessageConverterConfig.createSecureObjectMapper();
+        legacyMapper = MessageConverterConfig.createSecureObjectMapper();
+        legacyMapper.getFactory().setCharacterEscapes(new LegacyHtmlCharacterEscapes());
+
+        rows = new ArrayList<>(500);
+        for (int i = 0; i < 500; i++) {
+            rows.add(new LogPlantDTO.LogRow(
+                    String.format("2025-10-19 %02d:%02d", i / 60 % 24, i % 60),
+                    i % 2 == 0 ? "Banana" : "Apple",
+                    RESULTS[i % 3],
+                    TYPES[i % 4],
+                    0.5 + (i % 50) / 100.0,
+                    "/static/frames/capture_" + i + ".jpg"));
+        }
+    }
+
+    @Benchmark
+    public byte[] precomputedTable() throws Exception {
+        return tableMapper.writeValueAsBytes(rows);
+    }
+
+    @Benchmark
+    public byte[] legacyEscapes() throws Exception {
+        return legacyMapper.writeValueAsBytes(rows);
+    }
+}
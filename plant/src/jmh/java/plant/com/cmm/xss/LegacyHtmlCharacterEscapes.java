@@ -0,0 +1,37 @@
+package plant.com.cmm.xss;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.CharacterEscapes;
+import com.fasterxml.jackson.core.io.SerializedString;
+import org.apache.commons.text.StringEscapeUtils;
+
+/*
+ * 벤치마크 비교용: 사전 계산 표 도입 전 HtmlCharacterEscapes (문자마다 escapeHtml4 + SerializedString 생성)
+ */
+public class LegacyHtmlCharacterEscapes extends CharacterEscapes {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int[] asciiEscapes;
+
+    public LegacyHtmlCharacterEscapes() {
+        this.asciiEscapes = CharacterEscapes.standardAsciiEscapesForJSON();
+        this.asciiEscapes['<'] = CharacterEscapes.ESCAPE_CUSTOM;
+        this.asciiEscapes['>'] = CharacterEscapes.ESCAPE_CUSTOM;
+        this.asciiEscapes['\"'] = CharacterEscapes.ESCAPE_CUSTOM;
+        this.asciiEscapes['('] = CharacterEscapes.ESCAPE_CUSTOM;
+        this.asciiEscapes[')'] = CharacterEscapes.ESCAPE_CUSTOM;
+        this.asciiEscapes['#'] = CharacterEscapes.ESCAPE_CUSTOM;
+        this.asciiEscapes['\''] = CharacterEscapes.ESCAPE_CUSTOM;
+    }
+
+    @Override
+    public int[] getEscapeCodesForAscii() {
+        return asciiEscapes;
+    }
+
+    @Override
+    public SerializableString getEscapeSequence(int ch) {
+        return new SerializedString(StringEscapeUtils.escapeHtml4(Character.toString((char) ch)));
+    }
+}
@@ -0,0 +1,91 @@
+package plant.com.cmm.xss;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import plant.com.cmm.filter.EsxapeFilerPattern;
+import plant.com.config.MessageConverterConfig;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 응답 문자열 직렬화 - 필터링 결과를 String 으로 만든 뒤 기록 vs 스레드 버퍼에 바로 기록
+ * - plain: 변경 없는 재고/로그 500행
+ * - rewrite: 메모 필드에 style / href / on이벤트= 가 포함된 500행 (치환 발생)
+ *
+ * 실행: gradle jmh -PjmhArgs="XssSanitizerSerializerBenchmark -f 1 -wi 3 -i 5 -prof gc"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XssSanitizerSerializerBenchmark {
+
+    @Param({"plain", "rewrite"})
+    public String kind;
+
+    private ObjectMapper stringMapper;
+    private ObjectMapper bufferMapper;
+    private List<Map<String, Object>> rows;
+
+    /** 변경 전 방식: esxapeFilerPattern 결과 String 을 writeString */
+    static class StringSanitizerSerializer extends JsonSerializer<String> {
+        @Override
+        public void serialize(String value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeString(EsxapeFilerPattern.esxapeFilerPattern(value));
+        }
+    }
+
+    @Setup
+    public void setup() {
+        bufferMapper = MessageConverterConfig.createSecureObjectMapper();
+        stringMapper = MessageConverterConfig.createRawObjectMapper();
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(String.class, new StringSanitizerSerializer());
+        stringMapper.registerModule(module);
+        stringMapper.getFactory().setCharacterEscapes(new HtmlCharacterEscapes());
+
+        rows = new ArrayList<>(500);
+        for (int i = 0; i < 500; i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("productCode", "Banana-" + i);
+            row.put("location", "A-" + (i % 12) + "-03");
+            row.put("result", i % 3 == 0 ? "불량품" : "양품");
+            row.put("memo", "rewrite".equals(kind)
+                    ? "<p style=\"color:red\" onclick=\"open()\">상세 보기 href 참고</p>"
+                    : "입고 검수 완료 - 컨베이어 2번 라인");
+            row.put("qty", i % 50);
+            rows.add(row);
+        }
+    }
+
+    @Benchmark
+    public byte[] stringThenWrite() throws IOException {
+        return stringMapper.writeValueAsBytes(rows);
+    }
+
+    @Benchmark
+    public byte[] bufferWrite() throws IOException {
+        return bufferMapper.writeValueAsBytes(rows);
+    }
+}
@@ -0,0 +1,103 @@
+package plant.com.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import plant.dev.auth.dto.UserDto;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 같은 토큰으로 반복 요청할 때의 JWT 처리 비용 비교
+ * - legacyParse: 기존 getAllClaimsFromToken (요청마다 Jwts.parser()...build() 후 서명 검증)
+ * - sharedParser: 재사용 JwtParser 로 서명 검증 (캐시 없음)
+ * - filterUncached / filterCached: JwtAuthenticationFilter 1회 통과 (jwt.claims-cache.max-size=0 / 10000)
+ *
+ * 실행: gradle jmh -PjmhArgs="JwtAuthenticationFilterBenchmark -f 1 -wi 3 -i 5 -prof gc"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "plant-benchmark-secret-key-0123456789-abcdef";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private SecretKey key;
+    private String token;
+    private JwtAuthenticationFilter uncachedFilter;
+    private JwtAuthenticationFilter cachedFilter;
+
+    @Setup
+    public void setup() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        JwtUtil uncached = new JwtUtil(new SimpleMeterRegistry(), SECRET, 900, 0);
+        JwtUtil cached = new JwtUtil(new SimpleMeterRegistry(), SECRET, 900, 10_000);
+        UserDto userDto = new UserDto();
+        userDto.setUserId("admin@plant.com");
+        userDto.setUserName("관리자");
+        userDto.setRolGrade("ROLE_ADMIN");
+        token = cached.generateToken(userDto);
+        uncachedFilter = new JwtAuthenticationFilter(uncached);
+        cachedFilter = new JwtAuthenticationFilter(cached);
+    }
+
+    @Benchmark
+    public Claims legacyParse() {
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+    }
+
+    @Benchmark
+    public Claims sharedParser() {
+        return SharedParser.PARSER.parseSignedClaims(token).getPayload();
+    }
+
+    @Benchmark
+    public Authentication filterUncached() throws ServletException, IOException {
+        return runFilter(uncachedFilter);
+    }
+
+    @Benchmark
+    public Authentication filterCached() throws ServletException, IOException {
+        return runFilter(cachedFilter);
+    }
+
+    private Authentication runFilter(JwtAuthenticationFilter filter) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/logs");
+        request.addHeader(JwtAuthenticationFilter.HEADER_STRING, JwtAuthenticationFilter.TOKEN_PREFIX + token);
+        filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    private static final class SharedParser {
+        private static final io.jsonwebtoken.JwtParser PARSER = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build();
+    }
+}
@@ -0,0 +1,131 @@
+package plant.dev.logplant;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.factory.ObjectFactory;
+import org.apache.ibatis.session.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import plant.com.cmm.util.map.CustomMap;
+import plant.com.config.MessageConverterConfig;
+import plant.dev.logplant.dto.LogPlantDTO.LogRow;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 검출 로그 10만 건 기준 CustomMap vs Record 비교 벤치마크
+ * - mapRows*: MyBatis 자동 매핑과 동일한 경로 (ObjectFactory 생성 + MetaObject.setValue / 생성자 매핑)
+ *   (ResultSet 읽기 비용은 두 방식이 동일하므로 제외하고, 컬럼 값은 미리 만들어 둔 값을 사용)
+ * - serialize*: 응답용 보안 ObjectMapper(MessageConverterConfig)로 JSON 직렬화
+ *
+ * 실행: gradle jmh -PjmhArgs="LogRowMappingBenchmark -f 1 -wi 3 -i 5"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LogRowMappingBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final String[] COLUMNS = {"timestamp", "productCode", "result", "type", "confidence", "image"};
+    private static final List<Class<?>> ROW_TYPES = Arrays.asList(
+            String.class, String.class, String.class, String.class, Double.class, String.class);
+
+    private Configuration configuration;
+    private ObjectFactory objectFactory;
+    private Object[][] columnValues;
+    private List<CustomMap> mapRows;
+    private List<LogRow> recordRows;
+    private ObjectMapper secureMapper;
+
+    @Setup
+    public void setup() {
+        configuration = new Configuration();
+        objectFactory = configuration.getObjectFactory();
+        secureMapper = MessageConverterConfig.createSecureObjectMapper();
+
+        String[] products = {"Banana", "Strawberry", "Melon"};
+        columnValues = new Object[ROWS][];
+        for (int i = 0; i < ROWS; i++) {
+            boolean defect = i % 7 == 0;
+            columnValues[i] = new Object[]{
+                    String.format("2025-10-%02d %02d:%02d", 1 + i % 28, i % 24, i % 60),
+                    products[i % products.length],
+                    defect ? "불량품" : "양품",
+                    defect ? (i % 2 == 0 ? "Damage-H" : "Damage-B") : null,
+                    0.5 + (i % 50) / 100.0,
+                    "/static/frames/capture_" + i + ".jpg"
+            };
+        }
+        mapRows = mapRowsToCustomMap();
+        recordRows = mapRowsToRecord();
+    }
+
+    @Benchmark
+    public List<CustomMap> mapRowsToCustomMap() {
+        List<CustomMap> rows = new ArrayList<>(ROWS);
+        for (Object[] values : columnValues) {
+            CustomMap row = objectFactory.create(CustomMap.class);
+            MetaObject metaObject = configuration.newMetaObject(row);
+            for (int c = 0; c < COLUMNS.length; c++) {
+                metaObject.setValue(COLUMNS[c], values[c]);
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Benchmark
+    public List<LogRow> mapRowsToRecord() {
+        List<LogRow> rows = new ArrayList<>(ROWS);
+        for (Object[] values : columnValues) {
+            rows.add(objectFactory.create(LogRow.class, ROW_TYPES, Arrays.asList(values)));
+        }
+        return rows;
+    }
+
+    @Benchmark
+    public void serializeCustomMap(Blackhole bh) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        secureMapper.writeValue(out, mapRows);
+        bh.consume(out.count);
+    }
+
+    @Benchmark
+    public void serializeRecord(Blackhole bh) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        secureMapper.writeValue(out, recordRows);
+        bh.consume(out.count);
+    }
+
+    /** 직렬화 결과를 버리고 바이트 수만 세는 스트림 */
+    private static final class CountingOutputStream extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
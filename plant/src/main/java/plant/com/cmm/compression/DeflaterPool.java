@@ -0,0 +1,65 @@
+package plant.com.cmm.compression;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+
+// 응답 압축에 쓰는 Deflater 를 재사용하는 풀 클래스입니다.
+/**
+ * Deflater 풀
+ * - Deflater 는 생성 시 네이티브(zlib) 메모리를 잡고 end() 또는 GC 정리 전까지 놓지 않으므로, 요청마다 만들지 않고 reset 후 재사용
+ * - raw deflate(nowrap) 로 생성, gzip 헤더/트레일러는 PooledGzipOutputStream 이 기록
+ * - 유휴 보관 수는 http.compression.deflater-pool-size (0 이면 코어 수 x 2), 넘치는 반납분은 즉시 end()
+ * - 대기 없음: 풀이 비어 있으면 새로 생성
+ */
+@Component
+public class DeflaterPool {
+
+    private final int level;
+    private final BlockingQueue<Deflater> idle;
+    private final Counter createdCounter;
+
+    public DeflaterPool(MeterRegistry meterRegistry,
+                        @Value("${http.compression.level:6}") int level,
+                        @Value("${http.compression.deflater-pool-size:0}") int poolSize) {
+        this.level = level;
+        this.idle = new ArrayBlockingQueue<>(poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors() * 2);
+        this.createdCounter = Counter.builder("http.compression.deflater.created")
+                .description("새로 생성한 Deflater 수 (풀이 비어 있던 횟수)")
+                .register(meterRegistry);
+        Gauge.builder("http.compression.deflater.idle", idle, BlockingQueue::size)
+                .description("풀에 보관 중인 유휴 Deflater 수")
+                .register(meterRegistry);
+    }
+
+    public Deflater borrow() {
+        Deflater deflater = idle.poll();
+        if (deflater == null) {
+            createdCounter.increment();
+            deflater = new Deflater(level, true);
+        }
+        return deflater;
+    }
+
+    public void release(Deflater deflater) {
+        deflater.reset();
+        if (!idle.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        Deflater deflater;
+        while ((deflater = idle.poll()) != null) {
+            deflater.end();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package plant.com.cmm.compression;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+// 풀에서 빌린 Deflater 로 gzip 형식을 기록하는 출력 스트림입니다.
+/**
+ * gzip 출력 스트림 (Deflater 재사용)
+ * - GZIPOutputStream 과 같은 형식 (헤더 10바이트 + raw deflate + CRC32/ISIZE 트레일러), Deflater 만 DeflaterPool 에서 빌림
+ * - finish(): 트레일러 기록 후 Deflater 반납, close(): finish + 하위 스트림 닫기
+ * - 중간에 실패하면 release() 로 트레일러 없이 반납 (이후 쓰기는 IOException)
+ * - syncFlush=true 이면 flush() 때 지금까지 쓴 데이터를 내보냄 (스트리밍 응답용)
+ */
+public final class PooledGzipOutputStream extends DeflaterOutputStream {
+
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    private final DeflaterPool pool;
+    private final CRC32 crc = new CRC32();
+    private boolean released;
+    private long originalBytes;
+    private long compressedBytes;
+
+    public PooledGzipOutputStream(OutputStream out, DeflaterPool pool, boolean syncFlush) throws IOException {
+        super(out, pool.borrow(), 8192, syncFlush);
+        this.pool = pool;
+        try {
+            out.write(HEADER);
+        } catch (IOException | RuntimeException e) {
+            release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (released) {
+            throw new IOException("gzip 스트림이 이미 종료되었습니다.");
+        }
+        super.write(b, off, len);
+        crc.update(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (!released) {
+            super.flush();
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (released) {
+            return;
+        }
+        try {
+            super.finish();
+            writeTrailer((int) crc.getValue(), (int) def.getBytesRead());
+            originalBytes = def.getBytesRead();
+            compressedBytes = HEADER.length + def.getBytesWritten() + 8;
+        } finally {
+            release();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            finish();
+        } finally {
+            out.close();
+        }
+    }
+
+    /** 트레일러 없이 Deflater 반납 (오류 경로) */
+    public void release() {
+        if (!released) {
+            released = true;
+            pool.release(def);
+        }
+    }
+
+    /** 압축 전 바이트 수 (finish 후 유효) */
+    public long getOriginalBytes() {
+        return originalBytes;
+    }
+
+    /** gzip 헤더/트레일러 포함 압축 후 바이트 수 (finish 후 유효) */
+    public long getCompressedBytes() {
+        return compressedBytes;
+    }
+
+    private void writeTrailer(int crcValue, int totalIn) throws IOException {
+        byte[] trailer = {
+                (byte) crcValue, (byte) (crcValue >> 8), (byte) (crcValue >> 16), (byte) (crcValue >> 24),
+                (byte) totalIn, (byte) (totalIn >> 8), (byte) (totalIn >> 16), (byte) (totalIn >> 24)
+        };
+        out.write(trailer);
+    }
+}
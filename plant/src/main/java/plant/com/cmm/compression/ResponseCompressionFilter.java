@@ -0,0 +1,541 @@
+package plant.com.cmm.compression;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 응답 본문을 gzip 으로 압축하는 필터 클래스입니다.
+/**
+ * 응답 압축 필터
+ * - Accept-Encoding 협상 후 본문이 http.compression.min-response-size 를 넘을 때만 압축 (작은 응답은 그대로 + Content-Length 유지)
+ * - 대상 Content-Type 은 http.compression.mime-types, 이미 Content-Encoding 이 있거나 204/304 면 그대로 전달
+ * - Deflater 는 DeflaterPool 에서 빌려 쓰고 응답 종료 시 반납 (Tomcat server.compression 은 응답마다 새로 생성)
+ * - 비동기 응답(SSE, StreamingResponseBody)은 압축하지 않음, http.compression.exclude-paths 경로는 래핑하지 않음
+ *   (동기 구간에서 이미 압축을 시작한 뒤 비동기로 넘어간 응답은 이어서 압축하고, 비동기 종료 시 AsyncListener 에서 트레일러 기록 후 반납)
+ * - 지원 인코딩은 gzip 만 (JDK 에 brotli 인코더가 없음, 인코더를 추가하면 negotiate 에서 선택)
+ * - http.compression.bytes (stage=original/compressed) 로 압축 전후 크기 기록
+ */
+public class ResponseCompressionFilter extends OncePerRequestFilter {
+
+    static final String GZIP = "gzip";
+
+    private final DeflaterPool deflaterPool;
+    private final int minResponseSize;
+    private final Set<String> mimeTypes;
+    private final List<PathPattern> excludePatterns;
+    private final Counter originalBytes;
+    private final Counter compressedBytes;
+
+    public ResponseCompressionFilter(DeflaterPool deflaterPool, MeterRegistry meterRegistry, int minResponseSize,
+                                     String[] mimeTypes, String[] excludePaths) {
+        this.deflaterPool = deflaterPool;
+        this.minResponseSize = Math.max(minResponseSize, 0);
+        Set<String> types = new HashSet<>();
+        for (String mimeType : mimeTypes) {
+            if (!mimeType.isBlank()) {
+                types.add(mimeType.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        this.mimeTypes = Set.copyOf(types);
+        List<PathPattern> patterns = new ArrayList<>();
+        for (String path : excludePaths) {
+            if (!path.isBlank()) {
+                patterns.add(PathPatternParser.defaultInstance.parse(path.trim()));
+            }
+        }
+        this.excludePatterns = List.copyOf(patterns);
+        this.originalBytes = Counter.builder("http.compression.bytes")
+                .description("압축한 응답의 크기 (original: 압축 전, compressed: 압축 후)")
+                .tag("stage", "original")
+                .register(meterRegistry);
+        this.compressedBytes = Counter.builder("http.compression.bytes")
+                .description("압축한 응답의 크기 (original: 압축 전, compressed: 압축 후)")
+                .tag("stage", "compressed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING)) == null) {
+            return true;
+        }
+        if (excludePatterns.isEmpty()) {
+            return false;
+        }
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        PathContainer path = PathContainer.parsePath(contextPath.isEmpty() ? uri : uri.substring(contextPath.length()));
+        for (PathPattern pattern : excludePatterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        CompressingResponseWrapper wrapper = new CompressingResponseWrapper(request, response);
+        boolean completed = false;
+        try {
+            chain.doFilter(request, wrapper);
+            completed = true;
+        } finally {
+            if (completed) {
+                wrapper.finish();
+            } else {
+                wrapper.abort();
+            }
+        }
+    }
+
+    /** Accept-Encoding 에서 사용할 인코딩 선택, 없으면 null (q=0 은 거부로 처리) */
+    static String negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return null;
+        }
+        boolean wildcard = false;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            boolean accepted = true;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        accepted = Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        accepted = false;
+                    }
+                }
+            }
+            if (GZIP.equals(coding) || "x-gzip".equals(coding)) {
+                return accepted ? GZIP : null;
+            }
+            if ("*".equals(coding)) {
+                wildcard = accepted;
+            }
+        }
+        return wildcard ? GZIP : null;
+    }
+
+    private boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        int semicolon = contentType.indexOf(';');
+        String mimeType = (semicolon < 0 ? contentType : contentType.substring(0, semicolon)).trim().toLowerCase(Locale.ROOT);
+        return mimeTypes.contains(mimeType);
+    }
+
+    /**
+     * 본문을 min-response-size 까지 모아 두었다가 넘치는 시점(또는 응답 종료 시점)에 압축 여부를 결정하는 응답 래퍼
+     * - 결정 전 Content-Length 는 보관만 하고, 압축하지 않기로 하면 그때 그대로 적용
+     */
+    private final class CompressingResponseWrapper extends HttpServletResponseWrapper {
+
+        private final HttpServletRequest request;
+        private CompressingOutputStream outputStream;
+        private PrintWriter writer;
+        private long declaredLength = -1;
+
+        CompressingResponseWrapper(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (writer != null) {
+                throw new IllegalStateException("getWriter() 가 이미 호출되었습니다.");
+            }
+            return stream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                if (outputStream != null) {
+                    throw new IllegalStateException("getOutputStream() 이 이미 호출되었습니다.");
+                }
+                writer = new PrintWriter(new OutputStreamWriter(stream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        private CompressingOutputStream stream() {
+            if (outputStream == null) {
+                outputStream = new CompressingOutputStream(this);
+            }
+            return outputStream;
+        }
+
+        @Override
+        public void setContentLength(int len) {
+            setContentLengthLong(len);
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+            if (outputStream == null || outputStream.mode == Mode.BUFFERING) {
+                declaredLength = len;
+            } else if (outputStream.mode == Mode.PASS_THROUGH) {
+                super.setContentLengthLong(len);
+            }
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(value == null ? -1 : Long.parseLong(value));
+            } else {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(value == null ? -1 : Long.parseLong(value));
+            } else {
+                super.addHeader(name, value);
+            }
+        }
+
+        @Override
+        public void setIntHeader(String name, int value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(value);
+            } else {
+                super.setIntHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addIntHeader(String name, int value) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(value);
+            } else {
+                super.addIntHeader(name, value);
+            }
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            } else if (outputStream != null) {
+                outputStream.flush();
+            }
+            if (outputStream == null || outputStream.mode != Mode.BUFFERING) {
+                super.flushBuffer();
+            }
+        }
+
+        @Override
+        public void resetBuffer() {
+            if (outputStream != null && outputStream.mode == Mode.BUFFERING) {
+                outputStream.count = 0;
+            }
+            super.resetBuffer();
+        }
+
+        @Override
+        public void reset() {
+            if (outputStream != null && outputStream.mode == Mode.BUFFERING) {
+                outputStream.count = 0;
+            }
+            declaredLength = -1;
+            super.reset();
+        }
+
+        void finish() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (outputStream != null) {
+                outputStream.finish();
+            } else if (declaredLength >= 0) {
+                super.setContentLengthLong(declaredLength);
+            }
+        }
+
+        void abort() {
+            if (outputStream != null) {
+                outputStream.abort();
+            }
+        }
+
+        boolean shouldCompress() {
+            int status = getStatus();
+            return !request.isAsyncStarted()
+                    && status >= 200 && status != HttpServletResponse.SC_NO_CONTENT && status != HttpServletResponse.SC_NOT_MODIFIED
+                    && getHeader(HttpHeaders.CONTENT_ENCODING) == null
+                    && isCompressible(getContentType());
+        }
+
+        boolean isAsyncStarted() {
+            return request.isAsyncStarted();
+        }
+
+        void addAsyncListener(AsyncListener listener) {
+            request.getAsyncContext().addListener(listener);
+        }
+
+        /** 보관한 Content-Length 적용, 없으면 bufferedLength (0 이하이면 생략) */
+        void applyContentLength(long bufferedLength) {
+            if (declaredLength >= 0) {
+                super.setContentLengthLong(declaredLength);
+            } else if (bufferedLength > 0) {
+                super.setContentLengthLong(bufferedLength);
+            }
+        }
+
+        OutputStream rawOutputStream() throws IOException {
+            return super.getOutputStream();
+        }
+    }
+
+    private enum Mode { BUFFERING, COMPRESSING, PASS_THROUGH }
+
+    /**
+     * 결정 전 버퍼링 / gzip / 그대로 전달 3단계 출력 스트림
+     * - 비동기 응답에서는 요청 스레드와 작업 스레드가 번갈아 쓸 수 있어 메서드를 잠금으로 보호 (경합 없는 잠금)
+     * - 잠금 안에서 소켓 쓰기가 일어나므로 synchronized 대신 ReentrantLock (가상 스레드가 캐리어에 고정되지 않음)
+     */
+    private final class CompressingOutputStream extends ServletOutputStream {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final CompressingResponseWrapper response;
+        private Mode mode = Mode.BUFFERING;
+        private byte[] buffer;
+        private int count;
+        private PooledGzipOutputStream gzip;
+        private boolean gzipFinished;
+        private OutputStream target;
+
+        CompressingOutputStream(CompressingResponseWrapper response) {
+            this.response = response;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            lock.lock();
+            try {
+                if (mode == Mode.BUFFERING && count < minResponseSize) {
+                    buffer()[count++] = (byte) b;
+                    return;
+                }
+                write(new byte[]{(byte) b}, 0, 1);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            lock.lock();
+            try {
+                if (mode == Mode.BUFFERING) {
+                    if (count + len <= minResponseSize) {
+                        System.arraycopy(b, off, buffer(), count, len);
+                        count += len;
+                        return;
+                    }
+                    decide(true);
+                }
+                target.write(b, off, len);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            lock.lock();
+            try {
+                if (mode == Mode.BUFFERING) {
+                    // 동기 응답의 flush 는 결정을 미룸 (Jackson 이 본문 끝에 flush 를 호출), 비동기 응답은 바로 내보냄
+                    if (!response.isAsyncStarted()) {
+                        return;
+                    }
+                    decide(false);
+                }
+                target.flush();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void finish() throws IOException {
+            lock.lock();
+            try {
+                if (mode == Mode.BUFFERING) {
+                    if (response.isAsyncStarted()) {
+                        // 본문은 작업 스레드가 이어서 씀 - 모아 둔 부분만 내보내고 이후는 그대로 전달
+                        decide(false);
+                        return;
+                    }
+                    // 본문 전체가 버퍼 안에 있으므로 길이를 알 수 있음
+                    mode = Mode.PASS_THROUGH;
+                    response.applyContentLength(count);
+                    target = response.rawOutputStream();
+                    if (count > 0) {
+                        target.write(buffer, 0, count);
+                    }
+                    return;
+                }
+                if (mode == Mode.COMPRESSING) {
+                    if (response.isAsyncStarted()) {
+                        // 압축 중에 비동기로 넘어간 응답 - 작업 스레드가 이어서 쓰고, 비동기 종료 시점에 마무리
+                        response.addAsyncListener(new AsyncCompletionListener());
+                        return;
+                    }
+                    finishGzip();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /** gzip 트레일러 기록 후 Deflater 반납 (한 번만) */
+        private void finishGzip() throws IOException {
+            lock.lock();
+            try {
+                if (gzipFinished) {
+                    return;
+                }
+                gzipFinished = true;
+                gzip.finish();
+                originalBytes.increment(gzip.getOriginalBytes());
+                compressedBytes.increment(gzip.getCompressedBytes());
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void abort() {
+            lock.lock();
+            try {
+                if (gzip != null) {
+                    gzip.release();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /** overflow: 버퍼가 넘쳐서 결정하는 경우 (압축 후보) */
+        private void decide(boolean overflow) throws IOException {
+            if (overflow && response.shouldCompress()) {
+                mode = Mode.COMPRESSING;
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                gzip = new PooledGzipOutputStream(response.rawOutputStream(), deflaterPool, true);
+                target = gzip;
+            } else {
+                mode = Mode.PASS_THROUGH;
+                response.applyContentLength(-1);
+                target = response.rawOutputStream();
+            }
+            if (count > 0) {
+                target.write(buffer, 0, count);
+            }
+            buffer = null;
+            count = 0;
+        }
+
+        private byte[] buffer() {
+            if (buffer == null) {
+                buffer = new byte[minResponseSize];
+            }
+            return buffer;
+        }
+
+        /** 비동기 완료 시 트레일러 기록, 오류 시 트레일러 없이 반납 (타임아웃은 이후 완료/오류로 이어짐) */
+        private final class AsyncCompletionListener implements AsyncListener {
+
+            @Override
+            public void onComplete(AsyncEvent event) throws IOException {
+                finishGzip();
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                abort();
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+                // 비동기를 다시 시작하면 리스너가 해제되므로 다시 등록
+                event.getAsyncContext().addListener(this);
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            lock.lock();
+            try {
+                // 버퍼링/압축 중에는 메모리에 쓰므로 항상 가능, 그대로 전달 중이면 원래 스트림 상태
+                return mode != Mode.PASS_THROUGH || !(target instanceof ServletOutputStream raw) || raw.isReady();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 비동기(non-blocking) 쓰기 - 압축하지 않고 원래 스트림으로 전달 (모아 둔 부분을 먼저 내보낸 뒤 리스너 등록)
+         * @throws IllegalStateException 비동기 모드가 아니거나 이미 압축을 시작한 경우 (Servlet 규약)
+         */
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            lock.lock();
+            try {
+                if (!response.isAsyncStarted()) {
+                    throw new IllegalStateException("비동기 모드가 아닌 요청에는 WriteListener 를 설정할 수 없습니다.");
+                }
+                if (mode == Mode.COMPRESSING) {
+                    throw new IllegalStateException("압축을 시작한 응답에는 WriteListener 를 설정할 수 없습니다.");
+                }
+                if (mode == Mode.BUFFERING) {
+                    decide(false);
+                }
+                ((ServletOutputStream) target).setWriteListener(writeListener);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package plant.com.cmm.dao;
 
+import org.apache.ibatis.session.ResultHandler;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
@@ -52,6 +53,17 @@ public class AbstractDAO {
     public <T> List<T> selectList(String queryId, Object parameter) {
         return sqlSession.selectList(queryId, parameter);
     }
+
+    /**
+     * 다중 레코드를 한 행씩 ResultHandler로 전달합니다. (목록을 메모리에 쌓지 않음)
+     * 대용량 내보내기 등 스트리밍 처리에 사용합니다.
+     * @param queryId XML에 정의된 쿼리 ID
+     * @param parameter 쿼리에 전달할 파라미터
+     * @param handler 행 단위 처리 핸들러
+     */
+    public <T> void select(String queryId, Object parameter, ResultHandler<T> handler) {
+        sqlSession.select(queryId, parameter, handler);
+    }
  
     /**
      * 데이터를 삽입합니다.
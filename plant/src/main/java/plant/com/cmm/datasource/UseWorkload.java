@@ -0,0 +1,22 @@
+package plant.com.cmm.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 서비스 메서드가 사용할 커넥션 풀(작업 유형)을 지정하는 어노테이션입니다.
+/**
+ * 커넥션 풀 지정
+ * - 클래스에 붙이면 모든 public 메서드, 메서드에 붙이면 해당 메서드 (메서드가 우선)
+ * - WorkloadDataSourceAspect 가 @Transactional 보다 먼저 적용되어 트랜잭션 시작 전에 풀을 정함
+ * - 이미 트랜잭션이 진행 중이면 바깥 트랜잭션의 풀을 그대로 사용 (지정 무시)
+ */
+@Documented
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface UseWorkload {
+
+    Workload value();
+}
@@ -0,0 +1,20 @@
+package plant.com.cmm.datasource;
+
+// DB 커넥션 풀을 나누는 작업 유형입니다.
+/**
+ * 작업 유형별 커넥션 풀
+ * - OLTP: 기본 (로그인, 설정, 창고 등 짧은 조회/변경)
+ * - INGEST: 장비 추론 결과 저장 - 대시보드 조회가 풀을 다 써도 수집이 멈추지 않도록 분리
+ * - ANALYTICS: 대시보드 집계, 로그 내보내기 등 오래 걸리는 읽기 (읽기 전용 커넥션)
+ */
+public enum Workload {
+
+    OLTP,
+    INGEST,
+    ANALYTICS;
+
+    /** 설정 키/풀 이름에 쓰는 소문자 이름 (db.pool.<key>.*) */
+    public String key() {
+        return name().toLowerCase();
+    }
+}
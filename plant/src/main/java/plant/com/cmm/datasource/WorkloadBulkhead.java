@@ -0,0 +1,75 @@
+package plant.com.cmm.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import plant.com.cmm.exception.TooManyRequestsException;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// 작업 유형별로 DB 를 쓰는 서비스 호출의 동시 실행 수를 제한하는 컴포넌트입니다.
+/**
+ * 작업 유형별 동시 실행 제한 (bulkhead)
+ * - db.pool.<유형>.bulkhead-permits 개까지만 동시에 실행, 지정이 없거나 0 이하면 제한 없음
+ * - 초과 호출은 커넥션을 잡기 전에 bulkhead-timeout-ms(기본 30초) 동안 순서대로 대기, 넘기면 429 로 거절
+ * - 가상 스레드 모드처럼 요청 스레드 수가 동시 사용량을 막아 주지 않을 때 풀 대기 시간 초과 대신 여기서 줄을 세움
+ * - db.bulkhead.waiting (대기 중 호출 수), db.bulkhead.rejected (거절 건수) 메트릭, pool 태그 = 유형
+ */
+@Component
+public class WorkloadBulkhead {
+
+    private final Map<Workload, Semaphore> permits = new EnumMap<>(Workload.class);
+    private final Map<Workload, Long> timeoutMillis = new EnumMap<>(Workload.class);
+    private final Map<Workload, Counter> rejectedCounters = new EnumMap<>(Workload.class);
+
+    public WorkloadBulkhead(Environment environment, MeterRegistry meterRegistry) {
+        for (Workload workload : Workload.values()) {
+            String prefix = "db.pool." + workload.key() + ".";
+            int size = environment.getProperty(prefix + "bulkhead-permits", Integer.class, 0);
+            if (size <= 0) {
+                continue;
+            }
+            Semaphore semaphore = new Semaphore(size, true);
+            permits.put(workload, semaphore);
+            timeoutMillis.put(workload, environment.getProperty(prefix + "bulkhead-timeout-ms", Long.class, 30000L));
+            rejectedCounters.put(workload, Counter.builder("db.bulkhead.rejected")
+                    .description("대기 시간 초과로 거절된 DB 호출 건수")
+                    .tag("pool", workload.key())
+                    .register(meterRegistry));
+            Gauge.builder("db.bulkhead.waiting", semaphore, Semaphore::getQueueLength)
+                    .description("동시 실행 제한으로 대기 중인 DB 호출 수")
+                    .tag("pool", workload.key())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 실행 허가를 얻을 때까지 대기
+     * @return 허가를 얻었으면 true (호출이 끝나면 release), 제한이 없는 유형이면 false
+     * @throws TooManyRequestsException 제한 시간 안에 허가를 얻지 못한 경우
+     */
+    public boolean acquire(Workload workload) {
+        Semaphore semaphore = permits.get(workload);
+        if (semaphore == null) {
+            return false;
+        }
+        try {
+            if (semaphore.tryAcquire(timeoutMillis.get(workload), TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejectedCounters.get(workload).increment();
+        throw new TooManyRequestsException("DB_BUSY", "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.", 1);
+    }
+
+    public void release(Workload workload) {
+        permits.get(workload).release();
+    }
+}
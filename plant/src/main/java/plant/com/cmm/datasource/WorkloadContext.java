@@ -0,0 +1,39 @@
+package plant.com.cmm.datasource;
+
+// 현재 스레드가 사용할 커넥션 풀(작업 유형)을 보관하는 클래스입니다.
+/**
+ * 스레드별 작업 유형 - 지정이 없으면 OLTP
+ * - set 은 이전 값을 돌려주므로 호출한 쪽에서 restore 로 되돌림 (중첩 호출 대비)
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    public static Workload current() {
+        Workload workload = CURRENT.get();
+        return workload != null ? workload : Workload.OLTP;
+    }
+
+    /** @UseWorkload 호출 안에서 이미 지정되었는지 (기본값 OLTP 와 구분) */
+    public static boolean isAssigned() {
+        return CURRENT.get() != null;
+    }
+
+    /** @return 이전 값 (지정이 없었으면 null) */
+    public static Workload set(Workload workload) {
+        Workload previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+
+    public static void restore(Workload previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package plant.com.cmm.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// @UseWorkload 가 붙은 서비스 호출 동안 커넥션 풀(작업 유형)을 지정하는 AOP 클래스입니다.
+/**
+ * 작업 유형 지정 애스펙트
+ * - 트랜잭션 어드바이스보다 바깥에서 실행되도록 가장 높은 우선순위로 둠
+ * - 트랜잭션이 이미 진행 중이면 커넥션이 정해져 있을 수 있으므로 바꾸지 않음
+ * - 호출이 끝나면 이전 값으로 복원
+ * - 가장 바깥 호출만 WorkloadBulkhead 의 동시 실행 제한을 받음 (중첩 호출이 허가를 두 번 잡아 멈추지 않도록)
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class WorkloadDataSourceAspect {
+
+    private final WorkloadBulkhead bulkhead;
+
+    public WorkloadDataSourceAspect(WorkloadBulkhead bulkhead) {
+        this.bulkhead = bulkhead;
+    }
+
+    @Around("@within(plant.com.cmm.datasource.UseWorkload) || @annotation(plant.com.cmm.datasource.UseWorkload)")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        UseWorkload useWorkload = resolve(joinPoint);
+        if (useWorkload == null) {
+            return joinPoint.proceed();
+        }
+        Workload workload = useWorkload.value();
+        boolean acquired = !WorkloadContext.isAssigned() && bulkhead.acquire(workload);
+        Workload previous = WorkloadContext.set(workload);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            WorkloadContext.restore(previous);
+            if (acquired) {
+                bulkhead.release(workload);
+            }
+        }
+    }
+
+    private static UseWorkload resolve(ProceedingJoinPoint joinPoint) {
+        Class<?> targetClass = AopUtils.getTargetClass(joinPoint.getTarget());
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        UseWorkload annotation = AnnotatedElementUtils.findMergedAnnotation(
+                AopUtils.getMostSpecificMethod(signature.getMethod(), targetClass), UseWorkload.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(targetClass, UseWorkload.class);
+        }
+        return annotation;
+    }
+}
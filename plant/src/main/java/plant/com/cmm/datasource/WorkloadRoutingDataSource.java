@@ -0,0 +1,47 @@
+package plant.com.cmm.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.io.Closeable;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+// 작업 유형(WorkloadContext)에 따라 커넥션 풀을 고르는 DataSource 입니다.
+/**
+ * 작업 유형별 라우팅 DataSource
+ * - 커넥션을 얻는 시점의 WorkloadContext 로 풀을 선택, 지정이 없으면 OLTP 풀
+ * - LazyConnectionDataSourceProxy 로 감싸서 사용 (트랜잭션 시작이 아니라 첫 SQL 실행 시점에 커넥션을 얻음)
+ * - 빈 종료 시 모든 풀을 닫음
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    private final Map<Workload, HikariDataSource> pools;
+
+    public WorkloadRoutingDataSource(Map<Workload, HikariDataSource> pools) {
+        if (!pools.containsKey(Workload.OLTP)) {
+            throw new IllegalArgumentException("OLTP 커넥션 풀이 없습니다.");
+        }
+        this.pools = new EnumMap<>(pools);
+        setTargetDataSources(new HashMap<>(this.pools));
+        setDefaultTargetDataSource(this.pools.get(Workload.OLTP));
+        // 등록하지 않은 유형은 기본(OLTP) 풀 사용
+        setLenientFallback(true);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return WorkloadContext.current();
+    }
+
+    public HikariDataSource getPool(Workload workload) {
+        return pools.getOrDefault(workload, pools.get(Workload.OLTP));
+    }
+
+    @Override
+    public void close() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
@@ -6,6 +6,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -54,6 +55,29 @@ public class GlobalExceptionHandler {
         return ErrorResponse.toResponseEntity(HttpStatus.NOT_FOUND, "NOT_FOUND", message, request.getRequestURI());
     }
 
+    /**
+     * 요청 한도 초과 또는 처리 용량 부족 (로그인 시도 제한, 비밀번호 검증 대기열 초과)
+     * 스택 트레이스 없이 429 와 Retry-After 헤더로 즉시 응답합니다.
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    protected ResponseEntity<ErrorResponse> handleTooManyRequestsException(TooManyRequestsException ex, HttpServletRequest request) {
+        log.warn("handleTooManyRequestsException: {} {}", ex.getErrorCode(), request.getRequestURI());
+        ResponseEntity<ErrorResponse> response = ErrorResponse.toResponseEntity(HttpStatus.TOO_MANY_REQUESTS, ex.getErrorCode(), ex.getMessage(), request.getRequestURI());
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
+    /**
+     * 다시 로그인이 필요한 경우 (리프레시 토큰 만료/폐기/재사용)
+     * 정상적인 세션 만료이므로 스택 트레이스 없이 401 로 응답합니다. (프론트엔드는 로그인 화면으로 이동)
+     */
+    @ExceptionHandler(UnauthorizedException.class)
+    protected ResponseEntity<ErrorResponse> handleUnauthorizedException(UnauthorizedException ex, HttpServletRequest request) {
+        log.warn("handleUnauthorizedException: {} {}", ex.getErrorCode(), request.getRequestURI());
+        return ErrorResponse.toResponseEntity(HttpStatus.UNAUTHORIZED, ex.getErrorCode(), ex.getMessage(), request.getRequestURI());
+    }
+
     /**
      * Spring Security: 인증된 사용자가 권한이 없는 리소스에 접근 시
      */
@@ -0,0 +1,14 @@
+// 요청 한도 초과/처리 용량 부족으로 즉시 거절할 때 사용하는 예외 클래스입니다. (429 + Retry-After)
+package plant.com.cmm.exception;
+
+import lombok.Getter;
+
+@Getter
+public class TooManyRequestsException extends CustomException {
+    private final long retryAfterSeconds; // Retry-After 헤더 값
+
+    public TooManyRequestsException(String errorCode, String message, long retryAfterSeconds) {
+        super(errorCode, message);
+        this.retryAfterSeconds = Math.max(retryAfterSeconds, 1);
+    }
+}
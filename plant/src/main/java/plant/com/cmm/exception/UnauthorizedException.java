@@ -0,0 +1,9 @@
+// 인증 정보가 없거나 만료/폐기되어 다시 로그인해야 할 때 사용하는 예외 클래스입니다. (401)
+package plant.com.cmm.exception;
+
+public class UnauthorizedException extends CustomException {
+
+    public UnauthorizedException(String errorCode, String message) {
+        super(errorCode, message);
+    }
+}
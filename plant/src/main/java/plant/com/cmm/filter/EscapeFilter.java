@@ -4,24 +4,51 @@ package plant.com.cmm.filter;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import plant.com.cmm.xss.XssPolicy;
+import plant.com.cmm.xss.XssPolicyContext;
+import plant.com.cmm.xss.XssPolicyResolver;
 
 import java.io.IOException;
 
+/**
+ * XSS 필터링 정책(XssPolicy)에 따라 요청을 감싸는 필터
+ * - SANITIZE_INPUT: 파라미터 값을 이스케이프한 래퍼로 전달
+ *   JSON 본문은 감싸지 않고 컨버터가 읽으면서 필터링 (본문을 다시 쓰지 않아 한 번만 파싱)
+ *   - DTO / Map / JsonNode: XssPolicyJackson2HttpMessageConverter, @RequestBody String: XssSanitizingStringHttpMessageConverter
+ *   - JSON 이 아닌 본문(text/plain 등)을 String 으로 받는 경우는 필터링하지 않음 (파라미터만 이스케이프)
+ * - SANITIZE_OUTPUT, RAW: 요청을 그대로 전달 (응답 필터링 여부는 컨버터가 요청 속성으로 판단)
+ * 경로별 정책은 XssPolicyResolver 가 미리 컴파일한 패턴으로 결정합니다.
+ */
 @Slf4j
 public class EscapeFilter implements Filter {
 
+    private final XssPolicyResolver policyResolver;
+
+    public EscapeFilter(XssPolicyResolver policyResolver) {
+        this.policyResolver = policyResolver;
+    }
+
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
 
-        log.debug("##### EscapeFilter #####");
         if (request instanceof HttpServletRequest) {
             HttpServletRequest httpRequest = (HttpServletRequest) request;
 
+            XssPolicy.Mode mode = policyResolver.resolve(httpRequest);
+            httpRequest.setAttribute(XssPolicyContext.ATTRIBUTE, mode);
+            if (!mode.sanitizesInput()) {
+                // 입력 필터링 대상이 아니면 래핑 없이 통과 (프레임 업로드 등 수집 경로)
+                chain.doFilter(request, response);
+                return;
+            }
+
+            log.debug("##### EscapeFilter ##### {} {}", httpRequest.getMethod(), httpRequest.getRequestURI());
             String contentType = httpRequest.getContentType();
             boolean isJson = contentType != null && contentType.contains("application/json");
 
             if (isJson) {
-                chain.doFilter(new EscapeRequestWrapper(httpRequest), response);
+                // 본문 문자열 값은 JSON / String 컨버터가 읽으면서 필터링
+                chain.doFilter(request, response);
             } else {
                 // HTML or form 요청
                 chain.doFilter(new EscapeParameterRequestWrapper(httpRequest), response);
@@ -88,11 +88,25 @@ public class EsxapeFilerPattern {
 
     /**
      * 입력 문자열에서 일반적인 XSS 공격 벡터를 제거하거나 이스케이프하여 정리합니다.
+     * 대부분의 문자열은 EsxapeFilerScanner의 단일 스캔으로 처리하고(변경이 없으면 같은 인스턴스 반환),
+     * 스크립트/태그/함수 호출 등 공격 패턴 후보가 있을 때만 아래 정규식 체인을 실행합니다.
+     * 두 경로의 결과는 항상 동일합니다. (EsxapeFilerScannerTest 차등 퍼즈 테스트로 검증)
      *
      * @param cleanedValue 정리할 입력 문자열.
      * @return 정리된 문자열.
      */
     public static String esxapeFilerPattern(String cleanedValue){
+        String scanned = EsxapeFilerScanner.sanitize(cleanedValue);
+        return scanned != null ? scanned : regexEsxapeFilerPattern(cleanedValue);
+    }
+
+    /**
+     * 정규식 22개를 순서대로 적용하는 기존 정화 로직입니다.
+     *
+     * @param cleanedValue 정리할 입력 문자열.
+     * @return 정리된 문자열.
+     */
+    static String regexEsxapeFilerPattern(String cleanedValue){
 
         // 1단계: 컴파일된 정규식을 사용하여 악성 스크립트 요소 제거 또는 대체
         // 이 대체 작업들은 스크립트 주입 시도를 무력화하는 것을 목표로 합니다.
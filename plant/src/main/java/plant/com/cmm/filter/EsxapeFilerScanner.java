@@ -0,0 +1,241 @@
+// XSS 필터링 대상 패턴을 한 번의 스캔으로 처리하는 유틸리티 클래스입니다.
+package plant.com.cmm.filter;
+
+/**
+ * EsxapeFilerPattern 정규식 체인의 단일 스캔 구현입니다.
+ *
+ * <p>정규식 체인 22단계 중 일반 데이터에서 실제로 발생하는 치환은
+ * {@code on[a-z]+\s*=} → " ", {@code href} → "h_ref", {@code style} → "s_tyle" 세 가지뿐입니다.
+ * 이 클래스는 첫 글자로 분기하는 키워드 자동자(automaton)로 문자열을 한 번 훑어</p>
+ * <ul>
+ *     <li>나머지 단계(script/object/applet/embed/form 태그, src="...", eval(, expression(, alert(,
+ *     javascript:, vbscript:)의 시작 후보가 하나라도 있으면 null 을 반환하여 정규식 체인으로 넘기고,</li>
+ *     <li>그렇지 않으면 위 세 가지 치환만 적용합니다. 변경이 없으면 입력 인스턴스를 그대로 반환합니다.</li>
+ * </ul>
+ *
+ * <p>세 치환은 서로 겹치지 않고(href/style 안에는 "o"가 없음) 치환 결과(" ", "h_ref", "s_tyle")가
+ * 다른 패턴을 새로 만들지 않으므로, 정규식을 순서대로 적용한 결과와 동일합니다.
+ * 정규식은 CASE_INSENSITIVE(ASCII 한정)이므로 여기서도 ASCII 대소문자만 무시합니다.</p>
+ *
+ * <p>응답 직렬화(XssSanitizerSerializer)는 findFirstRewrite / rewrite 로 치환 결과를 재사용 버퍼에 기록하여
+ * 중간 String 없이 JsonGenerator 에 전달합니다.</p>
+ */
+public final class EsxapeFilerScanner {
+
+    private EsxapeFilerScanner() {
+    }
+
+    /** findFirstRewrite 결과: 치환할 내용이 없음 */
+    public static final int UNCHANGED = -1;
+    /** findFirstRewrite 결과: 정규식 체인이 필요한 패턴 후보가 있음 */
+    public static final int REGEX_REQUIRED = -2;
+
+    /**
+     * @param value 정리할 문자열
+     * @return 정리된 문자열 (변경이 없으면 value 그대로), 정규식 체인이 필요한 경우 null
+     */
+    public static String sanitize(String value) {
+        int firstRewrite = findFirstRewrite(value);
+        if (firstRewrite == REGEX_REQUIRED) {
+            return null;
+        }
+        if (firstRewrite == UNCHANGED) {
+            return value;
+        }
+        char[] out = new char[maxRewrittenLength(value.length())];
+        return new String(out, 0, rewrite(value, firstRewrite, out));
+    }
+
+    /**
+     * 원본 전체에서 정규식 체인이 필요한 패턴 후보를 확인하고, 단일 스캔 치환 후보의 첫 위치를 찾습니다.
+     *
+     * @param value 정리할 문자열
+     * @return 첫 치환 위치, 치환할 내용이 없으면 UNCHANGED, 정규식 체인이 필요하면 REGEX_REQUIRED
+     */
+    public static int findFirstRewrite(String value) {
+        int length = value.length();
+        int firstRewrite = UNCHANGED;
+
+        for (int i = 0; i < length; i++) {
+            switch (value.charAt(i) | 0x20) {
+                case '<':
+                    if (isTagStart(value, i + 1)) {
+                        return REGEX_REQUIRED;
+                    }
+                    break;
+                case 'e':
+                    if (matchesAt(value, i, "eval(") || matchesAt(value, i, "expression(")) {
+                        return REGEX_REQUIRED;
+                    }
+                    break;
+                case 'a':
+                    if (matchesAt(value, i, "alert(")) {
+                        return REGEX_REQUIRED;
+                    }
+                    break;
+                case 'j':
+                    if (matchesAt(value, i, "javascript:")) {
+                        return REGEX_REQUIRED;
+                    }
+                    break;
+                case 'v':
+                    if (matchesAt(value, i, "vbscript:")) {
+                        return REGEX_REQUIRED;
+                    }
+                    break;
+                case 's':
+                    if (isSrcAttribute(value, i)) {
+                        return REGEX_REQUIRED;
+                    }
+                    if (firstRewrite < 0 && matchesAt(value, i, "style")) {
+                        firstRewrite = i;
+                    }
+                    break;
+                case 'h':
+                    if (firstRewrite < 0 && matchesAt(value, i, "href")) {
+                        firstRewrite = i;
+                    }
+                    break;
+                case 'o':
+                    if (firstRewrite < 0 && eventHandlerEnd(value, i) > 0) {
+                        firstRewrite = i;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        return firstRewrite;
+    }
+
+    /**
+     * rewrite 결과가 들어갈 버퍼 크기 (href → h_ref, style → s_tyle 은 4~5자마다 1자 증가, on이벤트= 는 감소)
+     */
+    public static int maxRewrittenLength(int length) {
+        return length + (length >> 2) + 1;
+    }
+
+    /**
+     * findFirstRewrite 가 찾은 위치부터 on이벤트= / href / style 치환 결과를 out 에 기록합니다.
+     *
+     * @param value          정리할 문자열 (findFirstRewrite 결과가 0 이상인 문자열)
+     * @param firstRewrite findFirstRewrite 결과
+     * @param out            maxRewrittenLength(value.length()) 이상 크기의 버퍼
+     * @return 기록한 길이
+     */
+    public static int rewrite(String value, int firstRewrite, char[] out) {
+        int length = value.length();
+        value.getChars(0, firstRewrite, out, 0);
+        int written = firstRewrite;
+        int i = firstRewrite;
+        while (i < length) {
+            char c = value.charAt(i);
+            char lower = (char) (c | 0x20);
+            if (lower == 'o') {
+                int end = eventHandlerEnd(value, i);
+                if (end > 0) {
+                    out[written++] = ' ';
+                    i = end;
+                    continue;
+                }
+            } else if (lower == 'h' && matchesAt(value, i, "href")) {
+                written = append(out, written, "h_ref");
+                i += 4;
+                continue;
+            } else if (lower == 's' && matchesAt(value, i, "style")) {
+                written = append(out, written, "s_tyle");
+                i += 5;
+                continue;
+            }
+            out[written++] = c;
+            i++;
+        }
+        return written;
+    }
+
+    private static int append(char[] out, int offset, String replacement) {
+        replacement.getChars(0, replacement.length(), out, offset);
+        return offset + replacement.length();
+    }
+
+    /** {@code on[a-z]+\s*=} 가 i에서 시작하면 끝 위치(= 다음), 아니면 -1 */
+    private static int eventHandlerEnd(String value, int i) {
+        int length = value.length();
+        if (i + 2 >= length || (value.charAt(i + 1) | 0x20) != 'n') {
+            return -1;
+        }
+        int j = i + 2;
+        while (j < length && isAsciiLetter(value.charAt(j))) {
+            j++;
+        }
+        if (j == i + 2) {
+            return -1;
+        }
+        while (j < length && isRegexSpace(value.charAt(j))) {
+            j++;
+        }
+        return j < length && value.charAt(j) == '=' ? j + 1 : -1;
+    }
+
+    /** '<' 다음이 script/object/applet/embed/form (또는 / 로 시작하는 닫는 태그)인지 */
+    private static boolean isTagStart(String value, int i) {
+        if (i < value.length() && value.charAt(i) == '/') {
+            i++;
+        }
+        return matchesAt(value, i, "script")
+                || matchesAt(value, i, "object")
+                || matchesAt(value, i, "applet")
+                || matchesAt(value, i, "embed")
+                || matchesAt(value, i, "form");
+    }
+
+    /** {@code src[\r\n]*=[\r\n]*"} 로 시작하는지 (닫는 따옴표 여부와 관계없이 정규식 체인으로 위임) */
+    private static boolean isSrcAttribute(String value, int i) {
+        if (!matchesAt(value, i, "src")) {
+            return false;
+        }
+        int length = value.length();
+        int j = i + 3;
+        while (j < length && isLineBreak(value.charAt(j))) {
+            j++;
+        }
+        if (j >= length || value.charAt(j) != '=') {
+            return false;
+        }
+        j++;
+        while (j < length && isLineBreak(value.charAt(j))) {
+            j++;
+        }
+        return j < length && value.charAt(j) == '"';
+    }
+
+    /** ASCII 대소문자만 무시하고 literal(소문자)과 비교 */
+    private static boolean matchesAt(String value, int offset, String literal) {
+        int count = literal.length();
+        if (offset < 0 || offset + count > value.length()) {
+            return false;
+        }
+        for (int k = 0; k < count; k++) {
+            char c = value.charAt(offset + k);
+            char l = literal.charAt(k);
+            if (c != l && (l < 'a' || l > 'z' || (c | 0x20) != l)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        char lower = (char) (c | 0x20);
+        return lower >= 'a' && lower <= 'z';
+    }
+
+    /** 정규식 \s (UNICODE_CHARACTER_CLASS 미사용): [ \t\n\x0B\f\r] */
+    private static boolean isRegexSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+
+    private static boolean isLineBreak(char c) {
+        return c == '\r' || c == '\n';
+    }
+}
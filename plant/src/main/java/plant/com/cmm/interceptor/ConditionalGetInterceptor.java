@@ -0,0 +1,74 @@
+package plant.com.cmm.interceptor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import plant.com.cmm.web.ConditionalGet;
+import plant.com.cmm.web.ResourceVersionRegistry;
+import plant.com.cmm.web.ResourceVersionRegistry.VersionStamp;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+// @ConditionalGet 이 붙은 조회 API 의 조건부 요청(If-None-Match / If-Modified-Since)을 처리하는 인터셉터입니다.
+/**
+ * 조건부 GET 인터셉터
+ * - GET/HEAD 만 처리, 서비스(컨트롤러) 호출 전에 버전을 비교해 같으면 304 (본문 없음) 로 종료
+ * - 다르면 ETag(약한 비교, W/) / Last-Modified / Cache-Control: no-cache, private 를 붙이고 그대로 진행
+ * - no-cache: 브라우저가 캐시한 응답도 매번 재검증 (Last-Modified 기반 휴리스틱 캐시로 오래된 값을 쓰지 않도록)
+ * - 304 건수는 http.conditional.not_modified (resource 태그) 로 기록
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private final ResourceVersionRegistry resourceVersionRegistry;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        ConditionalGet conditionalGet = handlerMethod.getMethodAnnotation(ConditionalGet.class);
+        if (conditionalGet == null || !("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod()))) {
+            return true;
+        }
+        VersionStamp stamp = resourceVersionRegistry.stamp(conditionalGet.value(), request);
+        if (stamp == null) {
+            return true;
+        }
+        String tag = stamp.tag();
+        long lastModified = stamp.lastModifiedMillis();
+        if (conditionalGet.daily()) {
+            LocalDate today = LocalDate.now();
+            tag = tag + "." + today;
+            lastModified = Math.max(lastModified, today.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        String etag = "W/\"" + tag + "\"";
+        boolean notModified = lastModified > 0
+                ? webRequest.checkNotModified(etag, lastModified)
+                : webRequest.checkNotModified(etag);
+        if (notModified) {
+            Counter.builder("http.conditional.not_modified")
+                    .description("조건부 GET 으로 본문 없이 304 응답한 건수")
+                    .tag("resource", conditionalGet.value())
+                    .register(meterRegistry)
+                    .increment();
+            return false;
+        }
+        return true;
+    }
+}
@@ -1,25 +1,76 @@
 package plant.com.cmm.interceptor;
 
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.annotation.Pointcut;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.PathContainer;
 import org.springframework.stereotype.Component;
+import org.springframework.ui.Model;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
-import java.util.Arrays;
-import java.util.Enumeration;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 // 컨트롤러의 요청 및 응답 정보를 로깅하는 AOP 클래스입니다.
+/**
+ * 요청 1건당 구조화된 로그 이벤트 1건을 남깁니다. (method, uri, handler, status, durationMs, ip, args, result)
+ * - 표본 추출: 정상 응답은 request.log.success-sample-rate, 오류(예외/4xx/5xx)는 request.log.error-sample-rate,
+ *   request.log.slow-threshold-ms 이상 걸린 요청은 항상 기록
+ * - 기록하지 않는 요청은 인자/응답을 문자열로 만들지 않음
+ * - 인자는 request.log.max-arg-length 자로 자르고 password 값은 마스킹, 응답은 타입/건수만 기록
+ * - request.log.exclude-paths 경로는 기록하지 않음 (시작 시 PathPattern 으로 컴파일)
+ * - 출력은 logback-spring.xml 의 비동기 appender(ASYNC_REQUEST)를 통해 요청 스레드와 분리
+ */
 @Slf4j // Lombok을 사용하여 로거 자동 생성
 @Aspect // 이 클래스가 AOP 애스펙트임을 선언
 @Component // Spring 빈으로 등록하여 컨테이너가 관리하도록 함
 public class RequestLoggingAspect {
 
+    private final boolean enabled;
+    private final double successSampleRate;
+    private final double errorSampleRate;
+    private final long slowThresholdNanos;
+    private final int maxArgLength;
+    private final List<PathPattern> excludePatterns;
+
+    public RequestLoggingAspect(@Value("${request.log.enabled:true}") boolean enabled,
+                                @Value("${request.log.success-sample-rate:0.01}") double successSampleRate,
+                                @Value("${request.log.error-sample-rate:1.0}") double errorSampleRate,
+                                @Value("${request.log.slow-threshold-ms:1000}") long slowThresholdMs,
+                                @Value("${request.log.max-arg-length:256}") int maxArgLength,
+                                @Value("${request.log.exclude-paths:}") String[] excludePaths) {
+        this.enabled = enabled;
+        this.successSampleRate = successSampleRate;
+        this.errorSampleRate = errorSampleRate;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+        this.maxArgLength = maxArgLength;
+        List<PathPattern> patterns = new ArrayList<>();
+        for (String path : excludePaths) {
+            if (!path.isBlank()) {
+                patterns.add(PathPatternParser.defaultInstance.parse(path.trim()));
+            }
+        }
+        this.excludePatterns = List.copyOf(patterns);
+    }
+
     /**
      * 포인트컷 정의: @RestController 또는 @Controller 어노테이션이 붙은 클래스의
      * 모든 public 메서드를 대상으로 합니다.
@@ -31,74 +82,271 @@ public class RequestLoggingAspect {
     }
 
     /**
-     * `@Before` 어드바이스: 컨트롤러 메서드 실행 **전**에 요청 정보를 로깅합니다.
+     * `@Around` 어드바이스: 컨트롤러 메서드 실행 시간을 측정하고, 표본으로 선택된 요청만 한 줄로 기록합니다.
      *
      * @param joinPoint 현재 실행될 조인 포인트(컨트롤러 메서드)에 대한 정보
+     * @return 컨트롤러 메서드의 반환값
      */
-    @Before("controllerMethods()")
-    public void logRequestEntry(JoinPoint joinPoint) {
-        // 현재 HTTP 요청 객체 가져오기 (웹 요청이 아닐 경우 null 반환 가능)
+    @Around("controllerMethods()")
+    public Object logRequest(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!enabled || !log.isInfoEnabled()) {
+            return joinPoint.proceed();
+        }
         ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-        HttpServletRequest request = null;
+        HttpServletRequest request = attributes != null ? attributes.getRequest() : null;
+        if (request != null && isExcluded(request)) {
+            return joinPoint.proceed();
+        }
+
+        long start = System.nanoTime();
+        Object result = null;
+        Throwable failure = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable t) {
+            failure = t;
+            throw t;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            int status = resolveStatus(result, failure, attributes);
+            boolean error = failure != null || status >= 400;
+            if (isSampled(error, elapsed)) {
+                writeEvent(joinPoint, request, status, elapsed, result, failure);
+            }
+        }
+    }
 
-        if (attributes != null) {
-            request = attributes.getRequest();
+    private boolean isExcluded(HttpServletRequest request) {
+        if (excludePatterns.isEmpty()) {
+            return false;
         }
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        PathContainer path = PathContainer.parsePath(contextPath.isEmpty() ? uri : uri.substring(contextPath.length()));
+        for (PathPattern pattern : excludePatterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        log.info("============== Controller 요청 시작 ==============");
-        log.info("요청된 메서드: {}", joinPoint.getSignature().toShortString()); // 호출될 메서드의 이름 (클래스명.메서드명)
+    private boolean isSampled(boolean error, long elapsedNanos) {
+        if (elapsedNanos >= slowThresholdNanos) {
+            return true;
+        }
+        double rate = error ? errorSampleRate : successSampleRate;
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
 
+    /** ResponseEntity 상태 > 응답 객체 상태 순으로 결정, 예외는 500 으로 기록 (실제 상태는 예외 처리기가 결정) */
+    private static int resolveStatus(Object result, Throwable failure, ServletRequestAttributes attributes) {
+        if (failure != null) {
+            return 500;
+        }
+        if (result instanceof ResponseEntity<?> entity) {
+            return entity.getStatusCode().value();
+        }
+        HttpServletResponse response = attributes != null ? attributes.getResponse() : null;
+        return response != null ? response.getStatus() : 200;
+    }
+
+    private void writeEvent(ProceedingJoinPoint joinPoint, HttpServletRequest request, int status,
+                            long elapsedNanos, Object result, Throwable failure) {
+        LoggingEventBuilder event = failure != null || status >= 500 ? log.atWarn() : log.atInfo();
+        event = event.setMessage("request");
         if (request != null) {
-            log.info("요청 URL: {}", request.getRequestURL());
-            log.info("HTTP 메서드: {}", request.getMethod());
-            log.info("클라이언트 IP: {}", request.getRemoteAddr());
-
-            // 요청 헤더 로깅 (선택 사항)
-            log.info("--- 요청 헤더 ---");
-            Enumeration<String> headerNames = request.getHeaderNames();
-            while (headerNames.hasMoreElements()) {
-                String headerName = headerNames.nextElement();
-                log.info("{}: {}", headerName, request.getHeader(headerName));
-            }
+            event = event.addKeyValue("method", request.getMethod())
+                    .addKeyValue("uri", request.getRequestURI())
+                    .addKeyValue("ip", request.getRemoteAddr());
+        }
+        event = event.addKeyValue("handler", joinPoint.getSignature().toShortString())
+                .addKeyValue("status", status)
+                .addKeyValue("durationMs", TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .addKeyValue("args", renderArgs(joinPoint.getArgs()));
+        if (failure != null) {
+            event = event.addKeyValue("error", failure.getClass().getSimpleName() + ": " + truncate(failure.getMessage()));
+        } else {
+            event = event.addKeyValue("result", describeResult(result));
+        }
+        event.log();
+    }
 
-            // 요청 파라미터 로깅 (GET 요청 등)
-            if (request.getParameterMap() != null && !request.getParameterMap().isEmpty()) {
-                log.info("--- 요청 파라미터 ---");
-                request.getParameterMap().forEach((key, value) ->
-                        log.info("{}: {}", key, Arrays.toString(value))
-                );
+    /** 메서드 인자 요약 (@RequestBody 포함) - 인자당 maxArgLength 자, 요청/응답/Model 객체는 타입만 */
+    private String renderArgs(Object[] args) {
+        if (args == null || args.length == 0) {
+            return "[]";
+        }
+        StringBuilder sb = new StringBuilder(64).append('[');
+        for (int i = 0; i < args.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            Object arg = args[i];
+            if (arg == null) {
+                sb.append("null");
+            } else if (arg instanceof MultipartFile file) {
+                sb.append("MultipartFile(").append(file.getOriginalFilename()).append(", ").append(file.getSize()).append("B)");
+            } else if (arg instanceof ServletRequest || arg instanceof ServletResponse || arg instanceof Model) {
+                sb.append(arg.getClass().getSimpleName());
+            } else if (arg instanceof Collection<?> || arg instanceof Map<?, ?> || arg.getClass().isArray()) {
+                sb.append(describeResult(arg));
+            } else {
+                // 경고: 민감한 정보(예: 비밀번호)는 마스킹 후 기록
+                sb.append(truncate(maskPassword(String.valueOf(arg))));
             }
         }
+        return sb.append(']').toString();
+    }
+
+    /** 응답 본문은 문자열로 만들지 않고 타입/건수만 기록 (/api/logs 등 대용량 응답) */
+    private static String describeResult(Object result) {
+        if (result == null) {
+            return "null";
+        }
+        if (result instanceof ResponseEntity<?> entity) {
+            return "ResponseEntity<" + describeResult(entity.getBody()) + ">";
+        }
+        if (result instanceof Collection<?> collection) {
+            return result.getClass().getSimpleName() + "(size=" + collection.size() + ")";
+        }
+        if (result instanceof Map<?, ?> map) {
+            return result.getClass().getSimpleName() + "(size=" + map.size() + ")";
+        }
+        if (result.getClass().isArray()) {
+            return result.getClass().getComponentType().getSimpleName() + "[" + Array.getLength(result) + "]";
+        }
+        if (result instanceof CharSequence text) {
+            return "String(length=" + text.length() + ")";
+        }
+        return result.getClass().getSimpleName();
+    }
 
-        // 메서드에 전달된 인자 로깅 (@RequestBody 데이터 포함)
-        Object[] args = joinPoint.getArgs();
-        if (args != null && args.length > 0) {
-            log.info("--- 메서드 인자 ---");
-            for (int i = 0; i < args.length; i++) {
-                // 경고: 민감한 정보(예: 비밀번호, 주민등록번호)는 로그에 남기지 않도록 주의!
-                // 필요시 마스킹 로직 추가 (e.g., args[i] instanceof String && "password".equalsIgnoreCase(joinPoint.getSignature().getName()) ? "***" : args[i])
-                log.info("인자 #{}: {}", i, args[i]);
+    private String truncate(String value) {
+        if (value == null || value.length() <= maxArgLength) {
+            return value;
+        }
+        return value.substring(0, maxArgLength) + "...(" + value.length() + ")";
+    }
+
+    // 키 이름에 포함되면 값을 마스킹하는 단어 (대소문자 무시, newPassword / passwordConfirm / userPswr 등)
+    private static final String[] SENSITIVE_KEYS = {"password", "pwd", "pswr"};
+
+    /** toString 결과의 키=값 / "키":"값" 형태에서 키 이름에 password/pwd/pswr 가 포함되면 값을 *** 로 치환 */
+    static String maskPassword(String value) {
+        if (!containsSensitiveKey(value, 0, value.length())) {
+            return value;
+        }
+        StringBuilder sb = new StringBuilder(value.length());
+        int copied = 0;
+        int i = 0;
+        while (i < value.length()) {
+            char c = value.charAt(i);
+            if (c != '=' && c != ':') {
+                i++;
+                continue;
             }
+            // 구분자 앞의 키 이름 범위 (따옴표/공백 제외)
+            int keyEnd = i;
+            while (keyEnd > copied && (value.charAt(keyEnd - 1) == '"' || value.charAt(keyEnd - 1) == ' ')) {
+                keyEnd--;
+            }
+            int keyStart = keyEnd;
+            while (keyStart > copied && isKeyChar(value.charAt(keyStart - 1))) {
+                keyStart--;
+            }
+            if (keyStart == keyEnd || !containsSensitiveKey(value, keyStart, keyEnd)) {
+                i++;
+                continue;
+            }
+            int valueEnd = valueEnd(value, i + 1, c);
+            sb.append(value, copied, i + 1).append("***");
+            copied = valueEnd;
+            i = valueEnd;
         }
-        log.info("-------------------------------------------------");
+        return sb.append(value, copied, value.length()).toString();
     }
 
     /**
-     * `@AfterReturning` 어드바이스: 컨트롤러 메서드가 성공적으로 실행되어 값을 반환한 **후**에 응답 값을 로깅합니다.
-     * 이 어드바이스는 예외가 발생하지 않고 메서드가 정상적으로 완료되었을 때만 실행됩니다.
-     *
-     * @param joinPoint 현재 실행된 조인 포인트(컨트롤러 메서드)에 대한 정보
-     * @param result    컨트롤러 메서드가 반환한 객체 (클라이언트로 전송될 최종 응답 데이터)
+     * 마스킹할 값의 끝 위치 (값에 쉼표/괄호가 들어 있어도 일부가 남지 않도록)
+     * - "..." 로 감싼 값: 닫는 따옴표까지
+     * - 그 외: 다음 ", 키=" (JSON 이면 ", 키:") 경계까지, 없으면 인자 끝의 닫는 괄호 앞까지
      */
-    @AfterReturning(pointcut = "controllerMethods()", returning = "result")
-    public void logResponseExit(JoinPoint joinPoint, Object result) {
-        String methodName = joinPoint.getSignature().toShortString();
-
-        log.info("============== Controller 응답 시작 ==============");
-        log.info("응답된 메서드: {}", methodName);
-        // 클라이언트로 보내질 최종 응답 값을 로깅합니다.
-        // 경고: 민감한 정보가 포함될 수 있으므로, 실제 운영 환경에서는 주의가 필요합니다.
-        log.info("반환된 응답 값: {}", result);
-        log.info("============== Controller 응답 종료 ==============\n"); // 응답 로깅 후 줄바꿈으로 구분
-    }
-}
\ No newline at end of file
+    private static int valueEnd(String value, int start, char separator) {
+        int length = value.length();
+        int p = start;
+        while (p < length && value.charAt(p) == ' ') {
+            p++;
+        }
+        if (p < length && value.charAt(p) == '"') {
+            for (int q = p + 1; q < length; q++) {
+                char c = value.charAt(q);
+                if (c == '\\') {
+                    q++;
+                } else if (c == '"') {
+                    return q + 1;
+                }
+            }
+        }
+        for (int q = start; q < length; q++) {
+            if (value.charAt(q) == ',' && isKeyBoundary(value, q + 1, separator)) {
+                return q;
+            }
+        }
+        int end = length;
+        while (end > start && ")}]".indexOf(value.charAt(end - 1)) >= 0) {
+            end--;
+        }
+        return end;
+    }
+
+    /** from 위치가 [공백]["]키["][공백]구분자 형태로 시작하는지 */
+    private static boolean isKeyBoundary(String value, int from, char separator) {
+        int length = value.length();
+        int p = from;
+        while (p < length && value.charAt(p) == ' ') {
+            p++;
+        }
+        if (p < length && value.charAt(p) == '"') {
+            p++;
+        }
+        int keyStart = p;
+        while (p < length && isKeyChar(value.charAt(p))) {
+            p++;
+        }
+        if (p == keyStart) {
+            return false;
+        }
+        if (p < length && value.charAt(p) == '"') {
+            p++;
+        }
+        while (p < length && value.charAt(p) == ' ') {
+            p++;
+        }
+        return p < length && value.charAt(p) == separator;
+    }
+
+    private static boolean isKeyChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '-';
+    }
+
+    private static boolean containsSensitiveKey(String value, int from, int to) {
+        String range = value.substring(from, to);
+        for (String key : SENSITIVE_KEYS) {
+            if (indexOfIgnoreCase(range, key, 0) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int indexOfIgnoreCase(String value, String target, int from) {
+        for (int i = from, last = value.length() - target.length(); i <= last; i++) {
+            if (value.regionMatches(true, i, target, 0, target.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,137 @@
+package plant.com.cmm.interceptor.jpa;
+
+import com.p6spy.engine.logging.Category;
+import com.p6spy.engine.spy.appender.FormattedLogger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// P6Spy SQL 로그를 별도 스레드에서 포맷팅/출력하는 appender 클래스입니다.
+// 요청 스레드에서는 호출 위치만 찾고(P6SpyFormatter.captureCaller) 큐에 넣은 뒤 바로 반환하며,
+// SQL 포맷팅과 slf4j 출력은 'p6spy-log' 스레드가 모아서 처리합니다.
+// 큐(p6spy.log.queue-size)가 가득 차면 요청 스레드를 막지 않고 해당 로그를 버리며, 버린 건수는 주기적으로 경고합니다.
+//
+// P6Spy 가 appender 옵션에 지정된 클래스 이름으로 직접 생성하므로 큐/출력 스레드는 정적으로 하나만 둡니다.
+public class AsyncP6SpyLogger extends FormattedLogger {
+
+    private static final Logger log = LoggerFactory.getLogger("p6spy");
+
+    private static final int BATCH_SIZE = 256;
+
+    private static volatile int capacity = 4096;
+    private static volatile BlockingQueue<Entry> queue;
+    // 서버 기동 이후 버린 누적 건수 (메트릭용) / 마지막으로 경고한 시점의 누적 건수 (출력 스레드 전용)
+    private static final AtomicLong dropped = new AtomicLong();
+    private static long reportedDropped;
+
+    /** 출력 대기 중인 SQL 로그 (호출 위치는 요청 스레드에서 미리 계산) */
+    record Entry(long elapsed, Category category, String sql, String caller) {
+    }
+
+    /** 출력 대기 중인 건수 (출력 스레드 시작 전에는 0) */
+    public static int pendingCount() {
+        BlockingQueue<Entry> current = queue;
+        return current != null ? current.size() : 0;
+    }
+
+    /** 큐가 가득 차 버린 누적 건수 */
+    public static long droppedCount() {
+        return dropped.get();
+    }
+
+    /** 큐 크기 설정 (출력 스레드 시작 전에만 반영) */
+    static void configure(int queueSize) {
+        capacity = Math.max(queueSize, 1);
+    }
+
+    public AsyncP6SpyLogger() {
+        ensureStarted();
+    }
+
+    private static synchronized void ensureStarted() {
+        if (queue != null) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(capacity);
+        Thread worker = new Thread(AsyncP6SpyLogger::drain, "p6spy-log");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void logSQL(int connectionId, String now, long elapsed, Category category, String prepared, String sql, String url) {
+        String caller = P6SpyFormatter.isStatement(category.getName(), sql) ? P6SpyFormatter.captureCaller(prepared) : null;
+        if (!queue.offer(new Entry(elapsed, category, sql, caller))) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void logException(Exception e) {
+        log.info("", e);
+    }
+
+    @Override
+    public void logText(String text) {
+        log.info(text);
+    }
+
+    @Override
+    public boolean isCategoryEnabled(Category category) {
+        if (Category.ERROR.equals(category)) {
+            return log.isErrorEnabled();
+        } else if (Category.WARN.equals(category)) {
+            return log.isWarnEnabled();
+        } else if (Category.DEBUG.equals(category)) {
+            return log.isDebugEnabled();
+        }
+        return log.isInfoEnabled();
+    }
+
+    /** 출력 스레드: 최대 BATCH_SIZE 건씩 꺼내 포맷팅 후 출력 */
+    private static void drain() {
+        List<Entry> batch = new ArrayList<>(BATCH_SIZE);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Entry first = queue.poll(1, TimeUnit.SECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, BATCH_SIZE - 1);
+                    for (Entry entry : batch) {
+                        write(entry);
+                    }
+                    batch.clear();
+                }
+                long droppedNow = dropped.get();
+                if (droppedNow > reportedDropped) {
+                    log.warn("### P6Spy 로그 큐가 가득 차 {} 건을 기록하지 못했습니다.", droppedNow - reportedDropped);
+                    reportedDropped = droppedNow;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                batch.clear();
+                log.error("### P6Spy 로그 출력 오류", e);
+            }
+        }
+    }
+
+    private static void write(Entry entry) {
+        String message = P6SpyFormatter.format(entry.elapsed(), entry.category().getName(), entry.sql(), entry.caller());
+        if (Category.ERROR.equals(entry.category())) {
+            log.error(message);
+        } else if (Category.WARN.equals(entry.category())) {
+            log.warn(message);
+        } else if (Category.DEBUG.equals(entry.category())) {
+            log.debug(message);
+        } else {
+            log.info(message);
+        }
+    }
+}
@@ -1,104 +1,196 @@
 package plant.com.cmm.interceptor.jpa;
 
 import com.p6spy.engine.logging.Category;
+import com.p6spy.engine.logging.P6LogOptions;
 import com.p6spy.engine.spy.P6SpyOptions;
 import com.p6spy.engine.spy.appender.MessageFormattingStrategy;
 import jakarta.annotation.PostConstruct;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 // P6Spy SQL 로그 포맷을 커스터마이징하는 클래스입니다.
 // 개발 환경에서만 활성화되며(@Profile("!prod")), SQL 쿼리, 실행 시간,
 // 그리고 해당 쿼리를 호출한 소스 코드의 위치(스택 트레이스)를 함께 로깅하여
 // 디버깅 효율을 극대화합니다.
 //
+// p6spy.log.mode 에 따라 두 가지로 동작합니다.
+//  - FULL : 호출 스택 전체 + Hibernate 포맷팅 (로컬 개발용)
+//  - FAST : SQL 별 최초 호출 위치 1줄(캐시) + 한 줄 SQL, 실행 시간 기준 미만 구문은 P6Spy 단계에서 제외 (스테이징 부하 테스트용)
+// p6spy.log.async=true 이면 AsyncP6SpyLogger 가 포맷팅/출력을 별도 스레드에서 처리합니다.
+//
 // @Profile("!prod") - 운영(prod) 프로파일이 아닐 때만 이 설정이 활성화됩니다.
 @Configuration
 @Profile("!prod") // 개발, 로컬 환경 등에서만 적용
 public class P6SpyFormatter implements MessageFormattingStrategy {
 
+    public enum Mode {FULL, FAST}
+
+    /** 호출 위치 탐색 시 확인할 최대 스택 깊이 (Spring/Hibernate/Hikari 프레임 포함) */
+    private static final int MAX_STACK_DEPTH = 256;
+    /** SQL → 호출 위치 캐시 최대 크기 (초과 시 캐시하지 않고 매번 탐색) */
+    private static final int MAX_CALL_SITES = 4096;
+    private static final String UNKNOWN_CALLER = "(unknown)";
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final Map<String, String> CALL_SITES = new ConcurrentHashMap<>();
+
+    // P6Spy 는 이 클래스를 리플렉션으로 따로 생성하므로, 빈에서 읽은 설정을 정적 필드로 공유합니다.
+    private static volatile Mode mode = Mode.FULL;
+
+    @Value("${p6spy.log.mode:FULL}")
+    private Mode configuredMode;
+
+    @Value("${p6spy.log.execution-threshold-ms:0}")
+    private long executionThresholdMs;
+
+    @Value("${p6spy.log.async:false}")
+    private boolean async;
+
+    @Value("${p6spy.log.queue-size:4096}")
+    private int queueSize;
+
     /**
      * 이 클래스가 빈으로 등록된 후, P6Spy의 로그 포맷터로 자기 자신을 등록합니다.
      * 이 설정을 통해 P6Spy는 아래의 formatMessage 메서드를 사용하여 로그를 출력하게 됩니다.
+     * 실행 시간 기준(executionThreshold)은 P6Spy 가 포맷터/appender 호출 전에 적용합니다.
      */
     @PostConstruct
     public void setLogMessageFormat() {
+        setMode(configuredMode);
+        P6LogOptions.getActiveInstance().setExecutionThreshold(executionThresholdMs);
         P6SpyOptions.getActiveInstance().setLogMessageFormat(this.getClass().getName());
+        if (async) {
+            AsyncP6SpyLogger.configure(queueSize);
+            P6SpyOptions.getActiveInstance().setAppender(AsyncP6SpyLogger.class.getName());
+        }
+    }
+
+    static void setMode(Mode newMode) {
+        mode = newMode;
+        CALL_SITES.clear();
     }
 
     /**
      * P6Spy에 의해 가로채진 SQL 로그를 최종적으로 어떤 형태로 출력할지 결정합니다.
+     * (동기 appender 사용 시 - 호출 위치를 현재 스레드에서 바로 찾습니다.)
      *
      * @param connectionId 커넥션 ID
      * @param now          현재 시간
      * @param elapsed      쿼리 실행에 소요된 시간 (ms)
      * @param category     쿼리 종류 (e.g., statement, resultset)
-     * @param prepared     PreparedStatement에 바인딩될 파라미터 정보
-     * @param sql          실행된 SQL 쿼리
+     * @param prepared     '?' 가 남아 있는 원본 SQL
+     * @param sql          파라미터 값이 채워진 SQL
      * @param url          DB URL
      * @return 최종적으로 포맷팅된 로그 메시지
      */
     @Override
     public String formatMessage(int connectionId, String now, long elapsed, String category, String prepared, String sql, String url) {
-        // 실행된 SQL과 파라미터를 조합합니다.
-        sql = formatSql(category, sql, prepared);
-        // 로그 형식: [카테고리] | 실행시간 ms | 호출 스택 위치 \n 정렬된 SQL
-        return String.format("[%s] | %d ms | %s", category, elapsed, sql);
+        return format(elapsed, category, sql, isStatement(category, sql) ? captureCaller(prepared) : null);
     }
 
     /**
-     * SQL 쿼리를 보기 좋게 포맷팅하고, 호출 스택 정보를 추가합니다.
+     * 호출 위치를 미리 찾아 둔 경우의 포맷팅 (AsyncP6SpyLogger 의 출력 스레드에서 호출)
      *
-     * @param category 쿼리 종류
-     * @param sql      원본 SQL
-     * @param prepared 바인딩 파라미터
-     * @return 포맷팅된 SQL과 스택 트레이스가 포함된 문자열
+     * @param caller captureCaller 결과 (STATEMENT 가 아니면 null)
      */
-    private String formatSql(String category, String sql, String prepared) {
-        // STATEMENT 카테고리일 때만 SQL 포맷팅 및 스택 트레이스 로깅을 적용합니다.
-        if (sql != null && !sql.trim().isEmpty() && Category.STATEMENT.getName().equals(category)) {
-            String trimmedSql = sql.trim().toLowerCase(Locale.ROOT);
-
-            // 파라미터가 존재하면, SQL의 '?' 부분에 실제 값을 채워넣습니다.
-            // P6Spy가 prepared 인자에 파라미터를 전달해주므로 이를 활용합니다.
-            if (prepared != null && !prepared.trim().isEmpty()) {
-                // prepared는 "param1, param2, ..." 형태이므로 쉼표로 분리
-                String[] params = prepared.split(",");
-                for (String param : params) {
-                    sql = sql.replaceFirst("\\?", "'" + param.trim() + "'");
-                }
-            }
-
-            // DDL(create, alter, drop 등)과 DML(select, insert, update, delete)을 구분하여 포맷팅합니다.
-            String formattedSql;
-            if (trimmedSql.startsWith("create") || trimmedSql.startsWith("alter") || trimmedSql.startsWith("drop") || trimmedSql.startsWith("comment")) {
-                formattedSql = FormatStyle.DDL.getFormatter().format(sql);
-            } else {
-                formattedSql = FormatStyle.BASIC.getFormatter().format(sql);
-            }
-            // 최종적으로 스택 트레이스와 포맷팅된 SQL을 합쳐서 반환합니다.
-            return stackTrace() + "\n" + formattedSql;
+    static String format(long elapsed, String category, String sql, String caller) {
+        // 로그 형식: [카테고리] | 실행시간 ms | 호출 스택 위치 \n 정렬된 SQL
+        StringBuilder sb = new StringBuilder(64 + (sql != null ? sql.length() : 0))
+                .append('[').append(category).append("] | ").append(elapsed).append(" ms | ");
+        if (caller == null) {
+            return sb.append(sql).toString();
         }
-        return sql;
+        if (mode == Mode.FAST) {
+            return sb.append(caller).append(" | ").append(singleLine(sql)).toString();
+        }
+        return sb.append(caller).append('\n').append(prettyPrint(sql)).toString();
+    }
+
+    static boolean isStatement(String category, String sql) {
+        return sql != null && !sql.isBlank() && Category.STATEMENT.getName().equals(category);
     }
 
     /**
-     * 현재 쿼리를 호출한 애플리케이션의 코드 위치(스택 트레이스)를 찾아 반환합니다.
+     * 현재 쿼리를 호출한 애플리케이션의 코드 위치를 찾아 반환합니다.
+     * - FULL : 'plant' 패키지 프레임 전체 (매번 탐색)
+     * - FAST : 첫 번째 'plant' 프레임 1줄, 같은 SQL 은 캐시된 값을 사용 (스택 탐색 생략)
+     * 스택은 StackWalker 로 필요한 만큼만 (최대 MAX_STACK_DEPTH) 탐색합니다.
      *
-     * @return 필터링된 스택 트레이스 문자열
+     * @param prepared '?' 가 남아 있는 원본 SQL (캐시 키)
      */
-    private String stackTrace() {
-        return Stream.of(new Throwable().getStackTrace())
-                // 'plant'으로 시작하는, 즉 우리가 작성한 패키지만 필터링합니다.
-                .filter(t -> t.toString().startsWith("plant"))
-                // P6SpyFormatter 자기 자신의 호출 정보는 제외하여 불필요한 로그를 줄입니다.
-                .filter(t -> !t.toString().contains(this.getClass().getName()))
-                .map(StackTraceElement::toString)
-                .collect(Collectors.joining("\n    ", "\n    ", "")); // 각 라인 앞에 공백을 추가하여 가독성을 높입니다.
+    static String captureCaller(String prepared) {
+        if (mode == Mode.FULL) {
+            return STACK_WALKER.walk(frames -> frames.limit(MAX_STACK_DEPTH)
+                    .filter(P6SpyFormatter::isApplicationFrame)
+                    .map(P6SpyFormatter::describe)
+                    .collect(Collectors.joining("\n    ", "\n    ", ""))); // 각 라인 앞에 공백을 추가하여 가독성을 높입니다.
+        }
+        String key = prepared != null ? prepared : "";
+        String caller = CALL_SITES.get(key);
+        if (caller == null) {
+            caller = STACK_WALKER.walk(frames -> frames.limit(MAX_STACK_DEPTH)
+                    .filter(P6SpyFormatter::isApplicationFrame)
+                    .findFirst()
+                    .map(P6SpyFormatter::describe)
+                    .orElse(UNKNOWN_CALLER));
+            if (CALL_SITES.size() < MAX_CALL_SITES) {
+                CALL_SITES.putIfAbsent(key, caller);
+            }
+        }
+        return caller;
+    }
+
+    /** 'plant' 으로 시작하는 우리가 작성한 클래스만, P6Spy 로깅 클래스와 CGLIB 프록시는 제외 */
+    private static boolean isApplicationFrame(StackWalker.StackFrame frame) {
+        String className = frame.getClassName();
+        return className.startsWith("plant.")
+                && !isLoggingClass(className, P6SpyFormatter.class)
+                && !isLoggingClass(className, AsyncP6SpyLogger.class)
+                && !className.contains("$$");
+    }
+
+    private static boolean isLoggingClass(String className, Class<?> type) {
+        return className.startsWith(type.getName())
+                && (className.length() == type.getName().length() || className.charAt(type.getName().length()) == '$');
+    }
+
+    private static String describe(StackWalker.StackFrame frame) {
+        return frame.toStackTraceElement().toString();
+    }
+
+    /** DDL(create, alter, drop 등)과 DML(select, insert, update, delete)을 구분하여 포맷팅합니다. */
+    private static String prettyPrint(String sql) {
+        String trimmedSql = sql.trim().toLowerCase(Locale.ROOT);
+        if (trimmedSql.startsWith("create") || trimmedSql.startsWith("alter") || trimmedSql.startsWith("drop") || trimmedSql.startsWith("comment")) {
+            return FormatStyle.DDL.getFormatter().format(sql);
+        }
+        return FormatStyle.BASIC.getFormatter().format(sql);
+    }
+
+    /** 줄바꿈/연속 공백을 공백 1개로 (정규식 없이 한 번 순회) */
+    static String singleLine(String sql) {
+        String stripped = sql.strip();
+        StringBuilder sb = new StringBuilder(stripped.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < stripped.length(); i++) {
+            char c = stripped.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                continue;
+            }
+            if (pendingSpace) {
+                sb.append(' ');
+                pendingSpace = false;
+            }
+            sb.append(c);
+        }
+        return sb.toString();
     }
-}
\ No newline at end of file
+}
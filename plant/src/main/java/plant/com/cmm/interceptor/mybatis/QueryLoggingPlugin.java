@@ -7,16 +7,27 @@ import org.apache.ibatis.executor.Executor;
 import org.apache.ibatis.mapping.BoundSql;
 import org.apache.ibatis.mapping.MappedStatement;
 import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
 import org.apache.ibatis.plugin.*;
 import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.ResultHandler;
 import org.apache.ibatis.session.RowBounds;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import plant.com.cmm.metrics.SqlMetricsRegistry;
 
 import java.util.List;
 import java.util.Properties;
-
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MyBatis 구문 실행 시간 측정 플러그인
+ * - 모든 실행을 System.nanoTime 으로 측정하여 SqlMetricsRegistry 의 구문별 히스토그램에 기록
+ * - sql.metrics.slow-threshold-ms 이상 걸린 구문만 WARN 으로 SQL 과 함께 기록 (구문별 INFO 로그 제거)
+ * - ResultHandler 를 넘긴 조회(내보내기 스트리밍)는 행마다 클라이언트 전송까지 포함되므로 느린 쿼리 WARN 대상에서 제외하고 별도 타이머에 기록
+ * - DEBUG 레벨에서는 기존처럼 실행 전 SQL / 결과 건수를 기록
+ */
 @Intercepts({
         @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
         @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
@@ -27,6 +38,14 @@ public class QueryLoggingPlugin implements Interceptor {
 
     private final static Logger log = LoggerFactory.getLogger(QueryLoggingPlugin.class);
 
+    private final SqlMetricsRegistry sqlMetricsRegistry;
+    private final long slowThresholdNanos;
+
+    public QueryLoggingPlugin(SqlMetricsRegistry sqlMetricsRegistry, long slowThresholdMs) {
+        this.sqlMetricsRegistry = sqlMetricsRegistry;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+    }
+
     @Override
     public Object intercept(Invocation invocation) throws Throwable {
         Object[] args = invocation.getArgs();
@@ -38,11 +57,25 @@ public class QueryLoggingPlugin implements Interceptor {
             loggingQuery(mappedStatement, paramObject);
         }
 
-        long begin = System.currentTimeMillis();
-        Object result = invocation.proceed(); // 실제 쿼리 실행
-        long end = System.currentTimeMillis();
-
-        log.info("### 수행시간: {} 초", (end - begin) / 1000.0);
+        boolean streamed = args.length > 3 && args[3] != Executor.NO_RESULT_HANDLER;
+        long begin = System.nanoTime();
+        boolean failed = true;
+        Object result;
+        try {
+            result = invocation.proceed(); // 실제 쿼리 실행
+            failed = false;
+        } finally {
+            long elapsed = System.nanoTime() - begin;
+            if (streamed) {
+                sqlMetricsRegistry.recordStreamed(mappedStatement.getId(), elapsed, failed);
+            } else {
+                sqlMetricsRegistry.record(mappedStatement.getId(), elapsed, failed);
+            }
+            if (!streamed && elapsed >= slowThresholdNanos && log.isWarnEnabled()) {
+                log.warn("### 느린 쿼리 [SQL ID : {}] {} ms\n{}", mappedStatement.getId(),
+                        TimeUnit.NANOSECONDS.toMillis(elapsed), formatQuery(mappedStatement, paramObject));
+            }
+        }
 
         // 결과 로깅
         if (log.isDebugEnabled()) {
@@ -57,48 +90,71 @@ public class QueryLoggingPlugin implements Interceptor {
     }
 
     private void loggingQuery(MappedStatement mappedStatement, Object paramObject) {
-        try {
-            final BoundSql boundSql = mappedStatement.getBoundSql(paramObject);
-            String sql = boundSql.getSql();
-            List<ParameterMapping> paramMapping = boundSql.getParameterMappings();
-
-            if (paramMapping != null && !paramMapping.isEmpty() && paramObject != null) {
-                MetaObject metaObject = mappedStatement.getConfiguration().newMetaObject(paramObject);
-                for (ParameterMapping mapping : paramMapping) {
-                    String prop = mapping.getProperty();
-                    Object value = null;
-                    if (boundSql.hasAdditionalParameter(prop)) {
-                        value = boundSql.getAdditionalParameter(prop);
-                    } else if (metaObject.hasGetter(prop)) {
-                        value = metaObject.getValue(prop);
-                    } else if(paramObject instanceof String || paramObject instanceof Integer || paramObject instanceof Long){
-                        value = paramObject;
-                    }
-
-                    String valueStr = (value instanceof String) ? "'" + value + "'" : String.valueOf(value);
-                    sql = sql.replaceFirst("\\?", valueStr);
-                }
-            }
-
-            log.debug("\n----------------------------------------------------------------------------------------"
-                            + "\n[SQL ID : {}]\n{}"
-                            + "\n----------------------------------------------------------------------------------------",
-                    //mappedStatement.getId(), sql.replaceAll("\\s+", " "));
-                    mappedStatement.getId(), sql);
+        log.debug("\n----------------------------------------------------------------------------------------"
+                        + "\n[SQL ID : {}]\n{}"
+                        + "\n----------------------------------------------------------------------------------------",
+                mappedStatement.getId(), formatQuery(mappedStatement, paramObject));
+    }
 
-        }catch (NullPointerException e){
-            log.error("----------------------------------------------------------------------------------------");
-            log.error("### SQL Foramtting Error : {}", ExceptionUtils.getStackTrace(e));
-            log.error("### SQL ID  : {}", mappedStatement.getId());
-            log.error("### StackTrace\n", e);
-            log.error("----------------------------------------------------------------------------------------");
+    /** 파라미터를 바인딩한 SQL (실패 시 원본 SQL 대신 오류를 기록하고 빈 문자열 반환) */
+    private String formatQuery(MappedStatement mappedStatement, Object paramObject) {
+        try {
+            return renderSql(mappedStatement.getConfiguration(), mappedStatement.getBoundSql(paramObject), paramObject);
         } catch (Exception e) {
             log.error("----------------------------------------------------------------------------------------");
             log.error("### SQL Foramtting Error : {}", ExceptionUtils.getStackTrace(e));
             log.error("### SQL ID  : {}", mappedStatement.getId());
-            log.error("### StackTrace\n", e);
             log.error("----------------------------------------------------------------------------------------");
+            return "";
+        }
+    }
+
+    /**
+     * '?' 자리에 파라미터 값을 채운 SQL
+     * - 값 결정 순서는 MyBatis DefaultParameterHandler 와 동일 (추가 파라미터 > 단일 타입 파라미터 > 프로퍼티)
+     * - StringBuilder 로 한 번만 순회 (기존 replaceFirst 는 값에 '$', '\' 가 있으면 실패하고 파라미터마다 정규식을 컴파일)
+     */
+    static String renderSql(Configuration configuration, BoundSql boundSql, Object paramObject) {
+        String sql = boundSql.getSql();
+        List<ParameterMapping> paramMapping = boundSql.getParameterMappings();
+        if (paramMapping == null || paramMapping.isEmpty()) {
+            return sql;
+        }
+
+        StringBuilder sb = new StringBuilder(sql.length() + paramMapping.size() * 16);
+        MetaObject metaObject = null;
+        int copied = 0;
+        for (ParameterMapping mapping : paramMapping) {
+            if (mapping.getMode() == ParameterMode.OUT) {
+                continue;
+            }
+            int mark = sql.indexOf('?', copied);
+            if (mark < 0) {
+                break;
+            }
+            String prop = mapping.getProperty();
+            Object value;
+            if (boundSql.hasAdditionalParameter(prop)) {
+                value = boundSql.getAdditionalParameter(prop);
+            } else if (paramObject == null) {
+                value = null;
+            } else if (configuration.getTypeHandlerRegistry().hasTypeHandler(paramObject.getClass())) {
+                value = paramObject;
+            } else {
+                if (metaObject == null) {
+                    metaObject = configuration.newMetaObject(paramObject);
+                }
+                value = metaObject.hasGetter(prop) ? metaObject.getValue(prop) : null;
+            }
+            sb.append(sql, copied, mark);
+            if (value instanceof String) {
+                sb.append('\'').append(value).append('\'');
+            } else {
+                sb.append(value);
+            }
+            copied = mark + 1;
         }
+        return sb.append(sql, copied, sql.length()).toString();
     }
 
     @Override
@@ -110,4 +166,4 @@ public class QueryLoggingPlugin implements Interceptor {
     public void setProperties(Properties properties) {
         // 플러그인 프로퍼티 설정 (필요 시)
     }
-}
\ No newline at end of file
+}
@@ -3,6 +3,8 @@ package plant.com.cmm.interceptor.service;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.springframework.stereotype.Service;
+import plant.com.cmm.exception.TooManyRequestsException;
+import plant.com.cmm.exception.UnauthorizedException;
 
 // AOP에서 발생한 예외를 공통 처리하는 서비스 클래스입니다.
 @Slf4j
@@ -19,6 +21,10 @@ public class ExceptionTransfer {
      * @throws Exception 처리 후 다시 던질 새로운 예외 (또는 원본 예외)
      */
     public void transfer(JoinPoint joinPoint, Exception ex) throws Exception {
+        // 세션 만료/요청 한도 초과는 정상 흐름 - 그대로 전달 (GlobalExceptionHandler 가 401/429 로 응답)
+        if (ex instanceof UnauthorizedException || ex instanceof TooManyRequestsException) {
+            throw ex;
+        }
         String methodName = joinPoint.getSignature().toShortString();
         log.error("메서드 '{}' 실행 중 예외 발생: {}", methodName, ex.getMessage(), ex);
 
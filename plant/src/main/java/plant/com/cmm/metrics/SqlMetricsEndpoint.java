@@ -0,0 +1,30 @@
+// MyBatis 구문별 실행 통계를 관리 포트(actuator)로 노출하는 엔드포인트입니다.
+package plant.com.cmm.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/*
+ * SQL 실행 통계 (관리 포트 전용 - management.server.address=127.0.0.1, 애플리케이션 포트에는 노출되지 않음)
+ *  - GET /actuator/sqlstats        : 전체 구문 통계 (누적 시간 순)
+ *  - GET /actuator/sqlstats?top=10 : p99 기준 느린 구문 상위 N건
+ *  - 통계 초기화는 재기동으로만 (원격 초기화 경로 없음)
+ */
+@Component
+@Endpoint(id = "sqlstats")
+@RequiredArgsConstructor
+public class SqlMetricsEndpoint {
+
+    private final SqlMetricsRegistry sqlMetricsRegistry;
+
+    /** top 을 지정하면 p99 기준 느린 구문 상위 N건, 없으면 전체 */
+    @ReadOperation
+    public List<SqlStatementStats> statements(@Nullable Integer top) {
+        return top != null ? sqlMetricsRegistry.topSlow(top) : sqlMetricsRegistry.snapshot();
+    }
+}
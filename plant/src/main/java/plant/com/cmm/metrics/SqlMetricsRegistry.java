@@ -0,0 +1,123 @@
+// MyBatis 구문별 실행 시간 히스토그램을 보관하는 클래스입니다.
+package plant.com.cmm.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * QueryLoggingPlugin 이 기록하는 MappedStatement 별 실행 시간 저장소
+ * - 구문 ID 는 매퍼 XML 에 정의된 개수로 한정되므로 ID 별 히스토그램을 계속 보관
+ * - 조회용 스냅샷은 관리 포트의 /actuator/sqlstats (SqlMetricsEndpoint) 에서 사용
+ * - 같은 측정값을 Micrometer 타이머(mybatis.statement, statement/outcome 태그)에도 기록하여 Prometheus 로 노출
+ * - ResultHandler 로 행을 바로 내보내는 구문(내보내기 스트리밍)은 클라이언트 전송 시간까지 포함되므로
+ *   히스토그램 / mybatis.statement 에 섞지 않고 mybatis.statement.streamed 타이머에만 기록
+ */
+@Component
+public class SqlMetricsRegistry {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Map<String, Entry> statements = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public SqlMetricsRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param statementId MappedStatement ID
+     * @param nanos       실행 시간 (나노초)
+     * @param failed      예외로 끝났는지 여부
+     */
+    public void record(String statementId, long nanos, boolean failed) {
+        Entry entry = statements.get(statementId);
+        if (entry == null) {
+            entry = statements.computeIfAbsent(statementId, id -> new Entry(meterRegistry, id));
+        }
+        entry.histogram.record(nanos);
+        if (failed) {
+            entry.errors.increment();
+            entry.errorTimer.record(nanos, TimeUnit.NANOSECONDS);
+        } else {
+            entry.successTimer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * ResultHandler(스트리밍) 구문 실행 시간 기록 - 호출 빈도가 낮으므로 타이머는 등록 조회로 재사용
+     * @param statementId MappedStatement ID
+     * @param nanos       실행 시간 (나노초, 결과 처리 시간 포함)
+     * @param failed      예외로 끝났는지 여부
+     */
+    public void recordStreamed(String statementId, long nanos, boolean failed) {
+        Timer.builder("mybatis.statement.streamed")
+                .description("ResultHandler 로 결과를 처리한 MyBatis 구문 실행 시간 (결과 처리 포함)")
+                .tag("statement", statementId)
+                .tag("outcome", failed ? "error" : "success")
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return 전체 구문 통계 (누적 실행 시간 내림차순)
+     */
+    public List<SqlStatementStats> snapshot() {
+        List<SqlStatementStats> result = new ArrayList<>(statements.size());
+        statements.forEach((id, entry) -> result.add(entry.toStats(id)));
+        result.sort(Comparator.comparingDouble(SqlStatementStats::totalMs).reversed());
+        return result;
+    }
+
+    /**
+     * @param limit 최대 건수
+     * @return p99 가 가장 느린 구문 상위 limit 건
+     */
+    public List<SqlStatementStats> topSlow(int limit) {
+        List<SqlStatementStats> result = snapshot();
+        result.sort(Comparator.comparingDouble(SqlStatementStats::p99Ms)
+                .thenComparingDouble(SqlStatementStats::maxMs).reversed());
+        return result.subList(0, Math.min(Math.max(limit, 0), result.size()));
+    }
+
+    private static final class Entry {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+        private final Timer successTimer;
+        private final Timer errorTimer;
+
+        private Entry(MeterRegistry meterRegistry, String statementId) {
+            this.successTimer = timer(meterRegistry, statementId, "success");
+            this.errorTimer = timer(meterRegistry, statementId, "error");
+        }
+
+        private static Timer timer(MeterRegistry meterRegistry, String statementId, String outcome) {
+            return Timer.builder("mybatis.statement")
+                    .description("MyBatis MappedStatement 실행 시간")
+                    .tag("statement", statementId)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+
+        private SqlStatementStats toStats(String id) {
+            return new SqlStatementStats(
+                    id,
+                    histogram.getCount(),
+                    errors.sum(),
+                    histogram.getTotalNanos() / NANOS_PER_MILLI,
+                    histogram.getMeanNanos() / NANOS_PER_MILLI,
+                    histogram.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                    histogram.getValueAtPercentile(95) / NANOS_PER_MILLI,
+                    histogram.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                    histogram.getMaxNanos() / NANOS_PER_MILLI);
+        }
+    }
+}
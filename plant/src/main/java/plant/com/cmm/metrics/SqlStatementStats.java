@@ -0,0 +1,28 @@
+// MyBatis 구문별 실행 통계를 담는 레코드입니다.
+package plant.com.cmm.metrics;
+
+/**
+ * MappedStatement 별 실행 통계 (시간 단위: ms)
+ *
+ * @param id      MappedStatement ID (예: logplantDAO.findLogPage)
+ * @param count   실행 횟수
+ * @param errors  예외로 끝난 실행 횟수
+ * @param totalMs 누적 실행 시간
+ * @param meanMs  평균
+ * @param p50Ms   중앙값
+ * @param p95Ms   95 백분위
+ * @param p99Ms   99 백분위
+ * @param maxMs   최댓값
+ */
+public record SqlStatementStats(
+        String id,
+        long count,
+        long errors,
+        double totalMs,
+        double meanMs,
+        double p50Ms,
+        double p95Ms,
+        double p99Ms,
+        double maxMs
+) {
+}
@@ -0,0 +1,129 @@
+package plant.com.cmm.util;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+// IPv4 주소/대역(CIDR)을 비트 단위 접두사 트리로 보관하고 포함 여부를 검사하는 클래스입니다.
+/**
+ * IPv4 접두사 트리
+ * - "10.0.0.5" (= /32) 또는 "10.0.0.0/24" 형태를 등록, contains 는 주소를 포함하는 대역이 하나라도 있으면 true
+ * - 노드는 int 배열(자식 2개씩) + BitSet(대역 끝 표시)으로 보관, 조회 시 객체 생성 없음 (최대 32단계)
+ * - 상위 대역이 이미 있으면 하위 대역/주소는 추가하지 않음
+ * - 등록(add)은 생성 직후 한 스레드에서만, 이후 조회는 여러 스레드에서 동시에 가능 (volatile 필드 등으로 게시)
+ * - ClientIpUtils 와 같이 IPv4 만 지원
+ */
+public final class IpPrefixTrie {
+
+    private int[] children = new int[64]; // 노드 i 의 0/1 자식 = children[2i], children[2i + 1] (0 이면 없음)
+    private final BitSet terminal = new BitSet();
+    private int nodeCount = 1; // 0 = 루트
+    private int size;
+
+    /**
+     * 주소 또는 CIDR 대역을 등록합니다.
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public void add(String addressOrCidr) {
+        String value = addressOrCidr.trim();
+        int slash = value.indexOf('/');
+        int prefixLength = 32;
+        if (slash >= 0) {
+            try {
+                prefixLength = Integer.parseInt(value.substring(slash + 1));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 CIDR: " + addressOrCidr);
+            }
+            if (prefixLength < 0 || prefixLength > 32) {
+                throw new IllegalArgumentException("잘못된 CIDR: " + addressOrCidr);
+            }
+            value = value.substring(0, slash);
+        }
+        add(parseIpv4(value), prefixLength);
+    }
+
+    private void add(int address, int prefixLength) {
+        int node = 0;
+        for (int i = 0; i < prefixLength; i++) {
+            if (terminal.get(node)) {
+                return; // 상위 대역에 이미 포함
+            }
+            int slot = node * 2 + ((address >>> (31 - i)) & 1);
+            int child = children[slot];
+            if (child == 0) {
+                child = nodeCount++;
+                if (child * 2 + 1 >= children.length) {
+                    children = Arrays.copyOf(children, children.length * 2);
+                }
+                children[slot] = child;
+            }
+            node = child;
+        }
+        if (!terminal.get(node)) {
+            terminal.set(node);
+            size++;
+        }
+    }
+
+    /** 형식이 잘못된 주소(IPv6 포함)는 false */
+    public boolean contains(String address) {
+        if (address == null) {
+            return false;
+        }
+        int parsed;
+        try {
+            parsed = parseIpv4(address.trim());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return contains(parsed);
+    }
+
+    public boolean contains(int address) {
+        int node = 0;
+        for (int i = 0; i < 32; i++) {
+            if (terminal.get(node)) {
+                return true;
+            }
+            node = children[node * 2 + ((address >>> (31 - i)) & 1)];
+            if (node == 0) {
+                return false;
+            }
+        }
+        return terminal.get(node);
+    }
+
+    /** 등록된 주소/대역 수 (상위 대역에 포함되어 생략된 항목 제외) */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** "a.b.c.d" 를 부호 없는 32비트 값으로 변환 (DNS 조회 없음) */
+    static int parseIpv4(String value) {
+        int result = 0;
+        int octet = -1;
+        int octets = 0;
+        for (int i = 0, n = value.length(); i <= n; i++) {
+            char c = i < n ? value.charAt(i) : '.';
+            if (c >= '0' && c <= '9') {
+                octet = (octet < 0 ? 0 : octet * 10) + (c - '0');
+                if (octet > 255) {
+                    throw new IllegalArgumentException("잘못된 IPv4 주소: " + value);
+                }
+            } else if (c == '.' && octet >= 0 && octets < 4) {
+                result = (result << 8) | octet;
+                octet = -1;
+                octets++;
+            } else {
+                throw new IllegalArgumentException("잘못된 IPv4 주소: " + value);
+            }
+        }
+        if (octets != 4) {
+            throw new IllegalArgumentException("잘못된 IPv4 주소: " + value);
+        }
+        return result;
+    }
+}
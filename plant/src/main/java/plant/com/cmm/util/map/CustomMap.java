@@ -2,28 +2,82 @@
 package plant.com.cmm.util.map;
 
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
-import org.apache.commons.collections4.map.ListOrderedMap;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
 import java.math.BigDecimal;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
 
+/**
+ * 입력 순서를 유지하고, 키의 대소문자를 구분하지 않는 Map 입니다.
+ *
+ * <p>구조: 입력 순서대로 쌓이는 엔트리 배열(entries) + 오픈 어드레싱(선형 탐사) 인덱스 테이블(index).
+ * 인덱스는 대소문자를 접은(case-folded) 해시로 위치를 찾으므로 get/put/remove 모두
+ * 문자열 생성(toLowerCase/toUpperCase) 없이 해시 조회 1회로 끝납니다.</p>
+ *
+ * <ul>
+ *     <li>get("userName"), get("USERNAME"), get("username") 은 모두 같은 값을 반환합니다.</li>
+ *     <li>대소문자만 다른 키로 put 하면 기존 위치에서 값과 키 표기를 교체합니다. (중복 키 방지)</li>
+ *     <li>값이 공백 1칸(" ")이면 빈 문자열("")로 저장하고, 키가 "undefined"이면 저장하지 않습니다.</li>
+ * </ul>
+ */
 @JsonDeserialize(using = CustomMapJsonDeserializer.class)
-public class CustomMap extends ListOrderedMap<String, Object> {
+public class CustomMap extends AbstractMap<String, Object> implements Serializable {
 
     private static final long serialVersionUID = 1L; // serialVersionUID 명시
 
+    private static final int DEFAULT_CAPACITY = 8;
+
+    /** 입력 순서대로 저장된 엔트리 (remove 된 자리는 null, put 시 필요하면 압축) */
+    private transient Node[] entries;
+    /** 오픈 어드레싱 테이블: 0 = 빈 칸, 그 외 = entries 위치 + 1 (사용률 50% 이하 유지) */
+    private transient int[] index;
+    /** entries 에서 사용 중인 길이 (중간의 null 포함) */
+    private transient int end;
+    private transient int size;
+    private transient int modCount;
+    private transient Set<Map.Entry<String, Object>> entrySet;
+
     public CustomMap() {
-        super();
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * 예상 크기를 지정하여 생성합니다. (MyBatis 행 매핑처럼 컬럼 수를 알고 있을 때 재할당 방지)
+     * @param expectedSize 예상 키 개수
+     */
+    public CustomMap(int expectedSize) {
+        init(Math.max(expectedSize, 1));
     }
 
     public CustomMap(Map<String, ?> map) { // 제네릭 사용
+        this(map == null ? DEFAULT_CAPACITY : map.size());
         if (map != null) {
             this.putAll(map);
         }
     }
 
+    private void init(int expectedSize) {
+        entries = new Node[expectedSize];
+        index = new int[indexCapacityFor(expectedSize)];
+        end = 0;
+        size = 0;
+    }
+
     /**
      * 대소문자 상관없이 키값을 가져오도록 함.
      * @param key
@@ -31,70 +85,420 @@ public class CustomMap extends ListOrderedMap<String, Object> {
      */
     @Override // Map의 get(Object key)를 오버라이드
     public Object get(Object key) {
-        if (key == null) {
+        if (!(key instanceof String)) {
             return null;
         }
-        String stringKey = String.valueOf(key);
-        Object obj = super.get(stringKey);
-
-        if (obj == null) {
-            obj = super.get(stringKey.toLowerCase());
+        String stringKey = (String) key;
+        int slot = findSlot(stringKey, hash(stringKey));
+        int ref = index[slot];
+        return ref == 0 ? null : entries[ref - 1].value;
+    }
 
-            if (obj == null) {
-                obj = super.get(stringKey.toUpperCase());
-            }
+    @Override
+    public boolean containsKey(Object key) {
+        if (!(key instanceof String)) {
+            return false;
         }
-        return obj;
+        String stringKey = (String) key;
+        return index[findSlot(stringKey, hash(stringKey))] != 0;
     }
 
     /**
-     * 해당 키의 대/소문자가 이미 있으면 삭제한 후 넣음. (중복 키 방지)
+     * 해당 키의 대/소문자가 이미 있으면 그 자리의 값과 키 표기를 교체함. (중복 키 방지)
      * @param key
      * @param value
-     * @return
+     * @return 이전 값
      */
     @Override // Map의 put(K key, V value)를 오버라이드
     public Object put(String key, Object value) { // Map의 키가 String이므로 String으로 명시
         if ("undefined".equals(key)) {
             return null;
         }
-
-        String lower = key.toLowerCase();
-        String upper = key.toUpperCase();
-        this.remove(lower); // 기존 소문자 키 제거
-        this.remove(upper); // 기존 대문자 키 제거
+        Objects.requireNonNull(key, "key");
 
         // Map의 특정 로직: 공백 1칸을 빈 문자열로 변경
         if (value instanceof String && " ".equals(value)) {
             value = "";
         }
-        return super.put(key, value); // 원본 키로 저장
+        return putValue(key, value);
     }
 
     /**
-     * 해당 키의 대/소문자가 이미 있으면 삭제한 후 넣음. (중복 키 방지)
-     * putAll 시 사용되는 메서드
+     * Map 전체를 putAll 할 때 커스텀 put 로직 적용
      */
-    @Override // ListOrderedMap의 put(int index, K key, V value)를 오버라이드
-    public Object put(int index, String key, Object value) {
-        String lower = key.toLowerCase();
-        String upper = key.toUpperCase();
-        this.remove(lower);
-        this.remove(upper);
-
-        if (value instanceof String && " ".equals(value)) {
-            value = "";
+    @Override
+    public void putAll(Map<? extends String, ?> map) { // 제네릭 명시
+        for (Map.Entry<? extends String, ?> entry : map.entrySet()) {
+            this.put(entry.getKey(), entry.getValue());
         }
-        return super.put(index, key, value);
     }
 
     /**
-     * Map 전체를 putAll 할 때 커스텀 put 로직 적용
+     * 대소문자 상관없이 키를 삭제함.
      */
     @Override
-    public void putAll(Map<? extends String, ?> map) { // 제네릭 명시
-        for (Map.Entry<? extends String, ?> entry : map.entrySet()) {
-            this.put(entry.getKey(), entry.getValue());
+    public Object remove(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        String stringKey = (String) key;
+        int slot = findSlot(stringKey, hash(stringKey));
+        int ref = index[slot];
+        if (ref == 0) {
+            return null;
+        }
+        Node removed = entries[ref - 1];
+        removeAt(slot, ref - 1);
+        return removed.value;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        if (end > 0) {
+            Arrays.fill(entries, 0, end, null);
+            Arrays.fill(index, 0);
+            end = 0;
+            size = 0;
+            modCount++;
+        }
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        int expectedModCount = modCount;
+        for (int i = 0; i < end; i++) {
+            Node node = entries[i];
+            if (node != null) {
+                action.accept(node.key, node.value);
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        Set<Map.Entry<String, Object>> es = entrySet;
+        if (es == null) {
+            es = new EntrySet();
+            entrySet = es;
+        }
+        return es;
+    }
+
+    // --- 내부 해시 테이블 ---
+
+    private Object putValue(String key, Object value) {
+        int h = hash(key);
+        int slot = findSlot(key, h);
+        int ref = index[slot];
+        if (ref != 0) {
+            // 같은 키(대소문자 무시)가 있으면 위치는 유지하고 값과 키 표기만 교체
+            Node node = entries[ref - 1];
+            Object old = node.value;
+            node.key = key;
+            node.value = value;
+            return old;
+        }
+
+        if (end == entries.length || (size + 1) * 2 > index.length) {
+            ensureCapacity(size + 1);
+            slot = findSlot(key, h);
+        }
+        entries[end] = new Node(key, h, value);
+        index[slot] = end + 1;
+        end++;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    /**
+     * 키가 있으면 해당 슬롯, 없으면 삽입할 빈 슬롯을 반환합니다.
+     * (사용률이 50% 이하이므로 항상 빈 슬롯이 존재)
+     */
+    private int findSlot(String key, int h) {
+        int mask = index.length - 1;
+        for (int slot = h & mask; ; slot = (slot + 1) & mask) {
+            int ref = index[slot];
+            if (ref == 0) {
+                return slot;
+            }
+            Node node = entries[ref - 1];
+            if (node.hash == h && keyEquals(node.key, key)) {
+                return slot;
+            }
+        }
+    }
+
+    private void removeAt(int slot, int position) {
+        entries[position] = null;
+        size--;
+        modCount++;
+
+        // 선형 탐사 후방 이동 삭제(backward shift): 툼스톤 없이 탐사 체인을 유지
+        int mask = index.length - 1;
+        int hole = slot;
+        for (int next = (hole + 1) & mask; index[next] != 0; next = (next + 1) & mask) {
+            int home = entries[index[next] - 1].hash & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                index[hole] = index[next];
+                hole = next;
+            }
+        }
+        index[hole] = 0;
+
+        // 끝부분의 빈 자리는 바로 회수
+        while (end > 0 && entries[end - 1] == null) {
+            end--;
+        }
+    }
+
+    /** 엔트리 배열을 압축(삭제된 자리 제거)하거나 확장하고 인덱스를 다시 만듭니다. */
+    private void ensureCapacity(int required) {
+        int capacity = entries.length;
+        if (required > capacity) {
+            capacity = Math.max(required, capacity + (capacity >> 1) + 1);
+        } else if (end == capacity && size == end) {
+            capacity = capacity + (capacity >> 1) + 1;
+        }
+
+        Node[] compacted = capacity == entries.length ? entries : new Node[capacity];
+        int position = 0;
+        for (int i = 0; i < end; i++) {
+            Node node = entries[i];
+            if (node != null) {
+                compacted[position++] = node;
+            }
+        }
+        if (compacted == entries) {
+            Arrays.fill(entries, position, end, null);
+        }
+        entries = compacted;
+        end = position;
+
+        int indexCapacity = Math.max(index.length, indexCapacityFor(capacity));
+        if (indexCapacity != index.length) {
+            index = new int[indexCapacity];
+        } else {
+            Arrays.fill(index, 0);
+        }
+        int mask = index.length - 1;
+        for (int i = 0; i < end; i++) {
+            int slot = entries[i].hash & mask;
+            while (index[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            index[slot] = i + 1;
+        }
+    }
+
+    private static int indexCapacityFor(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize * 2, DEFAULT_CAPACITY) - 1) << 1;
+        return Math.max(capacity, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * 대소문자를 접은 해시. ASCII는 분기 한 번으로 처리하고, 그 외 문자는
+     * String.equalsIgnoreCase와 같은 규칙(toUpperCase 후 toLowerCase)으로 접습니다.
+     */
+    static int hash(String key) {
+        int h = 0;
+        for (int i = 0, n = key.length(); i < n; ) {
+            char c = key.charAt(i);
+            if (c < 0x80) {
+                if (c >= 'A' && c <= 'Z') {
+                    c += 'a' - 'A';
+                }
+                h = 31 * h + c;
+                i++;
+            } else {
+                int cp = key.codePointAt(i);
+                h = 31 * h + fold(cp);
+                i += Character.charCount(cp);
+            }
+        }
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * 키 비교는 String.equalsIgnoreCase 규칙을 따릅니다.
+     * (equalsIgnoreCase 가 같다고 보는 두 키는 항상 같은 hash 값을 가짐)
+     */
+    static boolean keyEquals(String a, String b) {
+        if (a == b) {
+            return true;
+        }
+        int length = a.length();
+        if (length != b.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char ca = a.charAt(i);
+            char cb = b.charAt(i);
+            if (ca == cb) {
+                continue;
+            }
+            if ((ca | cb) < 0x80) {
+                // ASCII: 영문자이면서 0x20(대소문자 비트)만 다른 경우만 같음
+                char lower = (char) (ca | 0x20);
+                if ((ca ^ cb) != 0x20 || lower < 'a' || lower > 'z') {
+                    return false;
+                }
+                continue;
+            }
+            return a.equalsIgnoreCase(b);
+        }
+        return true;
+    }
+
+    private static int fold(int codePoint) {
+        return Character.toLowerCase(Character.toUpperCase(codePoint));
+    }
+
+    /** 입력 순서 엔트리 (Map.Entry 를 직접 구현하여 순회 시 추가 할당 없음) */
+    private static final class Node implements Map.Entry<String, Object> {
+        String key;
+        final int hash;
+        Object value;
+
+        Node(String key, int hash, Object value) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return value;
+        }
+
+        @Override
+        public Object setValue(Object newValue) {
+            Object old = value;
+            value = newValue;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Map.Entry<?, ?> e
+                    && Objects.equals(key, e.getKey())
+                    && Objects.equals(value, e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            CustomMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+        private int cursor = advance(0);
+        private Node last;
+        private int expectedModCount = modCount;
+
+        private int advance(int from) {
+            while (from < end && entries[from] == null) {
+                from++;
+            }
+            return from;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < end;
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (cursor >= end) {
+                throw new NoSuchElementException();
+            }
+            last = entries[cursor];
+            cursor = advance(cursor + 1);
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            CustomMap.this.remove(last.key);
+            last = null;
+            expectedModCount = modCount;
+        }
+    }
+
+    // --- 직렬화: 엔트리만 기록하고 인덱스는 읽을 때 다시 생성 ---
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int i = 0; i < end; i++) {
+            Node node = entries[i];
+            if (node != null) {
+                out.writeObject(node.key);
+                out.writeObject(node.value);
+            }
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        int count = in.readInt();
+        if (count < 0) {
+            throw new InvalidObjectException("size < 0");
+        }
+        init(Math.max(count, 1));
+        for (int i = 0; i < count; i++) {
+            String key = (String) in.readObject();
+            putValue(key, in.readObject());
         }
     }
 
@@ -243,13 +647,9 @@ public class CustomMap extends ListOrderedMap<String, Object> {
         return new CustomMap(); // Map이 아니면 빈 CustomMap 반환
     }
 
-    // toString() 메서드는 Gson 사용 없이 기본 Map.toString()을 사용하거나
-    // @Override public String toString() { return super.toString(); } 으로 변경
-    // 또는 Lombok @ToString 사용
-    // Gson 의존성이 불필요하다면 제거
     @Override
     public String toString() {
-        return super.toString(); // ListOrderedMap의 toString() 사용
+        return super.toString(); // {key=value, ...} 형식 (입력 순서)
     }
 
 }
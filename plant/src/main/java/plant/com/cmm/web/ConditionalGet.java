@@ -0,0 +1,24 @@
+package plant.com.cmm.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 읽기 위주 조회 API 에 ETag / Last-Modified 조건부 요청 처리를 붙이는 어노테이션입니다.
+/**
+ * 조건부 GET
+ * - value: ResourceVersionRegistry 의 리소스 이름 (쓰기 쪽에서 bump 하는 이름 또는 VersionStampProvider 이름)
+ * - ConditionalGetInterceptor 가 서비스 호출 전에 If-None-Match / If-Modified-Since 를 비교, 같으면 본문 없이 304
+ * - daily: 오늘 날짜에 따라 결과가 달라지는 조회 (regDays 등 상대 기간) 는 날짜가 바뀌면 다른 버전으로 취급
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalGet {
+
+    String value();
+
+    boolean daily() default false;
+}
@@ -0,0 +1,100 @@
+package plant.com.cmm.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 조건부 GET 에 쓰는 리소스별 버전(ETag / Last-Modified) 을 관리하는 클래스입니다.
+/**
+ * 리소스 버전 저장소
+ * - 리소스 이름별 쓰기 카운터, 쓰기 서비스가 커밋 후 bumpAfterCommit 호출
+ * - 버전은 서비스 호출 전에 읽으므로, 조회와 쓰기가 겹쳐도 새 본문이 이전 버전으로 저장될 뿐 (다음 요청에서 갱신, 오래된 본문이 새 버전으로 남지 않음)
+ * - 태그 = 리소스.기동시각.버전 (재시작하면 모든 태그 무효)
+ * - Last-Modified 는 초 단위로 내려가므로 쓰기마다 최소 1초씩 증가 (같은 초 안의 연속 쓰기도 구분)
+ * - VersionStampProvider 빈이 있으면 해당 이름은 제공자가 계산
+ */
+@Component
+public class ResourceVersionRegistry {
+
+    /** tag: ETag 값 (따옴표 제외), lastModifiedMillis: 0 이하이면 Last-Modified 생략 */
+    public record VersionStamp(String tag, long lastModifiedMillis) {
+    }
+
+    private static final class Version {
+        private long version;
+        private long lastModifiedMillis;
+
+        Version(long lastModifiedMillis) {
+            this.lastModifiedMillis = lastModifiedMillis;
+        }
+
+        synchronized VersionStamp stamp(String resource, String bootTag) {
+            return new VersionStamp(resource + "." + bootTag + "." + version, lastModifiedMillis);
+        }
+
+        synchronized void bump(long nowMillis) {
+            version++;
+            lastModifiedMillis = Math.max(nowMillis, lastModifiedMillis + 1000);
+        }
+    }
+
+    private final long bootMillis = System.currentTimeMillis();
+    private final String bootTag = Long.toString(bootMillis, 36);
+    private final Map<String, Version> versions = new ConcurrentHashMap<>();
+    private final ObjectProvider<VersionStampProvider> providerBeans;
+    private volatile Map<String, VersionStampProvider> providers; // 제공자가 이 저장소를 주입받으므로 첫 조회 때 수집
+
+    public ResourceVersionRegistry(ObjectProvider<VersionStampProvider> providerBeans) {
+        this.providerBeans = providerBeans;
+    }
+
+    /** 쓰기 카운터 기준 현재 버전 */
+    public VersionStamp stamp(String resource) {
+        return version(resource).stamp(resource, bootTag);
+    }
+
+    /** 요청 기준 버전, 조건부 처리하지 않을 요청이면 null */
+    public VersionStamp stamp(String resource, HttpServletRequest request) {
+        VersionStampProvider provider = providers().get(resource);
+        return provider != null ? provider.stamp(request) : stamp(resource);
+    }
+
+    public void bump(String resource) {
+        version(resource).bump(System.currentTimeMillis());
+    }
+
+    /** 트랜잭션 안이면 커밋 후, 아니면 즉시 버전 증가 */
+    public void bumpAfterCommit(String resource) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(resource);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump(resource);
+            }
+        });
+    }
+
+    private Map<String, VersionStampProvider> providers() {
+        Map<String, VersionStampProvider> current = providers;
+        if (current == null) {
+            current = providerBeans.orderedStream()
+                    .collect(Collectors.toUnmodifiableMap(VersionStampProvider::resource, Function.identity()));
+            providers = current;
+        }
+        return current;
+    }
+
+    private Version version(String resource) {
+        return versions.computeIfAbsent(resource, k -> new Version(bootMillis));
+    }
+}
@@ -0,0 +1,16 @@
+package plant.com.cmm.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+// 요청별로 버전을 계산해야 하는 리소스의 버전 제공자 인터페이스입니다.
+/**
+ * 버전 제공자
+ * - 빈으로 등록하면 ResourceVersionRegistry 가 resource() 이름으로 사용 (쓰기 카운터보다 우선)
+ * - stamp 가 null 이면 해당 요청은 조건부 처리 없이 매번 새로 조회
+ */
+public interface VersionStampProvider {
+
+    String resource();
+
+    ResourceVersionRegistry.VersionStamp stamp(HttpServletRequest request);
+}
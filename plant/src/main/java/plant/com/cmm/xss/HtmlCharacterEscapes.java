@@ -6,10 +6,23 @@ import com.fasterxml.jackson.core.io.CharacterEscapes;
 import com.fasterxml.jackson.core.io.SerializedString;
 import org.apache.commons.text.StringEscapeUtils;
 
+/**
+ * JSON 출력 시 HTML 특수문자를 엔티티로 치환하는 CharacterEscapes
+ *
+ * <p>치환 결과(StringEscapeUtils.escapeHtml4 기준)는 클래스 로딩 시 한 번만 계산하여 표로 보관합니다.
+ * Jackson 은 ESCAPE_CUSTOM 으로 표시한 ASCII 문자와 모든 비 ASCII 문자에 대해 getEscapeSequence 를 호출하므로,
+ * 표에서 조회만 하고 치환이 없는 문자(한글 등)는 null 을 반환하여 그대로 출력되게 합니다.</p>
+ *
+ * <p>escapeHtml4 가 바꾸지 않는 '(' ')' '#' '\'' 는 기존에도 같은 문자가 출력되었으므로
+ * ESCAPE_CUSTOM 대상에서 제외했습니다. (출력 결과 동일)</p>
+ */
 public class HtmlCharacterEscapes extends CharacterEscapes {
 
     private static final long serialVersionUID = -6353236148390563705L;
 
+    /** 코드 포인트 → 이스케이프 문자열 (치환 없는 문자는 null), escapeHtml4 대상 최대 코드(U+2666)까지 */
+    private static final SerializableString[] ESCAPES = buildEscapeTable();
+
     private final int[] asciiEscapes;
 
     public HtmlCharacterEscapes() {
@@ -17,11 +30,8 @@ public class HtmlCharacterEscapes extends CharacterEscapes {
         this.asciiEscapes['<'] = CharacterEscapes.ESCAPE_CUSTOM;
         this.asciiEscapes['>'] = CharacterEscapes.ESCAPE_CUSTOM;
         this.asciiEscapes['\"'] = CharacterEscapes.ESCAPE_CUSTOM;
-        this.asciiEscapes['('] = CharacterEscapes.ESCAPE_CUSTOM;
-        this.asciiEscapes[')'] = CharacterEscapes.ESCAPE_CUSTOM;
-        this.asciiEscapes['#'] = CharacterEscapes.ESCAPE_CUSTOM;
-        this.asciiEscapes['\''] = CharacterEscapes.ESCAPE_CUSTOM;
     }
+
     @Override
     public int[] getEscapeCodesForAscii() {
         return asciiEscapes;
@@ -29,6 +39,21 @@ public class HtmlCharacterEscapes extends CharacterEscapes {
 
     @Override
     public SerializableString getEscapeSequence(int ch) {
-        return new SerializedString(StringEscapeUtils.escapeHtml4(Character.toString((char) ch)));
+        return ch < ESCAPES.length ? ESCAPES[ch] : null;
+    }
+
+    private static SerializableString[] buildEscapeTable() {
+        SerializableString[] table = new SerializableString[0x2667];
+        for (int ch = 0; ch < table.length; ch++) {
+            if (Character.isSurrogate((char) ch)) {
+                continue;
+            }
+            String source = Character.toString((char) ch);
+            String escaped = StringEscapeUtils.escapeHtml4(source);
+            if (!source.equals(escaped)) {
+                table[ch] = new SerializedString(escaped);
+            }
+        }
+        return table;
     }
-}
\ No newline at end of file
+}
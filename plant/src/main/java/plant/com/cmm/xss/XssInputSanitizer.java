@@ -0,0 +1,105 @@
+// SANITIZE_INPUT 경로의 요청 값을 이스케이프하는 유틸 클래스입니다.
+package plant.com.cmm.xss;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadFeature;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static plant.com.cmm.filter.EsxapeFilerPattern.esxapeFilerPattern;
+
+/**
+ * 요청 입력 필터링 규칙 (HTML 특수문자 치환 + EsxapeFilerPattern)
+ * - sanitizeHtml: 문자열 값 하나 (역직렬화기 / JsonNode 팩토리)
+ * - sanitizeJson: @RequestBody String 으로 받는 JSON 본문 (XssSanitizingStringHttpMessageConverter)
+ */
+public final class XssInputSanitizer {
+
+    // 파서/생성기 공용 팩토리 (요청 스트림은 컨테이너가 닫도록 AUTO_CLOSE_SOURCE 해제)
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamReadFeature.AUTO_CLOSE_SOURCE)
+            .build();
+
+    private XssInputSanitizer() {
+    }
+
+    /**
+     * JSON 본문을 JsonParser → JsonGenerator 로 그대로 복사하면서 문자열 값(VALUE_STRING)만 이스케이프 처리
+     * - 필드명, 숫자, 불리언, null, 구조 토큰은 그대로 복사 (기존 트리 방식과 동일하게 키는 변경하지 않음)
+     * - 최상위 값 하나만 처리하며, 본문이 비어 있으면 빈 배열 반환
+     *
+     * @param body    요청 본문 스트림
+     * @param charset 요청 문자셋 (결과도 같은 문자셋으로 인코딩)
+     * @return 필터링된 JSON 바이트
+     */
+    public static byte[] sanitizeJson(InputStream body, Charset charset) throws IOException {
+        boolean utf8 = StandardCharsets.UTF_8.equals(charset);
+        try (JsonParser parser = utf8
+                ? JSON_FACTORY.createParser(body) // UTF-8/16/32 자동 감지
+                : JSON_FACTORY.createParser(new InputStreamReader(body, charset))) {
+
+            JsonToken token = parser.nextToken();
+            if (token == null) {
+                return new byte[0]; // 입력이 비어 있으면 그대로 반환
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+            try (JsonGenerator generator = utf8
+                    ? JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)
+                    : JSON_FACTORY.createGenerator(new OutputStreamWriter(out, charset))) {
+                do {
+                    if (token == JsonToken.VALUE_STRING) {
+                        generator.writeString(sanitizeHtml(parser.getText()));
+                    } else {
+                        generator.copyCurrentEvent(parser);
+                    }
+                    // 최상위 값이 끝나면 종료 (닫히지 않은 본문은 nextToken 에서 예외 발생)
+                    if (parser.getParsingContext().inRoot()) {
+                        break;
+                    }
+                } while ((token = parser.nextToken()) != null);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * HTML 특수문자를 이스케이프 처리 (특수문자가 없으면 복사하지 않음)
+     */
+    public static String sanitizeHtml(String input) {
+        if (input == null) return null;
+
+        StringBuilder sb = null;
+        int copied = 0;
+        for (int i = 0, length = input.length(); i < length; i++) {
+            String replacement;
+            switch (input.charAt(i)) {
+                case '<': replacement = "&lt;"; break;      // <
+                case '>': replacement = "&gt;"; break;      // >
+                case '&': replacement = "&amp;"; break;     // &
+                case '"': replacement = "&quot;"; break;    // "
+                case '\'': replacement = "&apos;"; break;   // '
+                default: continue;                          // 그 외는 그대로
+            }
+            if (sb == null) {
+                sb = new StringBuilder(length + 16);
+            }
+            sb.append(input, copied, i).append(replacement);
+            copied = i + 1;
+        }
+        String cleanedValue = sb == null ? input : sb.append(input, copied, input.length()).toString();
+        // 추가적인 XSS 패턴 제거
+        cleanedValue = esxapeFilerPattern(cleanedValue);
+        return cleanedValue;
+    }
+}
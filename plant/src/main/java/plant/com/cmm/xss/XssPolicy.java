@@ -0,0 +1,39 @@
+// 컨트롤러/핸들러 단위로 XSS 필터링 방식을 지정하는 어노테이션입니다.
+package plant.com.cmm.xss;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * XSS 필터링 정책
+ * - 메서드에 선언하면 클래스 선언보다 우선합니다.
+ * - 선언이 없는 경로는 xss.policy.default (기본 SANITIZE_OUTPUT) 를 따릅니다.
+ * - 경로 매칭은 애플리케이션 시작 시 한 번만 컴파일됩니다. (XssPolicyResolver)
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface XssPolicy {
+
+    Mode value();
+
+    enum Mode {
+        /** 요청/응답 모두 필터링하지 않음 (장비 간 통신, 바이너리 업로드 등 HTML 로 표시되지 않는 경로) */
+        RAW,
+        /** 요청 본문/파라미터를 필터링하고 응답은 그대로 전송 (이중 이스케이프 방지) */
+        SANITIZE_INPUT,
+        /** 응답(JSON/String)만 필터링 - 기존 기본 동작 */
+        SANITIZE_OUTPUT;
+
+        public boolean sanitizesInput() {
+            return this == SANITIZE_INPUT;
+        }
+
+        public boolean sanitizesOutput() {
+            return this == SANITIZE_OUTPUT;
+        }
+    }
+}
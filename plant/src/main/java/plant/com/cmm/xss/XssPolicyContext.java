@@ -0,0 +1,42 @@
+// 현재 요청에 적용된 XSS 필터링 정책을 조회하는 유틸 클래스입니다.
+package plant.com.cmm.xss;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * EscapeFilter 가 요청 속성에 기록한 정책을 응답 컨버터에서 조회합니다.
+ * 요청 속성을 사용하므로 비동기 디스패치에서도 같은 정책이 유지되고,
+ * 요청 컨텍스트가 없는 경우(SSE 스케줄러 전송 등)에는 기존처럼 응답을 필터링합니다.
+ */
+public final class XssPolicyContext {
+
+    public static final String ATTRIBUTE = XssPolicyContext.class.getName() + ".MODE";
+
+    private XssPolicyContext() {
+    }
+
+    /**
+     * @return 현재 요청의 응답을 필터링해야 하면 true (정책 정보가 없으면 true)
+     */
+    public static boolean sanitizeOutput() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return true;
+        }
+        Object mode = attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return !(mode instanceof XssPolicy.Mode) || ((XssPolicy.Mode) mode).sanitizesOutput();
+    }
+
+    /**
+     * @return 현재 요청의 본문을 역직렬화하면서 필터링해야 하면 true (SANITIZE_INPUT 정책일 때만)
+     */
+    public static boolean sanitizeInput() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return false;
+        }
+        Object mode = attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return mode instanceof XssPolicy.Mode && ((XssPolicy.Mode) mode).sanitizesInput();
+    }
+}
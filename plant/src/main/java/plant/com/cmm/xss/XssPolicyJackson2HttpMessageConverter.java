@@ -0,0 +1,70 @@
+// XSS 필터링 정책에 따라 응답 ObjectMapper를 선택하는 JSON 메시지 컨버터입니다.
+package plant.com.cmm.xss;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * 기본은 보안 ObjectMapper(XssSanitizerSerializer + HtmlCharacterEscapes)로 직렬화하고,
+ * 현재 요청의 정책이 응답 필터링 대상이 아니면(RAW, SANITIZE_INPUT) 일반 ObjectMapper로 직렬화합니다.
+ * SANITIZE_INPUT 정책의 요청 본문은 입력 필터링 ObjectMapper로 역직렬화하면서 문자열 값을 필터링합니다. (본문 1회 파싱)
+ * 헤더/JsonView/인코딩 처리는 상위 클래스를 그대로 사용합니다.
+ */
+public class XssPolicyJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final RawConverter rawConverter;
+    private final RawConverter inputConverter;
+
+    public XssPolicyJackson2HttpMessageConverter(ObjectMapper secureMapper, ObjectMapper rawMapper, ObjectMapper inputMapper) {
+        super(secureMapper);
+        this.rawConverter = new RawConverter(rawMapper);
+        this.inputConverter = new RawConverter(inputMapper);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        if (XssPolicyContext.sanitizeInput()) {
+            return inputConverter.read(type, contextClass, inputMessage);
+        }
+        return super.read(type, contextClass, inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+        if (XssPolicyContext.sanitizeInput()) {
+            return inputConverter.read(clazz, null, inputMessage);
+        }
+        return super.readInternal(clazz, inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        if (XssPolicyContext.sanitizeOutput()) {
+            super.writeInternal(object, type, outputMessage);
+        } else {
+            rawConverter.writeRaw(object, type, outputMessage);
+        }
+    }
+
+    /** 지정한 ObjectMapper로 읽고 쓰는 내부 컨버터 (응답 필터링 없는 직렬화 / 입력 필터링 역직렬화, protected writeInternal 호출용) */
+    private static final class RawConverter extends MappingJackson2HttpMessageConverter {
+
+        private RawConverter(ObjectMapper rawMapper) {
+            super(rawMapper);
+        }
+
+        private void writeRaw(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+            writeInternal(object, type, outputMessage);
+        }
+    }
+}
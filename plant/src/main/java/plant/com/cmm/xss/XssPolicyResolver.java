@@ -0,0 +1,138 @@
+// 요청 경로에 적용할 XSS 필터링 정책을 결정하는 클래스입니다.
+package plant.com.cmm.xss;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 요청 경로 → XssPolicy.Mode 결정
+ * - 우선순위: 설정(xss.policy.*-paths) > @XssPolicy(메서드 > 클래스) > xss.policy.default
+ * - 모든 경로 패턴은 시작 시 PathPattern 으로 한 번만 컴파일하고, 요청마다 순서대로 매칭만 수행합니다.
+ * - @XssPolicy 규칙은 컨텍스트 초기화 완료 후 핸들러 매핑에서 수집합니다.
+ */
+@Slf4j
+@Component
+public class XssPolicyResolver {
+
+    private static final PathPatternParser PARSER = PathPatternParser.defaultInstance;
+
+    private final XssPolicy.Mode defaultMode;
+    private final List<Rule> configuredRules;
+    private volatile List<Rule> rules;
+
+    public XssPolicyResolver(@Value("${xss.policy.default:SANITIZE_OUTPUT}") XssPolicy.Mode defaultMode,
+                             @Value("${xss.policy.raw-paths:}") String[] rawPaths,
+                             @Value("${xss.policy.input-paths:}") String[] inputPaths,
+                             @Value("${xss.policy.output-paths:}") String[] outputPaths) {
+        this.defaultMode = defaultMode;
+        List<Rule> configured = new ArrayList<>();
+        addPathRules(configured, rawPaths, XssPolicy.Mode.RAW);
+        addPathRules(configured, inputPaths, XssPolicy.Mode.SANITIZE_INPUT);
+        addPathRules(configured, outputPaths, XssPolicy.Mode.SANITIZE_OUTPUT);
+        configured.sort(Comparator.comparing(Rule::pattern, PathPattern.SPECIFICITY_COMPARATOR));
+        this.configuredRules = List.copyOf(configured);
+        this.rules = this.configuredRules;
+    }
+
+    /**
+     * 컨텍스트 초기화 후 @XssPolicy 가 선언된 핸들러의 경로/메서드를 규칙으로 컴파일
+     */
+    @EventListener
+    public void onContextRefreshed(ContextRefreshedEvent event) {
+        ApplicationContext context = event.getApplicationContext();
+        if (!context.containsBean("requestMappingHandlerMapping")) {
+            return;
+        }
+        RequestMappingHandlerMapping mapping =
+                context.getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
+
+        List<Rule> annotated = new ArrayList<>();
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : mapping.getHandlerMethods().entrySet()) {
+            HandlerMethod handler = entry.getValue();
+            XssPolicy policy = AnnotatedElementUtils.findMergedAnnotation(handler.getMethod(), XssPolicy.class);
+            if (policy == null) {
+                policy = AnnotatedElementUtils.findMergedAnnotation(handler.getBeanType(), XssPolicy.class);
+            }
+            if (policy == null) {
+                continue;
+            }
+            Set<String> methods = new HashSet<>();
+            for (RequestMethod method : entry.getKey().getMethodsCondition().getMethods()) {
+                methods.add(method.name());
+            }
+            for (String pattern : entry.getKey().getPatternValues()) {
+                annotated.add(new Rule(PARSER.parse(pattern), methods, policy.value()));
+            }
+        }
+        annotated.sort(Comparator.comparing(Rule::pattern, PathPattern.SPECIFICITY_COMPARATOR));
+
+        List<Rule> compiled = new ArrayList<>(configuredRules);
+        compiled.addAll(annotated);
+        this.rules = List.copyOf(compiled);
+        log.info("XSS 정책 규칙 {}건 (설정 {}건, @XssPolicy {}건), 기본 {}",
+                compiled.size(), configuredRules.size(), annotated.size(), defaultMode);
+    }
+
+    /**
+     * @param request 현재 요청
+     * @return 적용할 정책
+     */
+    public XssPolicy.Mode resolve(HttpServletRequest request) {
+        List<Rule> current = rules;
+        if (current.isEmpty()) {
+            return defaultMode;
+        }
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        PathContainer path = PathContainer.parsePath(
+                contextPath.isEmpty() ? uri : uri.substring(contextPath.length()));
+        String method = request.getMethod();
+        for (Rule rule : current) {
+            if (rule.matches(path, method)) {
+                return rule.mode();
+            }
+        }
+        return defaultMode;
+    }
+
+    public XssPolicy.Mode getDefaultMode() {
+        return defaultMode;
+    }
+
+    private static void addPathRules(List<Rule> target, String[] paths, XssPolicy.Mode mode) {
+        for (String path : paths) {
+            if (!path.isBlank()) {
+                target.add(new Rule(PARSER.parse(path.trim()), Collections.emptySet(), mode));
+            }
+        }
+    }
+
+    /** 컴파일된 경로 패턴 + HTTP 메서드(비어 있으면 전체) + 정책 */
+    private record Rule(PathPattern pattern, Set<String> methods, XssPolicy.Mode mode) {
+
+        boolean matches(PathContainer path, String method) {
+            return (methods.isEmpty() || methods.contains(method)) && pattern.matches(path);
+        }
+    }
+}
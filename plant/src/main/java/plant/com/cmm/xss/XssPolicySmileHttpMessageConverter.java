@@ -0,0 +1,59 @@
+// XSS 필터링 정책에 따라 응답 ObjectMapper를 선택하는 Smile(바이너리 JSON) 메시지 컨버터입니다.
+package plant.com.cmm.xss;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * JSON 컨버터(XssPolicyJackson2HttpMessageConverter)와 같은 규칙으로 ObjectMapper를 선택합니다.
+ * 기본은 보안 Smile ObjectMapper(XssSanitizerSerializer)로 직렬화하고,
+ * 현재 요청의 정책이 응답 필터링 대상이 아니면(RAW, SANITIZE_INPUT) 일반 Smile ObjectMapper로 직렬화합니다.
+ * SANITIZE_INPUT 입력 필터링은 JSON / String 컨버터에만 있으므로 Smile 요청 본문은 받지 않습니다. (응답 전용)
+ */
+public class XssPolicySmileHttpMessageConverter extends MappingJackson2SmileHttpMessageConverter {
+
+    private final RawConverter rawConverter;
+
+    public XssPolicySmileHttpMessageConverter(ObjectMapper secureMapper, ObjectMapper rawMapper) {
+        super(secureMapper);
+        this.rawConverter = new RawConverter(rawMapper);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        if (XssPolicyContext.sanitizeOutput()) {
+            super.writeInternal(object, type, outputMessage);
+        } else {
+            rawConverter.writeRaw(object, type, outputMessage);
+        }
+    }
+
+    /** 필터링 없이 직렬화하는 내부 컨버터 (protected writeInternal 호출용) */
+    private static final class RawConverter extends MappingJackson2SmileHttpMessageConverter {
+
+        private RawConverter(ObjectMapper rawMapper) {
+            super(rawMapper);
+        }
+
+        private void writeRaw(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+            writeInternal(object, type, outputMessage);
+        }
+    }
+}
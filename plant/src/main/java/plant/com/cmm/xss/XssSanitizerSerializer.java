@@ -5,17 +5,50 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import plant.com.cmm.filter.EsxapeFilerPattern;
+import plant.com.cmm.filter.EsxapeFilerScanner;
 
 import java.io.IOException;
 
+/**
+ * 문자열 값을 XSS 패턴 필터링 후 한 번에 JsonGenerator 로 기록합니다.
+ * - 변경이 없는 문자열(대부분): 추가 할당 없이 그대로 writeString
+ * - on이벤트= / href / style 치환: 스레드별 char[] 버퍼에 치환 결과를 기록하고 writeString(char[], ...) 로 전달
+ *   (중간 String 생성 없음, HTML 특수문자 이스케이프는 생성기가 복사하면서 HtmlCharacterEscapes 표로 처리)
+ * - 스크립트/태그 등 공격 패턴 후보: 기존 정규식 체인 결과를 기록
+ */
 public class XssSanitizerSerializer extends JsonSerializer<String> {
 
+    /** 이 크기를 넘는 버퍼는 스레드에 보관하지 않음 (대용량 문자열 1회로 메모리를 계속 점유하지 않도록) */
+    private static final int MAX_CACHED_BUFFER = 16 * 1024;
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[256]);
+
     @Override
     public void serialize(String value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
         if (value != null) {
-            // EsxapeFilerPattern의 정규식 필터링을 적용합니다.
-            String sanitized = EsxapeFilerPattern.esxapeFilerPattern(value);
-            gen.writeString(sanitized);
+            int firstRewrite = EsxapeFilerScanner.findFirstRewrite(value);
+            if (firstRewrite == EsxapeFilerScanner.UNCHANGED) {
+                gen.writeString(value);
+            } else if (firstRewrite == EsxapeFilerScanner.REGEX_REQUIRED) {
+                // EsxapeFilerPattern의 정규식 필터링을 적용합니다.
+                gen.writeString(EsxapeFilerPattern.esxapeFilerPattern(value));
+            } else {
+                char[] buffer = buffer(EsxapeFilerScanner.maxRewrittenLength(value.length()));
+                int length = EsxapeFilerScanner.rewrite(value, firstRewrite, buffer);
+                gen.writeString(buffer, 0, length);
+            }
+        }
+    }
+
+    private static char[] buffer(int required) {
+        char[] buffer = BUFFER.get();
+        if (buffer.length >= required) {
+            return buffer;
+        }
+        buffer = new char[Math.max(required, buffer.length * 2)];
+        if (buffer.length <= MAX_CACHED_BUFFER) {
+            BUFFER.set(buffer);
         }
+        return buffer;
     }
 }
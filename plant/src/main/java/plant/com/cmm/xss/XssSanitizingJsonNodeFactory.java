@@ -0,0 +1,17 @@
+// 요청 본문을 JsonNode 로 읽을 때 문자열 노드를 XSS 필터링하는 클래스입니다.
+package plant.com.cmm.xss;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+/**
+ * JsonNode 본문 / readTree 를 쓰는 역직렬화기(CustomMapJsonDeserializer 등)는 String 역직렬화기를 거치지 않으므로
+ * 문자열 노드 생성 시점에 같은 규칙(XssInputSanitizer.sanitizeHtml)으로 필터링합니다.
+ */
+public class XssSanitizingJsonNodeFactory extends JsonNodeFactory {
+
+    @Override
+    public TextNode textNode(String text) {
+        return super.textNode(XssInputSanitizer.sanitizeHtml(text));
+    }
+}
@@ -0,0 +1,26 @@
+// 요청 본문 역직렬화 중에 문자열 값을 XSS 필터링하는 클래스입니다.
+package plant.com.cmm.xss;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+
+import java.io.IOException;
+
+/**
+ * SANITIZE_INPUT 경로의 @RequestBody 문자열 값(DTO 필드, Map/List 요소)을 읽으면서 바로 필터링합니다.
+ * - 필터링 규칙은 XssInputSanitizer.sanitizeHtml 이고, 본문을 다시 쓰지 않으므로 JSON 은 한 번만 파싱
+ * - 필드명(Map 키)은 기존 래퍼와 같이 변경하지 않음
+ */
+public class XssSanitizingStringDeserializer extends StdScalarDeserializer<String> {
+
+    public XssSanitizingStringDeserializer() {
+        super(String.class);
+    }
+
+    @Override
+    public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return XssInputSanitizer.sanitizeHtml(StringDeserializer.instance.deserialize(p, ctxt));
+    }
+}
@@ -1,18 +1,40 @@
 package plant.com.cmm.xss;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.springframework.http.HttpInputMessage;
 import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import plant.com.cmm.filter.EsxapeFilerPattern;
 
 import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 // XSS 방지를 위해 문자열을 안전하게 처리하는 HTTP 메시지 컨버터입니다.
+// SANITIZE_INPUT 경로의 @RequestBody String 은 JSON 본문이면 문자열 값만 필터링하고, 그 외 형식(text/plain 등)은 그대로 전달합니다.
 public class XssSanitizingStringHttpMessageConverter extends StringHttpMessageConverter {
 
+    @Override
+    protected String readInternal(Class<? extends String> clazz, HttpInputMessage inputMessage) throws IOException {
+        MediaType contentType = inputMessage.getHeaders().getContentType();
+        if (!XssPolicyContext.sanitizeInput() || contentType == null || !contentType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+            return super.readInternal(clazz, inputMessage);
+        }
+        // JSON 컨버터를 거치지 않는 String 본문 - 본문을 토큰 단위로 복사하면서 문자열 값만 이스케이프
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+        try {
+            return new String(XssInputSanitizer.sanitizeJson(inputMessage.getBody(), charset), charset);
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + e.getOriginalMessage(), e, inputMessage);
+        }
+    }
+
     @Override
     protected void writeInternal(String str, HttpOutputMessage outputMessage) throws IOException {
-        // 문자열을 클라이언트로 보내기 직전에 XSS 필터링을 적용합니다.
-        String sanitizedString = EsxapeFilerPattern.esxapeFilerPattern(str);
+        // 문자열을 클라이언트로 보내기 직전에 XSS 필터링을 적용합니다. (RAW/SANITIZE_INPUT 정책 경로는 제외)
+        String sanitizedString = XssPolicyContext.sanitizeOutput() ? EsxapeFilerPattern.esxapeFilerPattern(str) : str;
         super.writeInternal(sanitizedString, outputMessage);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,36 @@
+// 응답 압축 필터(ResponseCompressionFilter) 등록을 담당하는 클래스입니다.
+package plant.com.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import plant.com.cmm.compression.DeflaterPool;
+import plant.com.cmm.compression.ResponseCompressionFilter;
+
+@Configuration
+public class CompressionConfig {
+
+    /**
+     * ResponseCompressionFilter 를 가장 바깥에 등록하여 다른 필터/컨버터가 쓴 최종 본문을 압축합니다.
+     * http.compression.enabled=false 이면 등록하지 않습니다. (Tomcat server.compression 과 함께 켜지 않음)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "http.compression.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<ResponseCompressionFilter> responseCompressionFilterRegistration(
+            DeflaterPool deflaterPool,
+            MeterRegistry meterRegistry,
+            @Value("${http.compression.min-response-size:2048}") int minResponseSize,
+            @Value("${http.compression.mime-types:application/json,application/x-jackson-smile,application/x-ndjson,text/csv,text/plain}") String[] mimeTypes,
+            @Value("${http.compression.exclude-paths:}") String[] excludePaths) {
+        FilterRegistrationBean<ResponseCompressionFilter> registration = new FilterRegistrationBean<>(
+                new ResponseCompressionFilter(deflaterPool, meterRegistry, minResponseSize, mimeTypes, excludePaths));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registration.setName("responseCompressionFilter");
+        return registration;
+    }
+}
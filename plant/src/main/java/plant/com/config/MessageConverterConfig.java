@@ -4,30 +4,66 @@ package plant.com.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import plant.com.cmm.xss.HtmlCharacterEscapes;
+import plant.com.cmm.xss.XssPolicyJackson2HttpMessageConverter;
+import plant.com.cmm.xss.XssPolicySmileHttpMessageConverter;
+import plant.com.cmm.xss.XssSanitizingJsonNodeFactory;
+import plant.com.cmm.xss.XssSanitizingStringDeserializer;
 import plant.com.cmm.xss.XssSanitizerSerializer;
 import plant.com.cmm.xss.XssSanitizingStringHttpMessageConverter;
 
+import java.util.List;
+
 @Configuration
 public class MessageConverterConfig {
 
     @Bean
     public HttpMessageConverters customHttpMessageConverters() {
         // 1. 보안 ObjectMapper를 생성합니다.
-        ObjectMapper secureMapper = new ObjectMapper();
+        ObjectMapper secureMapper = createSecureObjectMapper();
 
-        // --- 수정된 부분 시작 ---
-        // Java 8의 날짜/시간 타입(LocalDateTime 등)을 올바르게 변환하기 위해 JavaTimeModule을 등록합니다.
-        secureMapper.registerModule(new JavaTimeModule());
-        // 날짜를 숫자(타임스탬프)가 아닌, 표준 문자열(ISO-8601) 형식으로 변환하도록 설정합니다.
-        secureMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        // --- 수정된 부분 끝 ---
+        // 2. 이 ObjectMapper를 사용하는 JSON 컨버터를 생성합니다.
+        //    @XssPolicy(RAW / SANITIZE_INPUT) 경로의 응답은 필터링 없는 ObjectMapper로 직렬화합니다.
+        //    SANITIZE_INPUT 경로의 요청 본문은 역직렬화하면서 문자열 값을 필터링합니다.
+        MappingJackson2HttpMessageConverter jsonConverter =
+                new XssPolicyJackson2HttpMessageConverter(secureMapper, createRawObjectMapper(), createInputSanitizingObjectMapper());
+
+        // String 전용 변환기를 생성합니다. (SANITIZE_INPUT 경로의 JSON 본문을 String 으로 받으면 문자열 값을 필터링)
+        // 이거 쓰지 말고 return Map.of("data", "<script>alert('공격')</script>"); 이런식으로 할까
+        HttpMessageConverter<?> stringConverter = new XssSanitizingStringHttpMessageConverter();
+
+        // 모바일 앱 전용 바이너리 JSON (Accept: application/x-jackson-smile 일 때만 선택, 응답 전용)
+        //    JSON 컨버터보다 뒤에 두어 Accept: */* 요청은 기존과 같이 JSON 으로 응답합니다.
+        //    @XssPolicy 에 따른 ObjectMapper 선택은 JSON 컨버터와 같습니다.
+        MappingJackson2SmileHttpMessageConverter smileConverter =
+                new XssPolicySmileHttpMessageConverter(createSmileObjectMapper(), createRawSmileObjectMapper());
+
+        // 3. 이 컨버터를 유일한 컨버터로 등록하여, Spring Boot가 반드시 사용하도록 강제합니다.
+        //    smile 라이브러리가 있으면 기본 Smile 컨버터(XSS 필터링 없음, 요청 본문 읽기 가능)도 추가되므로 제거합니다.
+        return new HttpMessageConverters(jsonConverter, stringConverter, smileConverter) {
+            @Override
+            protected List<HttpMessageConverter<?>> postProcessConverters(List<HttpMessageConverter<?>> converters) {
+                converters.removeIf(converter -> converter.getClass() == MappingJackson2SmileHttpMessageConverter.class);
+                return converters;
+            }
+        };
+    }
+
+    /**
+     * XSS 방어가 적용된 응답용 ObjectMapper를 생성합니다.
+     * HTTP 컨버터와 벤치마크(src/jmh)에서 동일한 설정을 사용하기 위해 분리했습니다.
+     */
+    public static ObjectMapper createSecureObjectMapper() {
+        ObjectMapper secureMapper = createRawObjectMapper();
 
         // Serializer 모듈 등록 (eval, onclick 등 패턴 필터링)
         SimpleModule xssModule = new SimpleModule();
@@ -36,16 +72,62 @@ public class MessageConverterConfig {
 
         // CharacterEscapes 등록 (<, > 등 특수문자 치환)
         secureMapper.getFactory().setCharacterEscapes(new HtmlCharacterEscapes());
+        return secureMapper;
+    }
 
-        // 2. 이 ObjectMapper를 사용하는 JSON 컨버터를 생성합니다.
-        MappingJackson2HttpMessageConverter jsonConverter = new MappingJackson2HttpMessageConverter(secureMapper);
+    /**
+     * Smile(바이너리 JSON) 응답용 ObjectMapper를 생성합니다.
+     * 문자열 패턴 필터링(XssSanitizerSerializer)은 JSON 과 같고, HTML 특수문자 치환은 텍스트 형식이 아니므로 적용하지 않습니다.
+     * 같은 키/짧은 문자열 값은 앞서 나온 값을 참조(shared names/values)하므로 행이 많은 목록일수록 크기가 줄어듭니다.
+     */
+    public static ObjectMapper createSmileObjectMapper() {
+        ObjectMapper smileMapper = createRawSmileObjectMapper();
 
-        // String 전용 변환기를 생성합니다.
-        // 이거 쓰지 말고 return Map.of("data", "<script>alert('공격')</script>"); 이런식으로 할까
-        HttpMessageConverter<?> stringConverter = new XssSanitizingStringHttpMessageConverter();
+        SimpleModule xssModule = new SimpleModule();
+        xssModule.addSerializer(String.class, new XssSanitizerSerializer());
+        smileMapper.registerModule(xssModule);
+        return smileMapper;
+    }
 
-        // 3. 이 컨버터를 유일한 컨버터로 등록하여, Spring Boot가 반드시 사용하도록 강제합니다.
-        return new HttpMessageConverters(jsonConverter,stringConverter);
+    /**
+     * XSS 필터링이 없는 Smile 응답용 ObjectMapper를 생성합니다. (@XssPolicy RAW / SANITIZE_INPUT 경로)
+     */
+    public static ObjectMapper createRawSmileObjectMapper() {
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        ObjectMapper smileMapper = new ObjectMapper(smileFactory);
+        smileMapper.registerModule(new JavaTimeModule());
+        smileMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return smileMapper;
+    }
+
+    /**
+     * SANITIZE_INPUT 경로의 요청 본문용 ObjectMapper를 생성합니다.
+     * 문자열 값(String 역직렬화기)과 JsonNode 문자열 노드(노드 팩토리)를 XssInputSanitizer.sanitizeHtml 규칙으로 필터링합니다.
+     * @RequestBody String 본문은 이 ObjectMapper 를 거치지 않으므로 String 컨버터(XssSanitizingStringHttpMessageConverter)에서 필터링합니다.
+     */
+    public static ObjectMapper createInputSanitizingObjectMapper() {
+        ObjectMapper inputMapper = createRawObjectMapper();
+
+        SimpleModule xssModule = new SimpleModule();
+        xssModule.addDeserializer(String.class, new XssSanitizingStringDeserializer());
+        inputMapper.registerModule(xssModule);
+        inputMapper.setNodeFactory(new XssSanitizingJsonNodeFactory());
+        return inputMapper;
+    }
+
+    /**
+     * XSS 필터링이 없는 응답용 ObjectMapper를 생성합니다. (날짜 형식 등 기본 설정은 보안 ObjectMapper와 동일)
+     */
+    public static ObjectMapper createRawObjectMapper() {
+        ObjectMapper rawMapper = new ObjectMapper();
+
+        // Java 8의 날짜/시간 타입(LocalDateTime 등)을 올바르게 변환하기 위해 JavaTimeModule을 등록합니다.
+        rawMapper.registerModule(new JavaTimeModule());
+        // 날짜를 숫자(타임스탬프)가 아닌, 표준 문자열(ISO-8601) 형식으로 변환하도록 설정합니다.
+        rawMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return rawMapper;
     }
 }
 
@@ -0,0 +1,89 @@
+package plant.com.config;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.AsyncAppenderBase;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import plant.com.cmm.interceptor.RequestLoggingAspect;
+import plant.com.cmm.interceptor.jpa.AsyncP6SpyLogger;
+import plant.dev.dashboard.service.DashboardLiveService;
+
+import java.util.concurrent.TimeUnit;
+
+// 애플리케이션 메트릭(대기열 길이, 구독자 수 등)을 Micrometer 에 등록하는 설정 클래스입니다.
+/**
+ * Prometheus(/actuator/prometheus, 관리 포트)로 노출되는 메트릭
+ * - 자동 등록: http.server.requests(경로 템플릿별 지연), hikaricp.connections.*(PersistenceConfig, 풀별 pool 태그), jvm.*, process.*
+ *   커넥션 대기 시간(hikaricp.connections.acquire)은 히스토그램으로 기록하여 풀별 p99 를 조회
+ * - 각 클래스에서 직접 기록: mybatis.statement(SqlMetricsRegistry), jwt.verify(JwtUtil), pi.frame.bytes(RaspberryPiController)
+ * - 이 클래스에서 등록: 비동기 로그 대기열 길이/유실 건수, 실시간 대시보드 구독자 수
+ *   (값은 스크레이프 시점에 읽기만 하므로 요청 처리 경로에 비용 없음)
+ */
+@Configuration
+public class MetricsConfig {
+
+    /** 요청 로그(logback-spring.xml 의 ASYNC_REQUEST) 대기열 */
+    static final String REQUEST_LOG_APPENDER = "ASYNC_REQUEST";
+
+    /** 커넥션 풀 대기 시간 - 분석 조회가 수집/일반 풀의 대기 시간에 영향을 주는지 확인용 */
+    @Bean
+    public MeterFilter connectionAcquireHistogram() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getName().equals("hikaricp.connections.acquire")) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .maximumExpectedValue((double) TimeUnit.SECONDS.toNanos(30))
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder dashboardLiveMetrics(DashboardLiveService dashboardLiveService) {
+        return registry -> Gauge.builder("dashboard.live.subscribers", dashboardLiveService, DashboardLiveService::getSubscriberCount)
+                .description("실시간 대시보드(SSE) 구독자 수")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder asyncLogQueueMetrics() {
+        return registry -> {
+            Gauge.builder("log.async.queue.size", MetricsConfig::requestLogQueueSize)
+                    .description("비동기 로그 출력 대기 건수")
+                    .tag("appender", "request")
+                    .register(registry);
+            Gauge.builder("log.async.queue.size", AsyncP6SpyLogger::pendingCount)
+                    .description("비동기 로그 출력 대기 건수")
+                    .tag("appender", "p6spy")
+                    .register(registry);
+            FunctionCounter.builder("log.async.dropped", AsyncP6SpyLogger.class, type -> AsyncP6SpyLogger.droppedCount())
+                    .description("대기열이 가득 차 버린 로그 건수")
+                    .tag("appender", "p6spy")
+                    .register(registry);
+        };
+    }
+
+    /** logback 설정이 다시 로드될 수 있으므로 스크레이프할 때마다 appender 를 조회 */
+    private static double requestLogQueueSize() {
+        if (LoggerFactory.getLogger(RequestLoggingAspect.class) instanceof Logger logger) {
+            Appender<?> appender = logger.getAppender(REQUEST_LOG_APPENDER);
+            if (appender instanceof AsyncAppenderBase<?> async) {
+                return async.getNumberOfElementsInQueue();
+            }
+        }
+        return 0;
+    }
+}
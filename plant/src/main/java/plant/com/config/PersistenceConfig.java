@@ -4,29 +4,45 @@ package plant.com.config;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityManagerFactory;
 import org.apache.ibatis.plugin.Interceptor;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.type.JdbcType;
+import org.hibernate.cfg.AvailableSettings;
 import org.mybatis.spring.SqlSessionFactoryBean;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.actuate.health.CompositeHealthContributor;
+import org.springframework.boot.actuate.health.HealthContributor;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.jdbc.DataSourceHealthIndicator;
 import org.springframework.context.annotation.*;
+import org.springframework.core.env.Environment;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.data.transaction.ChainedTransactionManager;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
+import plant.com.cmm.datasource.Workload;
+import plant.com.cmm.datasource.WorkloadRoutingDataSource;
 import plant.com.cmm.interceptor.mybatis.QueryLoggingPlugin;
+import plant.com.cmm.metrics.SqlMetricsRegistry;
 import plant.com.cmm.util.map.CustomMap;
 
 import javax.sql.DataSource;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -59,39 +75,74 @@ public class PersistenceConfig {
     @Value("${Globals.Password}")
     private String password;
 
-    @Bean
+    /*
+     * 작업 유형별 커넥션 풀 (Workload: oltp / ingest / analytics)
+     * - 크기/대기 시간은 db.pool.<유형>.maximum-size, minimum-idle, connection-timeout-ms
+     * - 서비스는 @UseWorkload 로 풀을 지정, 지정이 없으면 oltp
+     * - @UseWorkload 호출의 동시 실행 제한은 db.pool.<유형>.bulkhead-permits, bulkhead-timeout-ms (WorkloadBulkhead)
+     * - 연결 검사는 JDBC4 Connection.isValid (connectionTestQuery 미지정)
+     * - 풀마다 hikaricp.connections.* 메트릭 (pool 태그 = plant-db-<유형>, 커넥션 대기 시간 = hikaricp.connections.acquire)
+     */
+    @Bean(destroyMethod = "close")
     @Profile("prod")
-    public DataSource dataSource() {
-        HikariConfig config = new HikariConfig();
-        config.setDriverClassName(driverClassName);
-        config.setJdbcUrl(url);
-        config.setUsername(userName);
-        config.setPassword(password);
-        config.setMaximumPoolSize(10);
-        config.setMinimumIdle(5);
-        config.setConnectionTimeout(30000);
-        config.setIdleTimeout(600000);
-        config.setMaxLifetime(1800000);
-        config.setConnectionTestQuery("SELECT 1");
-        return new HikariDataSource(config);
+    public WorkloadRoutingDataSource workloadRoutingDataSource(MeterRegistry meterRegistry, Environment environment) {
+        return newRoutingDataSource(driverClassName, url, meterRegistry, environment);
     }
 
-    @Bean
+    @Bean(destroyMethod = "close")
     @Profile("!prod")
-    public DataSource devDataSource() {
+    public WorkloadRoutingDataSource devWorkloadRoutingDataSource(MeterRegistry meterRegistry, Environment environment) {
+        // P6Spy의 드라이버 클래스와, P6Spy로 래핑한 JDBC URL을 사용합니다.
+        return newRoutingDataSource("com.p6spy.engine.spy.P6SpyDriver", "jdbc:p6spy:" + url.substring(url.indexOf(":") + 1),
+                meterRegistry, environment);
+    }
+
+    /**
+     * 커넥션 풀별 상태 점검 (/actuator/health 의 db 항목, 관리 포트)
+     * - Spring Boot 기본 db 점검은 DataSource 빈(dataSource, 라우팅)만 보므로 둘 다 OLTP 풀로 연결되어 수집/분석 풀 장애를 놓침
+     * - 같은 이름(dbHealthContributor)으로 등록하여 기본 점검을 대체, 풀마다 DataSourceHealthIndicator (JDBC4 isValid)
+     * - 풀 사용량 메트릭은 newPool 에서 풀별로 등록 (hikaricp.connections.*, pool 태그)
+     */
+    @Bean
+    public HealthContributor dbHealthContributor(WorkloadRoutingDataSource workloadRoutingDataSource) {
+        Map<String, HealthIndicator> indicators = new LinkedHashMap<>();
+        for (Workload workload : Workload.values()) {
+            indicators.put(workload.key(), new DataSourceHealthIndicator(workloadRoutingDataSource.getPool(workload)));
+        }
+        return CompositeHealthContributor.fromMap(indicators);
+    }
+
+    /** MyBatis / JPA 가 사용하는 DataSource - 첫 SQL 실행 시점의 작업 유형으로 풀을 고름 */
+    @Bean
+    @Primary
+    public DataSource dataSource(WorkloadRoutingDataSource workloadRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(workloadRoutingDataSource);
+    }
+
+    private WorkloadRoutingDataSource newRoutingDataSource(String driver, String jdbcUrl, MeterRegistry meterRegistry, Environment environment) {
+        Map<Workload, HikariDataSource> pools = new EnumMap<>(Workload.class);
+        for (Workload workload : Workload.values()) {
+            pools.put(workload, newPool(workload, driver, jdbcUrl, meterRegistry, environment));
+        }
+        return new WorkloadRoutingDataSource(pools);
+    }
+
+    private HikariDataSource newPool(Workload workload, String driver, String jdbcUrl, MeterRegistry meterRegistry, Environment environment) {
+        String prefix = "db.pool." + workload.key() + ".";
         HikariConfig config = new HikariConfig();
-        // P6Spy의 드라이버 클래스를 설정합니다.
-        config.setDriverClassName("com.p6spy.engine.spy.P6SpyDriver");
-        // JDBC URL에 P6Spy를 추가하여 래핑하도록 설정합니다.
-        config.setJdbcUrl("jdbc:p6spy:" + url.substring(url.indexOf(":") + 1));
+        config.setDriverClassName(driver);
+        config.setJdbcUrl(jdbcUrl);
         config.setUsername(userName);
         config.setPassword(password);
-        config.setMaximumPoolSize(10);
-        config.setMinimumIdle(5);
-        config.setConnectionTimeout(30000);
+        config.setMaximumPoolSize(environment.getProperty(prefix + "maximum-size", Integer.class, 10));
+        config.setMinimumIdle(environment.getProperty(prefix + "minimum-idle", Integer.class, 5));
+        config.setConnectionTimeout(environment.getProperty(prefix + "connection-timeout-ms", Long.class, 30000L));
         config.setIdleTimeout(600000);
         config.setMaxLifetime(1800000);
-        config.setConnectionTestQuery("SELECT 1");
+        config.setReadOnly(workload == Workload.ANALYTICS);
+        // 풀 사용량 메트릭 (hikaricp.connections.*) - 생성자에서 풀이 바로 시작되므로 시작 전에 지정
+        config.setPoolName("plant-db-" + workload.key());
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
         return new HikariDataSource(config);
     }
 
@@ -100,7 +151,8 @@ public class PersistenceConfig {
     // =================================================================
 
     @Bean
-    public SqlSessionFactory sqlSessionFactory(DataSource dataSource) throws Exception {
+    public SqlSessionFactory sqlSessionFactory(DataSource dataSource, SqlMetricsRegistry sqlMetricsRegistry,
+                                               @Value("${sql.metrics.slow-threshold-ms:300}") long slowThresholdMs) throws Exception {
         SqlSessionFactoryBean sessionFactory = new SqlSessionFactoryBean();
         sessionFactory.setDataSource(dataSource);
 
@@ -120,7 +172,7 @@ public class PersistenceConfig {
         /// ************************************************************************************** ///
 
         sessionFactory.setMapperLocations(new PathMatchingResourcePatternResolver().getResources("classpath:/plant/mapper/sql/**/*.xml"));
-        sessionFactory.setPlugins(new Interceptor[]{new QueryLoggingPlugin()});
+        sessionFactory.setPlugins(new Interceptor[]{new QueryLoggingPlugin(sqlMetricsRegistry, slowThresholdMs)});
         return sessionFactory.getObject();
     }
 
@@ -134,13 +186,15 @@ public class PersistenceConfig {
     // =================================================================
 
     @Bean
-    public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+    public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource, ConfigurableListableBeanFactory beanFactory) {
         LocalContainerEntityManagerFactoryBean em = new LocalContainerEntityManagerFactoryBean();
         em.setDataSource(dataSource);
         em.setPackagesToScan("plant.dev.jpa.entity");
         em.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
 
         Map<String, Object> jpaProperties = new HashMap<>();
+        // 엔티티 리스너(@EntityListeners)를 Spring 빈으로 생성 (AuthCacheEntityListener 등)
+        jpaProperties.put(AvailableSettings.BEAN_CONTAINER, new SpringBeanContainer(beanFactory));
 
         if("org.h2.Driver".equals(driverClassName)){
             jpaProperties.put("hibernate.hbm2ddl.auto", "none");
@@ -0,0 +1,10 @@
+package plant.com.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업(실시간 대시보드 집계 flush 등)을 활성화하는 설정 클래스입니다.
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,41 @@
+package plant.com.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+
+// 가상 스레드 실행 모드(vthreads 프로파일)의 실행 환경을 점검하는 설정 클래스입니다.
+/**
+ * 가상 스레드 실행 모드
+ * - 실제 전환은 spring.threads.virtual.enabled (application-vthreads.properties) 로 Spring Boot 가 수행
+ *   (Tomcat 요청 스레드, applicationTaskExecutor, @Scheduled 스케줄러)
+ * - Java 21 미만에서는 설정이 조용히 무시되므로 기동 시 경고를 남김
+ * - PasswordHashExecutor 는 CPU 작업 전용이라 전환 대상에서 제외 (플랫폼 스레드 고정 개수 유지)
+ */
+@Slf4j
+@Configuration
+@Profile("vthreads")
+public class VirtualThreadConfig {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Value("${db.pool.oltp.maximum-size:10}")
+    private int oltpPoolSize;
+
+    @Value("${db.pool.ingest.maximum-size:10}")
+    private int ingestPoolSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkRuntime() {
+        int feature = Runtime.version().feature();
+        if (feature < 21) {
+            log.warn("vthreads 프로파일이지만 Java {} 로 실행 중이어서 플랫폼 스레드로 동작합니다. (-PjavaVersion=21 로 빌드 필요)", feature);
+            return;
+        }
+        log.info("가상 스레드 실행 모드 - enabled: {}, DB 커넥션 풀 oltp: {}, ingest: {}", virtualThreadsEnabled, oltpPoolSize, ingestPoolSize);
+    }
+}
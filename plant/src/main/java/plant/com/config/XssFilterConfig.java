@@ -0,0 +1,28 @@
+// XSS 방어 필터(EscapeFilter) 등록을 담당하는 클래스입니다.
+package plant.com.config;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import plant.com.cmm.filter.EscapeFilter;
+import plant.com.cmm.xss.XssPolicyResolver;
+
+@Configuration
+public class XssFilterConfig {
+
+    /**
+     * EscapeFilter 를 Spring Security 필터 체인보다 먼저 실행되도록 등록합니다.
+     * 경로별 정책(@XssPolicy, xss.policy.*)에 따라 입력 필터링 여부와 응답 필터링 여부가 결정되며,
+     * 기본 정책(SANITIZE_OUTPUT)은 기존과 같이 응답만 필터링합니다.
+     */
+    @Bean
+    public FilterRegistrationBean<EscapeFilter> escapeFilterRegistration(XssPolicyResolver xssPolicyResolver) {
+        FilterRegistrationBean<EscapeFilter> registration =
+                new FilterRegistrationBean<>(new EscapeFilter(xssPolicyResolver));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        registration.setName("escapeFilter");
+        return registration;
+    }
+}
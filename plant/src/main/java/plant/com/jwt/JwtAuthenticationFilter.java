@@ -5,8 +5,8 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.server.PathContainer;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -14,32 +14,75 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.util.WebUtils;
-import plant.com.cmm.exception.CustomException;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 import plant.dev.auth.dto.UserDto;
 
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 // JWT 토큰을 검증하고 인증을 처리하는 필터 클래스입니다.
+// - jwt.filter.skip-paths 경로(장비 수집, 정적 프레임 등)는 필터를 건너뜀 (shouldNotFilter)
+// - 토큰 검증은 JwtUtil.validateToken 결과 객체로 분기 (실패 시 CustomException 을 만들지 않음)
 @Slf4j
-@RequiredArgsConstructor // 생성자를 통해 JwtUtil을 주입받습니다.
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final List<PathPattern> skipPatterns;
+    private final WebAuthenticationDetailsSource detailsSource = new WebAuthenticationDetailsSource();
     public static final String HEADER_STRING = "Authorization";
     public static final String TOKEN_PREFIX = "Bearer ";
 
+    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
+        this(jwtUtil, Collections.emptyList());
+    }
+
+    /**
+     * @param jwtUtil   토큰 검증
+     * @param skipPaths JWT 처리를 건너뛸 경로 (PathPattern, 예: /api/pi/frame, /static/**)
+     */
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, Collection<String> skipPaths) {
+        this.jwtUtil = jwtUtil;
+        List<PathPattern> patterns = new ArrayList<>();
+        for (String path : skipPaths) {
+            if (StringUtils.hasText(path)) {
+                patterns.add(PathPatternParser.defaultInstance.parse(path.trim()));
+            }
+        }
+        this.skipPatterns = List.copyOf(patterns);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (skipPatterns.isEmpty()) {
+            return false;
+        }
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        PathContainer path = PathContainer.parsePath(contextPath.isEmpty() ? uri : uri.substring(contextPath.length()));
+        for (PathPattern pattern : skipPatterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain) throws IOException, ServletException {
 
-        String jwtToken = resolveToken(req);
+        // 토큰이 유효하고, 현재 SecurityContext에 인증 정보가 없는 경우에만 처리
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            String jwtToken = resolveToken(req);
 
-        if (jwtToken != null) {
-            try {
-                // 토큰이 유효하고, 현재 SecurityContext에 인증 정보가 없는 경우에만 처리
-                if (SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserDto userDto = jwtUtil.getUserDtoFromToken(jwtToken);
+            if (jwtToken != null) {
+                JwtValidationResult result = jwtUtil.validateToken(jwtToken);
+                if (result.isValid()) {
+                    UserDto userDto = result.user();
                     log.debug("JWT 토큰에서 사용자 정보 추출 성공: {}", userDto.getUserId());
 
                     // === 수정된 부분: 변경된 DTO의 Getter 메서드 사용 ===
@@ -51,18 +94,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     );
                     // ===============================================
 
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(req));
+                    authentication.setDetails(detailsSource.buildDetails(req));
 
                     // SecurityContext에 인증 정보 저장
                     SecurityContextHolder.getContext().setAuthentication(authentication);
                     log.debug("SecurityContext에 '{}' 사용자의 인증 정보를 저장했습니다. 권한: {}", userDto.getUserId(), userDto.getRolGrade());
+                } else {
+                    log.warn("JWT 처리 중 오류 발생 (errorCode: {}): {}", result.errorCode(), result.message());
+                    SecurityContextHolder.clearContext();
                 }
-            } catch (CustomException e) { // InvalidJwtException 대신 CustomException을 catch합니다.
-                log.warn("JWT 처리 중 오류 발생 (errorCode: {}): {}", e.getErrorCode(), e.getMessage());
-                SecurityContextHolder.clearContext();
+            } else {
+                log.trace("Authorization 헤더에 JWT 토큰이 없습니다.");
             }
-        } else {
-            log.trace("Authorization 헤더에 JWT 토큰이 없습니다.");
         }
 
         chain.doFilter(req, res);
@@ -88,4 +131,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         return null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,87 @@
+package plant.com.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 서명 검증을 마친 JWT 의 클레임을 만료 시각까지 보관하는 캐시 클래스입니다.
+/**
+ * 검증된 토큰 클레임 캐시
+ * - 키는 토큰 원문이 아닌 SHA-256 해시 (메모리에 토큰을 보관하지 않음)
+ * - exp 가 지난 항목은 조회 시 제거하고 null 반환 → 호출 측에서 다시 파싱하여 만료 예외 처리
+ * - exp 가 없는 토큰은 캐시하지 않음
+ * - 최대 건수(maxSize)에 도달하면 만료 항목을 정리하고, 그래도 가득 차 있으면 전체를 비움 (크기 상한 보장)
+ */
+final class JwtClaimsCache {
+
+    /** SHA-256 해시 32바이트를 long 4개로 보관 */
+    record TokenKey(long h0, long h1, long h2, long h3) {
+    }
+
+    private record Entry(Claims claims, long expiresAtMillis) {
+    }
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final int maxSize;
+    private final Map<TokenKey, Entry> entries = new ConcurrentHashMap<>();
+
+    JwtClaimsCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    static TokenKey keyOf(String token) {
+        byte[] digest = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        return new TokenKey(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+    }
+
+    boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * @return 만료 전이면 캐시된 클레임, 없거나 만료되었으면 null
+     */
+    Claims get(TokenKey key, long nowMillis) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (nowMillis >= entry.expiresAtMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.claims();
+    }
+
+    void put(TokenKey key, Claims claims, long nowMillis) {
+        Date expiration = claims.getExpiration();
+        if (!isEnabled() || expiration == null || expiration.getTime() <= nowMillis) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            entries.values().removeIf(entry -> nowMillis >= entry.expiresAtMillis());
+            if (entries.size() >= maxSize) {
+                entries.clear();
+            }
+        }
+        entries.put(key, new Entry(claims, expiration.getTime()));
+    }
+
+    int size() {
+        return entries.size();
+    }
+}
@@ -3,9 +3,12 @@ package plant.com.jwt;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
-import jakarta.annotation.PostConstruct;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.PropertySource;
@@ -19,9 +22,14 @@ import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 // JWT 토큰 생성, 검증, 파싱을 담당하는 유틸리티 클래스입니다.
 // (jjwt 0.12.x+ 호환, CustomException 적용)
+// - JwtParser 는 스레드 안전하므로 시작 시 한 번만 생성하여 재사용
+// - 서명 검증을 마친 토큰의 클레임은 JwtClaimsCache 에 exp 까지 보관하여, 같은 토큰의 반복 요청은 HMAC 검증/디코딩 생략
+//   (jwt.claims-cache.max-size, 0 이면 캐시 사용 안 함)
+// - 액세스 토큰 유효 시간은 jwt.access-token.validity-seconds (갱신은 RefreshTokenStore 의 리프레시 토큰으로 처리)
 @Slf4j
 @Component
 @PropertySource("classpath:/plant/secrets.properties")
@@ -29,17 +37,45 @@ public class JwtUtil implements Serializable {
 
     private static final long serialVersionUID = -5180902194184255251L;
 
-    public static final long JWT_TOKEN_VALIDITY = 60 * 60;
-
-    @Value("${Globals.jwt.secret.key}")
-    private String secretKey;
-
-    private SecretKey key;
-
-    @PostConstruct
-    public void init() {
+    private final long accessTokenValiditySeconds;
+    private final transient SecretKey key;
+    private final transient JwtParser parser;
+    private final transient JwtClaimsCache claimsCache;
+
+    // 토큰 검증 시간 (jwt.verify, outcome=valid/cached/expired/invalid)
+    private final transient Timer validTimer;
+    private final transient Timer cachedTimer;
+    private final transient Timer expiredTimer;
+    private final transient Timer invalidTimer;
+
+    public JwtUtil(MeterRegistry meterRegistry,
+                   @Value("${Globals.jwt.secret.key}") String secretKey,
+                   @Value("${jwt.access-token.validity-seconds:900}") long accessTokenValiditySeconds,
+                   @Value("${jwt.claims-cache.max-size:10000}") int claimsCacheMaxSize) {
+        this.accessTokenValiditySeconds = accessTokenValiditySeconds;
         byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.claimsCache = new JwtClaimsCache(claimsCacheMaxSize);
+        this.validTimer = verifyTimer(meterRegistry, "valid");
+        this.cachedTimer = verifyTimer(meterRegistry, "cached");
+        this.expiredTimer = verifyTimer(meterRegistry, "expired");
+        this.invalidTimer = verifyTimer(meterRegistry, "invalid");
+        Gauge.builder("jwt.claims.cache.size", claimsCache, JwtClaimsCache::size)
+                .description("검증된 토큰 클레임 캐시 건수")
+                .register(meterRegistry);
+    }
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("jwt.verify")
+                .description("JWT 서명 검증 및 클레임 파싱 시간 (cached: 캐시 적중)")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /** 액세스 토큰 유효 시간(초) - 쿠키 maxAge, 클라이언트 갱신 시점(expiresIn) 계산용 */
+    public long getAccessTokenValiditySeconds() {
+        return accessTokenValiditySeconds;
     }
 
     /**
@@ -61,12 +97,34 @@ public class JwtUtil implements Serializable {
         }
     }
 
+    /** 캐시 적중 시 파싱 없이 반환, 아니면 검증 후 캐시에 저장 (검증 실패 시 jjwt 예외 그대로 전달) */
     private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        long start = System.nanoTime();
+        JwtClaimsCache.TokenKey cacheKey = null;
+        long now = 0;
+        if (claimsCache.isEnabled()) {
+            cacheKey = JwtClaimsCache.keyOf(token);
+            now = System.currentTimeMillis();
+            Claims cached = claimsCache.get(cacheKey, now);
+            if (cached != null) {
+                cachedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return cached;
+            }
+        }
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            validTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (cacheKey != null) {
+                claimsCache.put(cacheKey, claims, now);
+            }
+            return claims;
+        } catch (ExpiredJwtException e) {
+            expiredTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        } catch (JwtException | IllegalArgumentException e) {
+            invalidTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
     }
 
     /**
@@ -89,18 +147,17 @@ public class JwtUtil implements Serializable {
                 .claims(claims)
                 .subject(subject) // 토큰의 주체
                 .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + JWT_TOKEN_VALIDITY * 1000))
+                .expiration(new Date(System.currentTimeMillis() + accessTokenValiditySeconds * 1000))
                 .signWith(key)
                 .compact();
     }
 
     /**
-     * 토큰에서 UserDto 정보를 추출합니다.
+     * 토큰을 검증하고 결과를 반환합니다. (검증 실패 시에도 예외를 던지지 않음)
      * @param token JWT 토큰
-     * @return 토큰 정보를 바탕으로 생성된 UserDto 객체
-     * @throws CustomException 토큰이 유효하지 않을 경우 발생
+     * @return 검증 결과 (VALID 이면 토큰 정보로 만든 UserDto 포함)
      */
-    public UserDto getUserDtoFromToken(String token) throws CustomException {
+    public JwtValidationResult validateToken(String token) {
         try {
             Claims claims = getAllClaimsFromToken(token);
 
@@ -111,12 +168,26 @@ public class JwtUtil implements Serializable {
             userDto.setUserName(claims.get("userName", String.class));
             // ===============================================
 
-            return userDto;
+            return JwtValidationResult.valid(userDto);
 
         } catch (ExpiredJwtException e) {
-            throw new CustomException("JWT_EXPIRED", "만료된 JWT 토큰입니다.");
-        } catch (JwtException e) { // MalformedJwtException, SignatureException 등을 한번에 처리
-            throw new CustomException("JWT_INVALID", "유효하지 않은 JWT 토큰입니다: " + e.getMessage());
+            return JwtValidationResult.expired();
+        } catch (JwtException | IllegalArgumentException e) { // MalformedJwtException, SignatureException, 빈 토큰 등을 한번에 처리
+            return JwtValidationResult.invalid(e.getMessage());
+        }
+    }
+
+    /**
+     * 토큰에서 UserDto 정보를 추출합니다.
+     * @param token JWT 토큰
+     * @return 토큰 정보를 바탕으로 생성된 UserDto 객체
+     * @throws CustomException 토큰이 유효하지 않을 경우 발생
+     */
+    public UserDto getUserDtoFromToken(String token) throws CustomException {
+        JwtValidationResult result = validateToken(token);
+        if (!result.isValid()) {
+            throw new CustomException(result.errorCode(), result.message());
         }
+        return result.user();
     }
-}
\ No newline at end of file
+}
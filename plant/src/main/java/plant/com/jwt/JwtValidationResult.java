@@ -0,0 +1,35 @@
+package plant.com.jwt;
+
+import plant.dev.auth.dto.UserDto;
+
+// 예외 없이 JWT 검증 결과를 전달하는 클래스입니다.
+/**
+ * JwtUtil.validateToken 결과
+ * - VALID 이면 user 에 토큰 정보로 만든 UserDto, 그 외에는 errorCode/message 에 사유
+ * - 필터처럼 실패가 흔한 경로에서 CustomException 생성(스택 트레이스) 비용 없이 분기하기 위해 사용
+ *
+ * @param status    검증 결과
+ * @param user      토큰 사용자 정보 (VALID 일 때만)
+ * @param errorCode JWT_EXPIRED / JWT_INVALID (VALID 이면 null)
+ * @param message   실패 사유 (VALID 이면 null)
+ */
+public record JwtValidationResult(Status status, UserDto user, String errorCode, String message) {
+
+    public enum Status {VALID, EXPIRED, INVALID}
+
+    static JwtValidationResult valid(UserDto user) {
+        return new JwtValidationResult(Status.VALID, user, null, null);
+    }
+
+    static JwtValidationResult expired() {
+        return new JwtValidationResult(Status.EXPIRED, null, "JWT_EXPIRED", "만료된 JWT 토큰입니다.");
+    }
+
+    static JwtValidationResult invalid(String reason) {
+        return new JwtValidationResult(Status.INVALID, null, "JWT_INVALID", "유효하지 않은 JWT 토큰입니다: " + reason);
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+}
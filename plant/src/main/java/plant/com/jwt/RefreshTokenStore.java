@@ -0,0 +1,195 @@
+package plant.com.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 리프레시 토큰(회전식)을 서버 메모리에 보관하는 저장소 클래스입니다.
+/**
+ * 리프레시 토큰 저장소
+ * - 토큰은 32바이트 난수(Base64url), 저장 키는 SHA-256 해시 (JwtClaimsCache.TokenKey, 토큰 원문은 보관하지 않음)
+ * - 로그인 1건 = 토큰 계열(family) 1개, 갱신할 때마다 새 토큰을 발급하고 이전 토큰은 사용 처리 (회전)
+ * - 사용 처리된 토큰이 다시 들어오면 탈취로 보고 계열 전체를 폐기 (재사용 감지)
+ *   단, 회전 후 jwt.refresh-token.reuse-grace-seconds 안에 같은 토큰이 들어오면 (여러 탭의 동시 갱신) 같은 후속 토큰을 반환
+ *   - 이를 위해 후속 토큰 원문은 유예 시간 동안만 보관
+ * - 계열의 모든 토큰은 첫 발급(로그인) 후 jwt.refresh-token.max-lifetime-seconds 가 지나면 만료 (회전으로 무한 연장 방지)
+ * - 만료 시각 순 TTL 색인(expiryIndex)으로 jwt.refresh-token.purge-interval-ms 마다 만료 항목만 제거
+ * - 단일 인스턴스 기준 (재시작 시 전체 재로그인)
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+
+    /** 갱신 결과 - userId: 토큰 주인, token: 새로 발급한 리프레시 토큰 */
+    public record Rotation(String userId, String token) {
+    }
+
+    /** familyIssuedAtMillis: 계열의 첫 발급(로그인) 시각 */
+    private record Entry(String userId, long family, long familyIssuedAtMillis, long expiresAtMillis, boolean used) {
+
+        Entry markUsed() {
+            return new Entry(userId, family, familyIssuedAtMillis, expiresAtMillis, true);
+        }
+    }
+
+    /** 회전 결과 - untilMillis 까지는 같은 토큰이 다시 들어와도 이 후속 토큰을 반환 */
+    private record Successor(String token, long untilMillis) {
+    }
+
+    // 유예 시간이 지난 뒤 사용된 토큰이 다시 들어온 경우 (재사용)
+    private static final Successor REUSED = new Successor(null, 0L);
+
+    private record Expiry(long expiresAtMillis, JwtClaimsCache.TokenKey key) {
+    }
+
+    private static final Comparator<Expiry> EXPIRY_ORDER = Comparator.comparingLong(Expiry::expiresAtMillis)
+            .thenComparingLong(e -> e.key().h0())
+            .thenComparingLong(e -> e.key().h1())
+            .thenComparingLong(e -> e.key().h2())
+            .thenComparingLong(e -> e.key().h3());
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final long validityMillis;
+    private final long maxLifetimeMillis;
+    private final long reuseGraceMillis;
+    private final Map<JwtClaimsCache.TokenKey, Entry> entries = new ConcurrentHashMap<>();
+    private final NavigableSet<Expiry> expiryIndex = new ConcurrentSkipListSet<>(EXPIRY_ORDER);
+    // 폐기된 계열 -> 계열 토큰이 모두 만료되는 시각
+    private final Map<Long, Long> revokedFamilies = new ConcurrentHashMap<>();
+    // 사용 처리된 토큰 -> 후속 토큰 (유예 시간 동안만, purgeExpired 에서 제거)
+    private final Map<JwtClaimsCache.TokenKey, Successor> successors = new ConcurrentHashMap<>();
+    private final AtomicLong familySequence = new AtomicLong();
+    private final Counter reuseCounter;
+
+    public RefreshTokenStore(MeterRegistry meterRegistry,
+                             @Value("${jwt.refresh-token.validity-seconds:43200}") long validitySeconds,
+                             @Value("${jwt.refresh-token.max-lifetime-seconds:604800}") long maxLifetimeSeconds,
+                             @Value("${jwt.refresh-token.reuse-grace-seconds:10}") long reuseGraceSeconds) {
+        this.validityMillis = TimeUnit.SECONDS.toMillis(validitySeconds);
+        this.maxLifetimeMillis = TimeUnit.SECONDS.toMillis(Math.max(maxLifetimeSeconds, validitySeconds));
+        this.reuseGraceMillis = TimeUnit.SECONDS.toMillis(reuseGraceSeconds);
+        this.reuseCounter = Counter.builder("jwt.refresh.reuse")
+                .description("사용 처리된 리프레시 토큰 재사용 감지 (계열 폐기) 건수")
+                .register(meterRegistry);
+        Gauge.builder("jwt.refresh.store.size", entries, Map::size)
+                .description("보관 중인 리프레시 토큰 건수 (사용 처리된 토큰 포함)")
+                .register(meterRegistry);
+    }
+
+    public long getValiditySeconds() {
+        return TimeUnit.MILLISECONDS.toSeconds(validityMillis);
+    }
+
+    /** 로그인 시 새 계열의 첫 토큰 발급 */
+    public String issue(String userId) {
+        long now = System.currentTimeMillis();
+        return issue(userId, familySequence.incrementAndGet(), now, now);
+    }
+
+    /**
+     * 토큰을 사용 처리하고 같은 계열의 새 토큰을 발급합니다.
+     * @return 갱신 결과, 없거나 만료/폐기/재사용된 토큰 또는 계열 최대 수명이 지났으면 null
+     */
+    public Rotation rotate(String token) {
+        return rotate(token, System.currentTimeMillis());
+    }
+
+    Rotation rotate(String token, long nowMillis) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        JwtClaimsCache.TokenKey key = JwtClaimsCache.keyOf(token);
+        Entry entry = entries.get(key);
+        if (entry == null || nowMillis >= entry.expiresAtMillis() || revokedFamilies.containsKey(entry.family())) {
+            return null;
+        }
+        if (nowMillis >= entry.familyIssuedAtMillis() + maxLifetimeMillis) {
+            return null;
+        }
+        // 토큰당 회전은 한 번만 (computeIfAbsent 는 키별로 원자적 - 동시에 들어온 요청은 같은 후속 토큰을 받음)
+        boolean[] rotated = new boolean[1];
+        Successor successor = successors.computeIfAbsent(key, k -> {
+            Entry current = entries.get(k);
+            if (current == null || current.used()) {
+                return REUSED;
+            }
+            entries.put(k, current.markUsed());
+            rotated[0] = true;
+            return new Successor(issue(current.userId(), current.family(), current.familyIssuedAtMillis(), nowMillis),
+                    nowMillis + reuseGraceMillis);
+        });
+        if (successor == REUSED || (!rotated[0] && nowMillis >= successor.untilMillis())) {
+            revokeFamily(entry.family(), nowMillis);
+            reuseCounter.increment();
+            log.warn("리프레시 토큰 재사용 감지 - 계열 폐기. userId: {}", entry.userId());
+            return null;
+        }
+        return new Rotation(entry.userId(), successor.token());
+    }
+
+    /** 로그아웃 시 토큰이 속한 계열 전체 폐기 */
+    public void revoke(String token) {
+        if (token == null || token.isEmpty()) {
+            return;
+        }
+        Entry entry = entries.get(JwtClaimsCache.keyOf(token));
+        if (entry != null) {
+            revokeFamily(entry.family(), System.currentTimeMillis());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-token.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        purgeExpired(System.currentTimeMillis());
+    }
+
+    void purgeExpired(long nowMillis) {
+        // 토큰 키는 난수 해시이고 만료 시각은 회전해도 바뀌지 않으므로 색인 항목 = 저장 항목
+        while (!expiryIndex.isEmpty()) {
+            Expiry head = expiryIndex.first();
+            if (head.expiresAtMillis() > nowMillis) {
+                break;
+            }
+            entries.remove(head.key());
+            expiryIndex.remove(head);
+        }
+        revokedFamilies.values().removeIf(until -> until <= nowMillis);
+        successors.values().removeIf(successor -> successor.untilMillis() <= nowMillis);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private String issue(String userId, long family, long familyIssuedAtMillis, long nowMillis) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        JwtClaimsCache.TokenKey key = JwtClaimsCache.keyOf(token);
+        // 회전해도 계열 최대 수명을 넘지 않음
+        long expiresAt = Math.min(nowMillis + validityMillis, familyIssuedAtMillis + maxLifetimeMillis);
+        entries.put(key, new Entry(userId, family, familyIssuedAtMillis, expiresAt, false));
+        expiryIndex.add(new Expiry(expiresAt, key));
+        return token;
+    }
+
+    private void revokeFamily(long family, long nowMillis) {
+        // 계열의 마지막 토큰도 now + 유효 시간 안에 만료되므로 그때까지만 보관
+        revokedFamilies.put(family, nowMillis + validityMillis);
+    }
+}
@@ -31,4 +31,13 @@ public class BCryptPasswordEncoderComponent implements PasswordEncoder {
     public boolean matches(CharSequence rawPassword, String encodedPassword) {
         return this.passwordEncoder.matches(rawPassword, encodedPassword);
     }
+
+    /**
+     * 저장된 해시의 강도가 현재 설정(security.password.bcrypt.strength)보다 낮으면 true
+     * (로그인 성공 시 AuthService 가 현재 강도로 다시 저장)
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return this.passwordEncoder.upgradeEncoding(encodedPassword);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,107 @@
+package plant.com.jwt.password;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import plant.com.cmm.exception.TooManyRequestsException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 비밀번호 해시 검증/생성을 전용 스레드에서 실행하는 컴포넌트입니다.
+/**
+ * 비밀번호 해시 전용 실행기
+ * - BCrypt 등 CPU 를 오래 쓰는 작업을 security.password.hash.threads 개 스레드에서만 실행 (요청 스레드 포화 방지)
+ * - 대기열(security.password.hash.queue-size)이 가득 차거나 timeout-ms 안에 끝나지 않으면 즉시 429 로 거절
+ * - password.hash.queue.size / password.hash.rejected / password.hash 메트릭 기록
+ */
+@Slf4j
+@Component
+public class PasswordHashExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final Counter rejectedCounter;
+    private final Timer hashTimer;
+
+    public PasswordHashExecutor(MeterRegistry meterRegistry,
+                                @Value("${security.password.hash.threads:0}") int threads,
+                                @Value("${security.password.hash.queue-size:64}") int queueSize,
+                                @Value("${security.password.hash.timeout-ms:3000}") long timeoutMillis) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueSize, 1)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMillis = timeoutMillis;
+        this.rejectedCounter = Counter.builder("password.hash.rejected")
+                .description("대기열 초과/시간 초과로 거절된 비밀번호 해시 작업 건수")
+                .register(meterRegistry);
+        this.hashTimer = Timer.builder("password.hash")
+                .description("비밀번호 해시 작업 대기 + 실행 시간")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.queue.size", executor, e -> e.getQueue().size())
+                .description("비밀번호 해시 작업 대기 건수")
+                .register(meterRegistry);
+        log.info("비밀번호 해시 실행기를 생성합니다. (스레드: {}, 대기열: {})", poolSize, queueSize);
+    }
+
+    /**
+     * 해시 작업을 전용 스레드에서 실행하고 결과를 기다립니다.
+     * @throws TooManyRequestsException 대기열이 가득 찼거나 제한 시간을 넘긴 경우
+     */
+    public <T> T call(Callable<T> task) {
+        long start = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw busy();
+        }
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw busy();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            hashTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private TooManyRequestsException busy() {
+        rejectedCounter.increment();
+        return new TooManyRequestsException("LOGIN_BUSY", "로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.", 1);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,220 @@
+package plant.com.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import plant.com.cmm.util.map.CustomMap;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 장비(라즈베리파이) 수집 요청을 HMAC 서명으로 인증하는 필터 클래스입니다.
+/**
+ * 장비 전용 경량 인증 (device.auth.enabled=true 일 때만 등록)
+ * - 대상 경로(device.auth.paths)만 검사하며, 사용자 JWT 처리(JwtAuthenticationFilter)는 이 경로를 건너뜀
+ * - 장비 키(device.auth.keys, "장비ID:Base64키" 콤마 구분)는 시작 시 Mac 으로 초기화해 두고 요청마다 복제만 하여 사용
+ * - 요청 헤더
+ *   X-Device-Id        : 장비 ID
+ *   X-Device-Timestamp : 요청 시각 (epoch 초), 서버 시각과 device.auth.max-skew-seconds 이상 차이 나면 거부
+ *   X-Device-Nonce     : 요청마다 새로 만드는 임의 문자열 (최대 64자)
+ *   X-Device-Signature : Base64(HMAC-SHA256(키, 장비ID + "\n" + 시각 + "\n" + nonce + "\n" + 메서드 + "\n" + URI))
+ * - 서명이 맞는 요청의 (장비ID, nonce) 는 허용 시각 범위 동안 기억하여 같은 서명의 재전송(본문을 바꾼 재전송 포함)을 거부
+ *   (본문은 form / multipart 로 컨테이너가 직접 파싱하므로 필터에서 읽어 해시하지 않음)
+ * - 실패 시 401 (JwtAuthenticationEntryPoint 와 같은 형식), 성공 시 ROLE_DEVICE 권한으로 인증
+ */
+@Slf4j
+public class DeviceAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String DEVICE_ID_HEADER = "X-Device-Id";
+    public static final String TIMESTAMP_HEADER = "X-Device-Timestamp";
+    public static final String NONCE_HEADER = "X-Device-Nonce";
+    public static final String SIGNATURE_HEADER = "X-Device-Signature";
+    public static final String DEVICE_ROLE = "ROLE_DEVICE";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int MAX_NONCE_LENGTH = 64;
+
+    private final Map<String, Mac> macs;
+    private final List<PathPattern> devicePatterns;
+    private final long maxSkewSeconds;
+    // 사용한 nonce (장비ID + "\n" + nonce → 만료 시각 epoch 초), 서명 검증을 통과한 요청만 기록
+    private final Map<String, Long> usedNonces = new ConcurrentHashMap<>();
+    private final AtomicLong nextNoncePurgeAt = new AtomicLong();
+
+    /**
+     * @param deviceKeys     "장비ID:Base64키" 목록
+     * @param devicePaths    인증 대상 경로 (PathPattern)
+     * @param maxSkewSeconds 허용 시각 차이 (초)
+     */
+    public DeviceAuthenticationFilter(Collection<String> deviceKeys, Collection<String> devicePaths, long maxSkewSeconds) {
+        Map<String, Mac> table = new HashMap<>();
+        for (String entry : deviceKeys) {
+            if (!StringUtils.hasText(entry)) {
+                continue;
+            }
+            int separator = entry.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("device.auth.keys 형식 오류 (장비ID:Base64키): " + entry.trim());
+            }
+            String deviceId = entry.substring(0, separator).trim();
+            table.put(deviceId, newMac(Base64.getDecoder().decode(entry.substring(separator + 1).trim())));
+        }
+        this.macs = Map.copyOf(table);
+        List<PathPattern> patterns = new ArrayList<>();
+        for (String path : devicePaths) {
+            if (StringUtils.hasText(path)) {
+                patterns.add(PathPatternParser.defaultInstance.parse(path.trim()));
+            }
+        }
+        this.devicePatterns = List.copyOf(patterns);
+        this.maxSkewSeconds = maxSkewSeconds;
+    }
+
+    private static Mac newMac(byte[] key) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(key, ALGORITHM));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("장비 키 초기화 실패", e);
+        }
+    }
+
+    /** 장비 측 서명 계산과 같은 규칙 (테스트/장비 클라이언트 참고용) */
+    public static String sign(byte[] key, String deviceId, long timestampSeconds, String nonce, String method, String uri) {
+        return Base64.getEncoder().encodeToString(newMac(key).doFinal(canonical(deviceId, timestampSeconds, nonce, method, uri)));
+    }
+
+    private static byte[] canonical(String deviceId, long timestampSeconds, String nonce, String method, String uri) {
+        return (deviceId + "\n" + timestampSeconds + "\n" + nonce + "\n" + method + "\n" + uri).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        PathContainer path = PathContainer.parsePath(contextPath.isEmpty() ? uri : uri.substring(contextPath.length()));
+        for (PathPattern pattern : devicePatterns) {
+            if (pattern.matches(path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+        String deviceId = request.getHeader(DEVICE_ID_HEADER);
+        String failure = verify(request, deviceId);
+        if (failure != null) {
+            log.warn("장비 인증 실패 (deviceId: {}, uri: {}): {}", deviceId, request.getRequestURI(), failure);
+            writeUnauthorized(response);
+            return;
+        }
+
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                deviceId, null, Collections.singletonList(new SimpleGrantedAuthority(DEVICE_ROLE)));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        chain.doFilter(request, response);
+    }
+
+    /** @return 실패 사유 (성공 시 null) */
+    private String verify(HttpServletRequest request, String deviceId) {
+        String timestamp = request.getHeader(TIMESTAMP_HEADER);
+        String nonce = request.getHeader(NONCE_HEADER);
+        String signature = request.getHeader(SIGNATURE_HEADER);
+        if (deviceId == null || timestamp == null || nonce == null || signature == null) {
+            return "인증 헤더 누락";
+        }
+        if (nonce.isEmpty() || nonce.length() > MAX_NONCE_LENGTH) {
+            return "nonce 형식 오류";
+        }
+        Mac prototype = macs.get(deviceId);
+        if (prototype == null) {
+            return "등록되지 않은 장비";
+        }
+        long timestampSeconds;
+        try {
+            timestampSeconds = Long.parseLong(timestamp);
+        } catch (NumberFormatException e) {
+            return "시각 형식 오류";
+        }
+        long now = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+        if (Math.abs(now - timestampSeconds) > maxSkewSeconds) {
+            return "허용 시각 범위 초과";
+        }
+        byte[] provided;
+        try {
+            provided = Base64.getDecoder().decode(signature);
+        } catch (IllegalArgumentException e) {
+            return "서명 형식 오류";
+        }
+        byte[] expected = copyOf(prototype).doFinal(
+                canonical(deviceId, timestampSeconds, nonce, request.getMethod(), request.getRequestURI()));
+        if (!MessageDigest.isEqual(expected, provided)) {
+            return "서명 불일치";
+        }
+        return markNonceUsed(deviceId, nonce, timestampSeconds + maxSkewSeconds, now) ? null : "재전송된 요청 (nonce 재사용)";
+    }
+
+    /**
+     * nonce 를 사용 처리합니다. 시각 범위를 벗어난 요청은 앞에서 거부되므로 만료 시각까지만 기억하면 됨
+     * @return 처음 사용한 nonce 이면 true
+     */
+    private boolean markNonceUsed(String deviceId, String nonce, long expiresAt, long now) {
+        long purgeAt = nextNoncePurgeAt.get();
+        if (now >= purgeAt && nextNoncePurgeAt.compareAndSet(purgeAt, now + 1)) {
+            usedNonces.values().removeIf(expiry -> expiry < now);
+        }
+        return usedNonces.putIfAbsent(deviceId + "\n" + nonce, expiresAt) == null;
+    }
+
+    /** 키가 설정된 Mac 복제 (Mac 은 스레드 안전하지 않으므로 요청마다 복제, 키 재설정 비용 없음) */
+    private static Mac copyOf(Mac prototype) {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("Mac 복제를 지원하지 않는 공급자입니다: " + prototype.getProvider(), e);
+        }
+    }
+
+    private static void writeUnauthorized(HttpServletResponse response) throws IOException {
+        CustomMap errorResponse = new CustomMap();
+        errorResponse.put("status", HttpStatus.UNAUTHORIZED.value());
+        errorResponse.put("error", "Unauthorized");
+        errorResponse.put("message", "장비 인증에 실패했습니다.");
+
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(OBJECT_MAPPER.writeValueAsString(errorResponse));
+    }
+}
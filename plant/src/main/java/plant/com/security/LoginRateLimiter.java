@@ -0,0 +1,143 @@
+package plant.com.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import plant.com.cmm.exception.TooManyRequestsException;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 사용자 ID / 클라이언트 IP 별 로그인 시도 횟수를 제한하는 클래스입니다.
+/**
+ * 로그인 시도 제한 (토큰 버킷)
+ * - 키별 버킷은 AtomicLong 1개 (버킷이 비어 있게 되는 이론상 시각, GCRA) 를 CAS 로 갱신 (락 없음)
+ * - 사용자별 security.login.rate.user.per-minute / user.burst, IP 별 ip.per-minute / ip.burst
+ * - 비밀번호 해시 검증 전에 검사하여 초과 요청은 429 로 즉시 거절
+ * - 가득 찬(오래 쓰지 않은) 버킷은 주기적으로 제거, 키 수가 max-keys 를 넘으면 정리 후 가장 많이 찬 버킷부터 10% 제거
+ *   (크기 상한 보장, 제한 중인 - 비어 있는 - 버킷은 마지막까지 유지하여 키를 대량으로 만들어도 제한이 풀리지 않음)
+ */
+@Component
+public class LoginRateLimiter {
+
+    /** 키별 토큰 버킷 묶음 */
+    static final class Buckets {
+        private final long intervalNanos; // 토큰 1개가 채워지는 시간
+        private final long burstNanos;    // 버킷 용량만큼의 시간 (값이 now - burstNanos 이하이면 가득 찬 버킷)
+        private final int maxKeys;
+        private final int evictBatch;     // 상한 도달 시 한 번에 제거할 버킷 수 (매 요청마다 전체를 훑지 않도록)
+        private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+        Buckets(int perMinute, int burst, int maxKeys) {
+            this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(perMinute, 1);
+            this.burstNanos = intervalNanos * Math.max(burst, 1);
+            this.maxKeys = maxKeys;
+            this.evictBatch = Math.max(maxKeys / 10, 1);
+        }
+
+        /**
+         * 토큰 1개를 사용합니다.
+         * @return 0 이면 허용, 아니면 다음 토큰까지 남은 시간(ns)
+         */
+        long tryAcquire(String key, long nowNanos) {
+            AtomicLong bucket = buckets.get(key);
+            if (bucket == null) {
+                if (buckets.size() >= maxKeys) {
+                    makeRoom(nowNanos);
+                }
+                bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(nowNanos - burstNanos));
+            }
+            while (true) {
+                long tat = bucket.get();
+                long next = Math.max(tat, nowNanos - burstNanos) + intervalNanos;
+                if (next > nowNanos) {
+                    return next - nowNanos;
+                }
+                if (bucket.compareAndSet(tat, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        private synchronized void makeRoom(long nowNanos) {
+            if (buckets.size() < maxKeys) {
+                return; // 다른 스레드가 이미 정리함
+            }
+            purge(nowNanos);
+            if (buckets.size() >= maxKeys) {
+                evictFullest(evictBatch);
+            }
+        }
+
+        /** 남은 토큰이 많은(값이 작은) 버킷부터 count 개 제거 */
+        private void evictFullest(int count) {
+            long[] tats = buckets.values().stream().mapToLong(AtomicLong::get).toArray();
+            if (tats.length == 0) {
+                return;
+            }
+            Arrays.sort(tats);
+            long threshold = tats[Math.min(count, tats.length) - 1];
+            buckets.values().removeIf(bucket -> bucket.get() <= threshold);
+        }
+
+        void purge(long nowNanos) {
+            buckets.values().removeIf(bucket -> bucket.get() <= nowNanos - burstNanos);
+        }
+
+        int size() {
+            return buckets.size();
+        }
+    }
+
+    private final Buckets users;
+    private final Buckets ips;
+    private final Counter limitedCounter;
+
+    public LoginRateLimiter(MeterRegistry meterRegistry,
+                            @Value("${security.login.rate.user.per-minute:10}") int userPerMinute,
+                            @Value("${security.login.rate.user.burst:5}") int userBurst,
+                            @Value("${security.login.rate.ip.per-minute:60}") int ipPerMinute,
+                            @Value("${security.login.rate.ip.burst:30}") int ipBurst,
+                            @Value("${security.login.rate.max-keys:100000}") int maxKeys) {
+        this.users = new Buckets(userPerMinute, userBurst, maxKeys);
+        this.ips = new Buckets(ipPerMinute, ipBurst, maxKeys);
+        this.limitedCounter = Counter.builder("login.rate.limited")
+                .description("시도 제한으로 거절된 로그인 요청 건수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * IP 버킷, 사용자 ID 버킷 순서로 토큰을 1개씩 사용합니다.
+     * IP 에서 거절되면 사용자 버킷은 건드리지 않음 (한 IP 의 대량 시도가 다른 곳의 정상 사용자 로그인까지 막지 않도록)
+     * @throws TooManyRequestsException 어느 한쪽이라도 한도를 넘은 경우
+     */
+    public void check(String userId, String clientIp) {
+        long now = System.nanoTime();
+        if (clientIp != null) {
+            rejectIfLimited(ips.tryAcquire(clientIp, now));
+        }
+        if (userId != null) {
+            rejectIfLimited(users.tryAcquire(userId, now));
+        }
+    }
+
+    private void rejectIfLimited(long waitNanos) {
+        if (waitNanos > 0) {
+            limitedCounter.increment();
+            throw new TooManyRequestsException("LOGIN_RATE_LIMITED", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.",
+                    TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${security.login.rate.purge-interval-ms:60000}")
+    public void purge() {
+        long now = System.nanoTime();
+        users.purge(now);
+        ips.purge(now);
+    }
+}
@@ -15,6 +15,8 @@ import plant.com.jwt.JwtAuthenticationEntryPoint;
 import plant.com.jwt.JwtAuthenticationFilter;
 import plant.com.jwt.JwtUtil;
 
+import java.util.List;
+
 // Spring Security 설정을 담당하는 클래스입니다.
 @Configuration
 @EnableWebSecurity // Spring Security 활성화
@@ -29,6 +31,23 @@ public class SecurityConfig {
     @Value("${Globals.DriverClassName}")
     private String driverClassName;
 
+    // JWT 처리를 건너뛸 경로 (장비 수집, 정적 프레임 등)
+    @Value("${jwt.filter.skip-paths:}")
+    private List<String> jwtSkipPaths;
+
+    // 장비 HMAC 인증 (DeviceAuthenticationFilter)
+    @Value("${device.auth.enabled:false}")
+    private boolean deviceAuthEnabled;
+
+    @Value("${device.auth.paths:}")
+    private List<String> deviceAuthPaths;
+
+    @Value("${device.auth.keys:}")
+    private List<String> deviceAuthKeys;
+
+    @Value("${device.auth.max-skew-seconds:300}")
+    private long deviceAuthMaxSkewSeconds;
+
     /*
     // PasswordEncoderConfig 사용
     @Bean
@@ -69,7 +88,12 @@ public class SecurityConfig {
         // 주석처리 이유는 WebMvcConfig로 이동함
         // http.addFilterBefore(new EscapeFilter(), UsernamePasswordAuthenticationFilter.class);
         // JWT 인증 필터를 UsernamePasswordAuthenticationFilter 앞에 추가 (EscapeFilter 다음에 실행)
-        http.addFilterBefore(new JwtAuthenticationFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(new JwtAuthenticationFilter(jwtUtil, jwtSkipPaths), UsernamePasswordAuthenticationFilter.class);
+        // 장비 HMAC 인증 필터를 JWT 인증 필터 앞에 추가 (device.auth.enabled=true 일 때만, 장비 경로만 검사)
+        if (deviceAuthEnabled) {
+            http.addFilterBefore(new DeviceAuthenticationFilter(deviceAuthKeys, deviceAuthPaths, deviceAuthMaxSkewSeconds),
+                    JwtAuthenticationFilter.class);
+        }
 
         if("org.h2.Driver".equals(driverClassName)) {
             // H2 콘솔을 위한 헤더 설정 (개발용)
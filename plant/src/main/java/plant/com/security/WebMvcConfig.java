@@ -5,8 +5,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import plant.com.cmm.interceptor.ConditionalGetInterceptor;
 
 // Web MVC 관련 설정을 담당하는 클래스입니다.
 /**
@@ -21,6 +23,8 @@ public class WebMvcConfig implements WebMvcConfigurer {
 	@Value("${cors.allowed-origins}")
 	private String[] allowedOrigins;
 
+	private final ConditionalGetInterceptor conditionalGetInterceptor;
+
 	@Override
 	public void addCorsMappings(CorsRegistry registry) {
 		registry.addMapping("/api/**")
@@ -37,6 +41,13 @@ public class WebMvcConfig implements WebMvcConfigurer {
 				.allowCredentials(true);
 	}
 
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		// @ConditionalGet 조회 API - 변경이 없으면 서비스 호출 없이 304
+		registry.addInterceptor(conditionalGetInterceptor)
+				.addPathPatterns("/api/**");
+	}
+
 	@Override
 	public void addResourceHandlers(ResourceHandlerRegistry registry) {
 		// Raspberry Pi에서 저장한 이미지 접근 경로 설정
@@ -11,6 +11,7 @@ import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -30,6 +31,11 @@ import java.util.Map;
 @Slf4j
 public class AuthController {
 
+    static final String ACCESS_TOKEN_COOKIE = "jwt_token";
+    // 리프레시 토큰은 /api/auth 경로(refresh, logout)로만 전송
+    static final String REFRESH_TOKEN_COOKIE = "refresh_token";
+    static final String REFRESH_TOKEN_PATH = "/api/auth";
+
     private final AuthService authService;
 
     private final MessageSource messageSource;
@@ -41,39 +47,53 @@ public class AuthController {
         String password = loginRequest.get("pw");
 
         // 1. 서비스에서 토큰과 사용자 정보를 받아옵니다.
-        CustomMap loginResult = authService.login(userId, password);
-        String token = loginResult.getString("token");
-        String name = loginResult.getString("name");
+        CustomMap loginResult = authService.login(userId, password, ClientIpUtils.getClientIp(httpServletRequest));
 
-        // 2. 💡 HttpOnly 쿠키를 생성합니다.
-        Cookie cookie = new Cookie("jwt_token", token);
-        cookie.setHttpOnly(true); // 자바스크립트 접근 불가
-        cookie.setPath("/");      // 모든 경로에서 쿠키 사용
-        cookie.setMaxAge(60 * 60); // 쿠키 유효 시간 (1시간)
-        // cookie.setSecure(true); // HTTPS 환경에서만 쿠키 전송 (배포 시 활성화 권장)
+        // 2. 💡 HttpOnly 쿠키(액세스/리프레시 토큰)를 응답에 추가하고, 본문에는 민감하지 않은 정보만 담습니다.
+        return ResponseEntity.ok(writeTokens(loginResult, httpServletResponse));
+    }
 
-        // 3. 💡 응답(Response)에 쿠키를 추가합니다.
-        httpServletResponse.addCookie(cookie);
+    /**
+     * 리프레시 토큰 쿠키로 액세스 토큰을 재발급합니다. (비밀번호 검증 없음, 리프레시 토큰도 새로 발급)
+     * 클라이언트는 응답의 expiresIn(초) 이 지나기 전에 다시 호출합니다.
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<CustomMap> refresh(@CookieValue(name = REFRESH_TOKEN_COOKIE, required = false) String refreshToken,
+                                             HttpServletResponse httpServletResponse) {
+        return ResponseEntity.ok(writeTokens(authService.refresh(refreshToken), httpServletResponse));
+    }
+
+    private static CustomMap writeTokens(CustomMap result, HttpServletResponse response) {
+        long expiresIn = Long.parseLong(result.getString("expiresIn"));
+        response.addCookie(tokenCookie(ACCESS_TOKEN_COOKIE, result.getString("token"), "/", expiresIn));
+        response.addCookie(tokenCookie(REFRESH_TOKEN_COOKIE, result.getString("refreshToken"), REFRESH_TOKEN_PATH,
+                Long.parseLong(result.getString("refreshExpiresIn"))));
 
-        // 4. 응답 본문(Body)에는 사용자 이름 등 민감하지 않은 정보만 담습니다.
         CustomMap responseBody = new CustomMap();
-        responseBody.put("name", name);
+        responseBody.put("name", result.getString("name"));
+        responseBody.put("expiresIn", expiresIn);
+        return responseBody;
+    }
 
-        return ResponseEntity.ok(responseBody);
+    private static Cookie tokenCookie(String name, String value, String path, long maxAgeSeconds) {
+        Cookie cookie = new Cookie(name, value);
+        cookie.setHttpOnly(true); // 자바스크립트 접근 불가
+        cookie.setPath(path);
+        cookie.setMaxAge((int) maxAgeSeconds); // 0 이면 즉시 만료
+        // cookie.setSecure(true); // HTTPS 환경에서만 쿠키 전송 (배포 시 활성화 권장)
+        return cookie;
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<CustomMap> logout(HttpServletRequest request, HttpServletResponse response) {
-        // 1. 'jwt_token' 쿠키를 찾아서 만료시킵니다.
-        Cookie cookie = new Cookie("jwt_token", null); // value를 null로 설정
+    public ResponseEntity<CustomMap> logout(@CookieValue(name = REFRESH_TOKEN_COOKIE, required = false) String refreshToken,
+                                            HttpServletRequest request, HttpServletResponse response) {
         log.info("logout request: {}", request);
-        cookie.setHttpOnly(true);
-
-        cookie.setMaxAge(0); // 유효시간을 0으로 설정하여 즉시 만료
-        cookie.setPath("/"); // 쿠키가 사용된 모든 경로에서 삭제되도록 설정
+        // 1. 리프레시 토큰 계열을 폐기하고, 두 쿠키를 만료시킵니다.
+        authService.logout(refreshToken);
 
         // 2. 응답에 만료된 쿠키를 추가하여 클라이언트에게 전달합니다.
-        response.addCookie(cookie);
+        response.addCookie(tokenCookie(ACCESS_TOKEN_COOKIE, null, "/", 0));
+        response.addCookie(tokenCookie(REFRESH_TOKEN_COOKIE, null, REFRESH_TOKEN_PATH, 0));
 
         // 3. 응답 본문을 구성합니다.
         CustomMap responseBody = new CustomMap();
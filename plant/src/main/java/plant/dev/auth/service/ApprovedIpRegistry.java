@@ -0,0 +1,95 @@
+package plant.dev.auth.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import plant.com.cmm.util.IpPrefixTrie;
+import plant.dev.jpa.entity.UserIP;
+import plant.dev.jpa.repository.UserIPRepository;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 접속 허용 IP/대역(user_ip_tbl, ip_yn='Y') 을 메모리에 보관하는 클래스입니다.
+/**
+ * 허용 IP 목록
+ * - user_ip 는 단일 주소("10.0.0.5") 또는 대역("10.0.0.0/24") - 대역을 등록하면 서브넷 전체 허용
+ * - 전체 목록을 IpPrefixTrie 로 만들어 교체 게시 (조회는 락 없음)
+ * - UserIP 저장/수정/삭제 시 AuthCacheEntityListener 가 invalidate, auth.cache.ttl-seconds 가 지나도 다시 조회
+ */
+@Slf4j
+@Component
+public class ApprovedIpRegistry {
+
+    private record Snapshot(IpPrefixTrie trie, long loadedAtNanos) {
+    }
+
+    private final UserIPRepository userIPRepository;
+    private final long ttlNanos;
+    private final AtomicLong generation = new AtomicLong();
+    // 만료 시 한 스레드만 DB 조회 (ReentrantLock - 조회를 기다리는 가상 스레드가 캐리어 스레드를 붙잡지 않음)
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    public ApprovedIpRegistry(UserIPRepository userIPRepository, MeterRegistry meterRegistry,
+                              @Value("${auth.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.userIPRepository = userIPRepository;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        Gauge.builder("auth.approved.ip.size", this, registry -> {
+                    Snapshot current = registry.snapshot;
+                    return current != null ? current.trie().size() : 0;
+                })
+                .description("캐시된 접속 허용 IP/대역 건수")
+                .register(meterRegistry);
+    }
+
+    /** 주소가 허용 IP 이거나 허용 대역에 포함되면 true */
+    public boolean isApproved(String ip) {
+        return current().contains(ip);
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    private IpPrefixTrie current() {
+        Snapshot current = snapshot;
+        if (current != null && System.nanoTime() - current.loadedAtNanos() < ttlNanos) {
+            return current.trie();
+        }
+        loadLock.lock();
+        try {
+            current = snapshot;
+            long now = System.nanoTime();
+            if (current != null && now - current.loadedAtNanos() < ttlNanos) {
+                return current.trie();
+            }
+            long loadedGeneration = generation.get();
+            IpPrefixTrie trie = load();
+            // 조회 중 invalidate 되었으면 이번 결과는 게시하지 않음
+            if (generation.get() == loadedGeneration) {
+                snapshot = new Snapshot(trie, now);
+            }
+            return trie;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private IpPrefixTrie load() {
+        IpPrefixTrie trie = new IpPrefixTrie();
+        for (UserIP userIP : userIPRepository.findByIpYn("Y")) {
+            try {
+                trie.add(userIP.getUserIp());
+            } catch (IllegalArgumentException | NullPointerException e) {
+                log.warn("허용 IP 형식 오류로 제외: {}", userIP.getUserIp());
+            }
+        }
+        log.debug("허용 IP/대역 {}건 적재", trie.size());
+        return trie;
+    }
+}
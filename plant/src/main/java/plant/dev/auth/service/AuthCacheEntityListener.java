@@ -0,0 +1,54 @@
+package plant.dev.auth.service;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import plant.dev.jpa.entity.User;
+import plant.dev.jpa.entity.UserIP;
+
+// User / UserIP 변경 시 인증 캐시(UserAuthCache, ApprovedIpRegistry)를 비우는 JPA 엔티티 리스너입니다.
+/**
+ * - Hibernate 가 SpringBeanContainer(PersistenceConfig)를 통해 Spring 빈으로 생성
+ * - 캐시는 ObjectProvider 로 사용 시점에 조회 (EntityManagerFactory 생성 중 순환 참조 방지)
+ * - flush 시점에 한 번, 트랜잭션 종료 후 한 번 더 비움 (커밋 전 다른 요청이 이전 값을 다시 캐시하는 경우 대비)
+ */
+@Component
+public class AuthCacheEntityListener {
+
+    private final ObjectProvider<UserAuthCache> userAuthCache;
+    private final ObjectProvider<ApprovedIpRegistry> approvedIpRegistry;
+
+    public AuthCacheEntityListener(ObjectProvider<UserAuthCache> userAuthCache,
+                                   ObjectProvider<ApprovedIpRegistry> approvedIpRegistry) {
+        this.userAuthCache = userAuthCache;
+        this.approvedIpRegistry = approvedIpRegistry;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        Runnable evict;
+        if (entity instanceof User user) {
+            String userId = user.getUserId();
+            evict = () -> userAuthCache.ifAvailable(cache -> cache.evict(userId));
+        } else if (entity instanceof UserIP) {
+            evict = () -> approvedIpRegistry.ifAvailable(ApprovedIpRegistry::invalidate);
+        } else {
+            return;
+        }
+        evict.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict.run();
+                }
+            });
+        }
+    }
+}
@@ -6,16 +6,23 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import plant.com.cmm.exception.CustomException;
+import plant.com.cmm.exception.UnauthorizedException;
 import plant.com.cmm.util.ClientIpUtils;
 import plant.com.cmm.util.map.CustomMap;
 import plant.com.jwt.JwtUtil;
+import plant.com.jwt.RefreshTokenStore;
+import plant.com.jwt.password.PasswordHashExecutor;
+import plant.com.security.LoginRateLimiter;
 import plant.dev.auth.dto.RegisterDto;
 import plant.dev.auth.dto.UserDto;
 import plant.dev.jpa.entity.User;
 import plant.dev.jpa.repository.UserRepository;
 
+import java.util.Optional;
+
 // 사용자 인증 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
 @Service
 @RequiredArgsConstructor
@@ -26,32 +33,103 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final RefreshTokenStore refreshTokenStore;
+    private final PasswordHashExecutor passwordHashExecutor;
+    private final LoginRateLimiter loginRateLimiter;
+    private final UserAuthCache userAuthCache;
+    private final ApprovedIpRegistry approvedIpRegistry;
+
+    /**
+     * 로그인 - 시도 제한(사용자/IP) 검사 후 전용 실행기에서 비밀번호 검증
+     * 저장된 해시의 강도가 낮으면 현재 설정으로 다시 저장합니다.
+     * 사용자/허용 IP 는 캐시에서 조회하므로 캐시 적중 시 DB 커넥션을 사용하지 않습니다. (트랜잭션 없음)
+     * @throws plant.com.cmm.exception.TooManyRequestsException 시도 제한 초과, 검증 대기열 초과
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CustomMap login(String userId, String password, String clientIp) throws CustomException {
+        // 0. 해시 검증 전에 시도 횟수 제한
+        loginRateLimiter.check(userId, clientIp);
 
-    public CustomMap login(String userId, String password) throws CustomException {
-        // 1. JPA로 사용자 조회
-        User user = userRepository.findUserByIdAndApprovedIp(userId)
+        // 1. 사용자 조회 (캐시) + 사용자 IP 가 허용 IP/대역에 포함되는지 확인
+        UserAuthCache.AuthUser user = findApprovedUser(userId)
                 .orElseThrow(() -> new CustomException("LOGIN_FAIL", "아이디 또는 비밀번호가 일치하지 않습니다."));
 
-        // 2. 패스워드 검증
-        if (!passwordEncoder.matches(password, user.getUserPswr())) {
+        // 2. 패스워드 검증 (요청 스레드가 아닌 해시 전용 스레드에서 실행)
+        if (!passwordHashExecutor.call(() -> passwordEncoder.matches(password, user.userPswr()))) {
             throw new CustomException("LOGIN_FAIL", "아이디 또는 비밀번호가 일치하지 않습니다.");
         }
+        upgradePasswordHash(user, password);
 
-        // 3. User 엔티티를 UserDto로 변환
-        UserDto userDto = new UserDto();
-        userDto.setUserId(user.getUserId());
-        userDto.setUserName(user.getUserName());
-        userDto.setRolGrade(user.getRolGrade());
+        // 3. 액세스 토큰 + 새 계열의 리프레시 토큰 발급
+        return issueTokens(user, refreshTokenStore.issue(user.userId()));
+    }
+
+    /**
+     * 리프레시 토큰으로 액세스 토큰을 재발급합니다. (비밀번호 해시 검증 없음)
+     * - 리프레시 토큰은 회전(새 토큰 발급), 재사용된 토큰이면 계열 전체 폐기
+     * - 사용자/허용 IP 확인은 그대로 수행하여 승인 해제/권한 변경을 반영 (캐시 조회)
+     * @param refreshToken 리프레시 토큰 (쿠키)
+     * @return login 과 같은 형태의 결과 (token, refreshToken, expiresIn ...)
+     * @throws UnauthorizedException 없거나 만료/폐기/재사용된 토큰, 승인 해제된 사용자 (401)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CustomMap refresh(String refreshToken) throws CustomException {
+        RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(refreshToken);
+        if (rotation == null) {
+            throw new UnauthorizedException("REFRESH_FAIL", "로그인이 만료되었습니다. 다시 로그인해 주세요.");
+        }
+        UserAuthCache.AuthUser user = findApprovedUser(rotation.userId()).orElse(null);
+        if (user == null) {
+            refreshTokenStore.revoke(rotation.token());
+            throw new UnauthorizedException("REFRESH_FAIL", "로그인이 만료되었습니다. 다시 로그인해 주세요.");
+        }
+        return issueTokens(user, rotation.token());
+    }
+
+    /** 로그아웃 - 리프레시 토큰 계열 폐기 */
+    public void logout(String refreshToken) {
+        refreshTokenStore.revoke(refreshToken);
+    }
 
-        // 4. JWT 생성
-        String token = jwtUtil.generateToken(userDto);
+    /** 사용자 IP(user_ip)가 허용 IP 이거나 허용 대역에 포함된 사용자만 반환 (기존 user_tbl/user_ip_tbl 조인 조건) */
+    private Optional<UserAuthCache.AuthUser> findApprovedUser(String userId) {
+        return userAuthCache.find(userId).filter(user -> approvedIpRegistry.isApproved(user.userIp()));
+    }
+
+    /** 저장된 해시가 이전 강도(cost)이면 현재 설정으로 다시 해시하여 저장 (실패해도 로그인은 계속) */
+    private void upgradePasswordHash(UserAuthCache.AuthUser user, String password) {
+        if (!passwordEncoder.upgradeEncoding(user.userPswr())) {
+            return;
+        }
+        try {
+            String upgraded = passwordHashExecutor.call(() -> passwordEncoder.encode(password));
+            // 저장 시 AuthCacheEntityListener 가 캐시를 비움
+            userRepository.findById(user.userId()).ifPresent(entity -> {
+                entity.changePassword(upgraded);
+                userRepository.save(entity);
+            });
+            log.info("비밀번호 해시 강도 상향. User: {}", user.userId());
+        } catch (RuntimeException e) {
+            log.warn("비밀번호 해시 강도 상향 실패. User: {} ({})", user.userId(), e.getMessage());
+        }
+    }
+
+    private CustomMap issueTokens(UserAuthCache.AuthUser user, String refreshToken) {
+        // 사용자 정보를 UserDto로 변환
+        UserDto userDto = new UserDto();
+        userDto.setUserId(user.userId());
+        userDto.setUserName(user.userName());
+        userDto.setRolGrade(user.rolGrade());
 
-        // 5. 💡 토큰과 사용자 이름을 CustomMap에 담아 반환
+        // 💡 토큰과 사용자 이름을 CustomMap에 담아 반환
         CustomMap result = new CustomMap();
-        result.put("token", token);
-        result.put("id", user.getUserId());
-        result.put("email", user.getUserId());
-        result.put("name", user.getUserName());
+        result.put("token", jwtUtil.generateToken(userDto));
+        result.put("expiresIn", jwtUtil.getAccessTokenValiditySeconds());
+        result.put("refreshToken", refreshToken);
+        result.put("refreshExpiresIn", refreshTokenStore.getValiditySeconds());
+        result.put("id", user.userId());
+        result.put("email", user.userId());
+        result.put("name", user.userName());
 
         return result;
     }
@@ -63,7 +141,7 @@ public class AuthService {
     @Transactional
     public void register(RegisterDto requestDto, String userip) {
         // 1. 이메일(사용자 ID) 중복 확인
-        if (userRepository.findByUserId(requestDto.getId()).isPresent()) {
+        if (userAuthCache.find(requestDto.getId()).isPresent()) {
             log.error("중복아이디. User: {}", requestDto.getId());
             throw new CustomException("error.Duplicate_id");
         }
@@ -71,7 +149,7 @@ public class AuthService {
         // 2. User 엔티티 생성 및 정보 설정
         User newUser = new User(
                 requestDto.getId(),
-                passwordEncoder.encode(requestDto.getPassword()),
+                passwordHashExecutor.call(() -> passwordEncoder.encode(requestDto.getPassword())),
                 requestDto.getName(),
                 "Y",
                 "ROLE_USER",
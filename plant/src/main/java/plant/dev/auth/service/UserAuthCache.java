@@ -0,0 +1,99 @@
+package plant.dev.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import plant.dev.jpa.entity.User;
+import plant.dev.jpa.repository.UserRepository;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 로그인/토큰 재발급에 필요한 사용자 정보를 메모리에 보관하는 캐시 클래스입니다.
+/**
+ * 사용자 인증 정보 캐시
+ * - userId -> 불변 AuthUser (JPA 엔티티를 보관하지 않으므로 영속성 컨텍스트와 무관)
+ * - 없는 사용자는 캐시하지 않음, auth.cache.ttl-seconds 가 지나면 다시 조회 (DB 직접 수정 대비)
+ * - User 저장/수정/삭제 시 AuthCacheEntityListener 가 evict (조회 중 evict 되면 그 결과는 캐시하지 않음)
+ * - 최대 건수(auth.cache.user.max-size)에 도달하면 전체를 비움
+ */
+@Component
+public class UserAuthCache {
+
+    /** 캐시되는 사용자 정보 */
+    public record AuthUser(String userId, String userPswr, String userName, String rolGrade, String userIp) {
+        static AuthUser of(User user) {
+            return new AuthUser(user.getUserId(), user.getUserPswr(), user.getUserName(), user.getRolGrade(), user.getUserIp());
+        }
+    }
+
+    private record Entry(AuthUser user, long loadedAtNanos) {
+    }
+
+    private final UserRepository userRepository;
+    private final long ttlNanos;
+    private final int maxSize;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public UserAuthCache(UserRepository userRepository, MeterRegistry meterRegistry,
+                         @Value("${auth.cache.ttl-seconds:300}") long ttlSeconds,
+                         @Value("${auth.cache.user.max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.maxSize = maxSize;
+        this.hitCounter = cacheCounter(meterRegistry, "hit");
+        this.missCounter = cacheCounter(meterRegistry, "miss");
+        Gauge.builder("auth.user.cache.size", entries, Map::size)
+                .description("캐시된 사용자 인증 정보 건수")
+                .register(meterRegistry);
+    }
+
+    private static Counter cacheCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.user.cache")
+                .description("사용자 인증 정보 캐시 조회 (hit/miss)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public Optional<AuthUser> find(String userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        long now = System.nanoTime();
+        Entry entry = entries.get(userId);
+        if (entry != null && now - entry.loadedAtNanos() < ttlNanos) {
+            hitCounter.increment();
+            return Optional.of(entry.user());
+        }
+        missCounter.increment();
+        long loadedGeneration = generation.get();
+        Optional<AuthUser> user = userRepository.findByUserId(userId).map(AuthUser::of);
+        if (user.isPresent() && ttlNanos > 0 && generation.get() == loadedGeneration) {
+            if (entries.size() >= maxSize) {
+                entries.clear();
+            }
+            entries.put(userId, new Entry(user.get(), now));
+        }
+        return user;
+    }
+
+    public void evict(String userId) {
+        generation.incrementAndGet();
+        if (userId != null) {
+            entries.remove(userId);
+        }
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+}
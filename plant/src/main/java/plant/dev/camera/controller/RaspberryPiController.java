@@ -1,5 +1,6 @@
 package plant.dev.camera.controller;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.json.JSONObject;
 import org.springframework.http.HttpEntity;
@@ -9,6 +10,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import plant.com.cmm.exception.TooManyRequestsException;
+import plant.com.cmm.web.ConditionalGet;
+import plant.com.cmm.xss.XssPolicy;
 import plant.dev.camera.dto.SettingDTO;
 import plant.dev.camera.service.DetectionLogService;
 import plant.dev.camera.service.SettingService;
@@ -26,11 +30,13 @@ public class RaspberryPiController {
 
     private final DetectionLogService detectionLogService;
     private final SettingService settingService;
+    private final MeterRegistry meterRegistry;
 
     private final Map<String, JSONObject> inferenceMap = new ConcurrentHashMap<>();
     private static final String FLASK_SERVER_URL = "http://192.168.10.243:5000";
 
-    /** ✅ [1] 이미지 프레임 수신 */
+    /** ✅ [1] 이미지 프레임 수신 (장비 전용 수집 경로 - XSS 필터링 제외) */
+    @XssPolicy(XssPolicy.Mode.RAW)
     @PostMapping("/frame")
     public ResponseEntity<?> uploadFrame(
             @RequestParam("image") MultipartFile image,
@@ -47,6 +53,8 @@ public class RaspberryPiController {
             Files.createDirectories(Paths.get(saveDir));
             Path savePath = Paths.get(saveDir, captureId + ".jpg");
             image.transferTo(savePath.toFile());
+            // 저장한 프레임 크기 (pi.frame.bytes - 건수/합계로 초당 수신량 확인)
+            meterRegistry.summary("pi.frame.bytes").record(image.getSize());
 
             System.out.println("[FRAME] Saved → " + savePath);
             return ResponseEntity.ok().build();
@@ -56,7 +64,8 @@ public class RaspberryPiController {
         }
     }
 
-    /** ✅ [2] 추론 결과 수신 */
+    /** ✅ [2] 추론 결과 수신 (장비 전용 수집 경로 - XSS 필터링 제외) */
+    @XssPolicy(XssPolicy.Mode.RAW)
     @PostMapping("/infer")
     public ResponseEntity<?> uploadInfer(
             @RequestParam("capture_id") String captureId,
@@ -72,6 +81,8 @@ public class RaspberryPiController {
             inferenceMap.put(captureId, json);
 
             return ResponseEntity.ok().build();
+        } catch (TooManyRequestsException e) {
+            throw e; // DB 동시 실행 제한 초과 - 429 + Retry-After (GlobalExceptionHandler)
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseEntity.badRequest().body("파싱 또는 DB 저장 실패");
@@ -119,7 +130,8 @@ public class RaspberryPiController {
         }
     }
 
-    /** ✅ [5] 현재 설정 조회 */
+    /** ✅ [5] 현재 설정 조회 (설정 저장 전까지는 If-None-Match 로 304) */
+    @ConditionalGet(SettingService.VERSION_RESOURCE)
     @GetMapping("/settings")
     public ResponseEntity<?> getSettings() {
         SettingDTO settings = settingService.getSettings();
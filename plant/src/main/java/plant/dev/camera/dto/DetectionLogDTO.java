@@ -13,7 +13,7 @@ public class DetectionLogDTO {
 
     private String classes;          // 예: "1:0.97,3:0.72"
     private String productCode;      // 예: "banana", "strawberry"
-    private String productResult;    // 예: "normal", "defect" (NOT NULL)
+    private String productResult;    // 예: "normal", "defect", "hold" (NOT NULL)
     private String defectType;       // 예: "damage-h", "hole"
     private String confidence;       // 예: "0.9707" (문자열 저장)
     private String imageUrl;         // 예: "/static/imgs/abc123.jpg"
@@ -5,5 +5,7 @@ import plant.dev.camera.dto.DetectionLogDTO;
 
 @Mapper
 public interface DetectionLogMapper {
-    int upsertDetectionLog(DetectionLogDTO dto);
+    int insertDetectionLog(DetectionLogDTO dto);
+
+    int updateDetectionLog(DetectionLogDTO dto);
 }
@@ -2,5 +2,8 @@ package plant.dev.camera.service;
 
 public interface DetectionLogService {
 
+    /** 조건부 GET 리소스 이름 - 이미 저장된 검사 결과가 재전송으로 바뀐 경우만 증가 (신규 건은 현재 시각으로만 들어감) */
+    String REVISION_RESOURCE = "inspection.revision";
+
     void saveInferJson(String captureId, String resultJson, Long seq);
 }
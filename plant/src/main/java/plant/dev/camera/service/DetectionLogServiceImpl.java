@@ -3,10 +3,17 @@ package plant.dev.camera.service;
 import lombok.RequiredArgsConstructor;
 import org.json.JSONArray;
 import org.json.JSONObject;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import plant.com.cmm.datasource.UseWorkload;
+import plant.com.cmm.datasource.Workload;
+import plant.com.cmm.web.ResourceVersionRegistry;
 import plant.dev.camera.dto.DetectionLogDTO;
 import plant.dev.camera.mapper.DetectionLogMapper;
+import plant.dev.dashboard.service.DashboardLiveService;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,6 +24,8 @@ import java.util.Map;
 public class DetectionLogServiceImpl implements DetectionLogService {
 
     private final DetectionLogMapper detectionLogMapper;
+    private final DashboardLiveService dashboardLiveService;
+    private final ResourceVersionRegistry resourceVersionRegistry;
 
     // ✔ 클래스 ID → 제품명
     private static final Map<Integer, String> PRODUCT_MAP = Map.of(
@@ -32,6 +41,7 @@ public class DetectionLogServiceImpl implements DetectionLogService {
     );
 
     @Override
+    @UseWorkload(Workload.INGEST)
     @Transactional
     public void saveInferJson(String captureId, String resultJson, Long seq) {
         JSONObject json = new JSONObject(resultJson);
@@ -53,12 +63,34 @@ public class DetectionLogServiceImpl implements DetectionLogService {
         // ✅ image_url은 result에 없으면 null
         dto.setImageUrl(json.optString("image_url", null));
 
-        // ✅ DB 저장 (UPSERT)
-        detectionLogMapper.upsertDetectionLog(dto);
+        // ✅ DB 저장 (신규 captureId 만 insert, 재전송이면 기존 행 갱신)
+        // 재전송된 captureId(UNIQUE 중복)는 실시간 집계에서 제외
+        try {
+            detectionLogMapper.insertDetectionLog(dto);
+            publishLiveAfterCommit(dto.getProductResult(), dto.getDefectType());
+        } catch (DuplicateKeyException e) {
+            detectionLogMapper.updateDetectionLog(dto);
+            // 기존 행 갱신 - 지난 기간 집계(마감된 대시보드 응답)도 바뀔 수 있음
+            resourceVersionRegistry.bumpAfterCommit(REVISION_RESOURCE);
+        }
 
         System.out.printf("[INFER][DB] 저장 완료 → %s (seq=%s)\n", captureId, seq);
     }
 
+    // 🔹 실시간 대시보드 집계: 커밋이 확정된 뒤에만 반영 (롤백된 건이 차트에 잡히지 않도록)
+    private void publishLiveAfterCommit(String productResult, String defectType) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dashboardLiveService.record(productResult, defectType);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dashboardLiveService.record(productResult, defectType);
+            }
+        });
+    }
+
     // 🔹 요약 문자열로 변환: [[1, 0.9], [4, 0.72]] → "1:0.9000,4:0.7200"
     private String toClassSummary(JSONArray arr) {
         if (arr == null || arr.isEmpty()) return null;
@@ -75,7 +107,9 @@ public class DetectionLogServiceImpl implements DetectionLogService {
     }
 
     // 🔹 클래스 ID 기반으로 제품 코드 / 불량 타입 / 결과 자동 매핑
+    // 클래스가 없으면 보류(hold) - product_result 는 NOT NULL
     private void mapProductAndDefect(JSONArray classesArray, DetectionLogDTO dto) {
+        dto.setProductResult("hold");
         if (classesArray == null || classesArray.isEmpty()) return;
 
         String productCode = null;
@@ -3,6 +3,10 @@ package plant.dev.camera.service;
 import plant.dev.camera.dto.SettingDTO;
 
 public interface SettingService {
+
+    /** 조건부 GET 리소스 이름 (설정 저장 시 버전 증가) */
+    String VERSION_RESOURCE = "settings";
+
     void saveSettings(SettingDTO settingsDTO);
     SettingDTO getSettings();
 
@@ -2,19 +2,25 @@ package plant.dev.camera.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import plant.com.cmm.datasource.UseWorkload;
+import plant.com.cmm.datasource.Workload;
+import plant.com.cmm.web.ResourceVersionRegistry;
 import plant.dev.camera.dto.SettingDTO;
 import plant.dev.camera.mapper.SettingMapper;
 
 @Service
 @RequiredArgsConstructor
+@UseWorkload(Workload.OLTP) // 장비가 주기적으로 조회 - 동시 실행 제한(db.pool.oltp.bulkhead-*) 적용 대상
 public class SettingServiceImpl implements SettingService {
 
     private final SettingMapper settingMapper;  // ✅ 변수명도 통일
+    private final ResourceVersionRegistry resourceVersionRegistry;
 
     @Override
     public void saveSettings(SettingDTO settingDTO) {
         // ✅ 단일 row 관리용 테이블이면 upsert (insert or update)
         settingMapper.upsertSettings(settingDTO);
+        resourceVersionRegistry.bumpAfterCommit(VERSION_RESOURCE);
     }
 
     @Override
@@ -1,7 +1,11 @@
 package plant.dev.dashboard.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import plant.com.cmm.web.ConditionalGet;
+import plant.dev.dashboard.service.DashboardLiveService;
 import plant.dev.dashboard.service.DashboardService;
 import plant.dev.dashboard.dto.DashboardDTO.*;
 
@@ -19,6 +23,8 @@ import java.util.List;
  *  - GET /api/dashboard/delivery?period=week&startDate=2024-01-01&endDate=2024-03-31
  *  - GET /api/dashboard/defect-cause?period=year&startDate=2021-01-01&endDate=2025-12-31
  *  - GET /api/dashboard/product-delivery?period=month&startDate=2025-01-01&endDate=2025-09-30
+ *  - GET /api/dashboard/live (SSE, event: quality → 1초 단위 정상/불량 증분)
+ * - G1~G4 는 마감된 기간(지난 주/월/년) 조회에 한해 ETag 조건부 요청 지원 (변경 없으면 304)
  *
  * @author : yeonsu
  * @fileName : DashboardController
@@ -32,8 +38,10 @@ import java.util.List;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final DashboardLiveService dashboardLiveService;
 
     /** G1: 정상/불량 건수 (+불량률) */
+    @ConditionalGet(DashboardService.CLOSED_PERIOD_RESOURCE)
     @GetMapping("/quality")
     public List<QualityTrendRow> getQuality(
             @RequestParam(defaultValue = "month") String period,
@@ -44,6 +52,7 @@ public class DashboardController {
     }
 
     /** G2: 납품 현황 (건수 + 수량) */
+    @ConditionalGet(DashboardService.CLOSED_PERIOD_RESOURCE)
     @GetMapping("/delivery")
     public List<DeliveryComboRow> getDelivery(
             @RequestParam(defaultValue = "month") String period,
@@ -54,6 +63,7 @@ public class DashboardController {
     }
 
     /** G3: 불량 원인 분석 (뚜껑 손상 vs 몸통 찌그러짐) */
+    @ConditionalGet(DashboardService.CLOSED_PERIOD_RESOURCE)
     @GetMapping("/defect-cause")
     public List<DefectCauseRow> getDefectCause(
             @RequestParam(defaultValue = "month") String period,
@@ -64,6 +74,7 @@ public class DashboardController {
     }
 
     /** G4: 제품별 납품 현황 (바나나/딸기/메로나) */
+    @ConditionalGet(DashboardService.CLOSED_PERIOD_RESOURCE)
     @GetMapping("/product-delivery")
     public List<ProductDeliveryRow> getProductDelivery(
             @RequestParam(defaultValue = "month") String period,
@@ -72,4 +83,10 @@ public class DashboardController {
     ) {
         return dashboardService.getProductDelivery(period, startDate, endDate);
     }
+
+    /** 실시간: 검사 결과 커밋 시 1초 단위로 병합된 정상/불량 증분을 SSE로 전송 */
+    @GetMapping(value = "/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter live() {
+        return dashboardLiveService.subscribe();
+    }
 }
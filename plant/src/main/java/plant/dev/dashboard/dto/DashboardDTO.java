@@ -1,5 +1,7 @@
 package plant.dev.dashboard.dto;
 
+import java.util.Map;
+
 /*
  * 대시보드 응답 DTO 모음
  * - MyBatis 매핑 결과를 담는 데이터 전송 객체(Record) 정의
@@ -51,4 +53,14 @@ public final class DashboardDTO {
             long deliveredCount,  // 납품 건수
             long deliveredQty     // 납품 수량
     ) {}
+
+    // 실시간(SSE) 품질 집계 - 1초 단위로 병합된 증분
+    public record QualityLiveEvent(
+            long epochSecond,                 // 집계 구간 종료 시각 (epoch 초)
+            long normal,                      // 구간 내 정상 건수
+            long defect,                      // 구간 내 불량 건수
+            long hold,                        // 구간 내 보류 건수 (판정 불가)
+            double defectRatePct,             // 구간 불량률 (%)
+            Map<String, Long> defectTypes     // 불량 타입별 건수 (Damage-H, Damage-B)
+    ) {}
 }
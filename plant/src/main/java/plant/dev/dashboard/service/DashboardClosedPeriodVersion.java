@@ -0,0 +1,62 @@
+package plant.dev.dashboard.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import plant.com.cmm.web.ResourceVersionRegistry;
+import plant.com.cmm.web.ResourceVersionRegistry.VersionStamp;
+import plant.com.cmm.web.VersionStampProvider;
+import plant.dev.camera.service.DetectionLogService;
+import plant.dev.warehouse.service.WarehouseService;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+
+/*
+ * 대시보드 마감 기간 버전 제공자
+ * - 조회 기간이 오늘 이전에 끝난 경우(week: endDate < 오늘, month: startDate(yyyy-MM) < 이번 달, year: startDate(yyyy) < 올해)만 조건부 GET 대상
+ * - 검사 결과는 현재 시각으로만 쌓이므로 마감 기간은 재전송 갱신(inspection.revision)과 재고 변경(inventory, 입고일 지정/삭제)으로만 바뀜
+ * - 기간이 없거나 진행 중인 기간이면 null (매번 조회)
+ * - period 정규화 규칙은 DashboardServiceImpl 과 동일 (기본 month)
+ */
+@Component
+@RequiredArgsConstructor
+public class DashboardClosedPeriodVersion implements VersionStampProvider {
+
+    private final ResourceVersionRegistry resourceVersionRegistry;
+
+    @Override
+    public String resource() {
+        return DashboardService.CLOSED_PERIOD_RESOURCE;
+    }
+
+    @Override
+    public VersionStamp stamp(HttpServletRequest request) {
+        if (!isClosed(request.getParameter("period"), request.getParameter("startDate"),
+                request.getParameter("endDate"), LocalDate.now())) {
+            return null;
+        }
+        VersionStamp inventory = resourceVersionRegistry.stamp(WarehouseService.VERSION_RESOURCE);
+        VersionStamp revision = resourceVersionRegistry.stamp(DetectionLogService.REVISION_RESOURCE);
+        return new VersionStamp(resource() + "." + inventory.tag() + "." + revision.tag(),
+                Math.max(inventory.lastModifiedMillis(), revision.lastModifiedMillis()));
+    }
+
+    static boolean isClosed(String period, String startDate, String endDate, LocalDate today) {
+        String periodType = period == null ? "month" : period.trim().toLowerCase();
+        try {
+            switch (periodType) {
+                case "week":
+                    return startDate != null && endDate != null && LocalDate.parse(endDate.trim()).isBefore(today);
+                case "year":
+                    return startDate != null && Year.parse(startDate.trim()).isBefore(Year.from(today));
+                default:
+                    return startDate != null && YearMonth.parse(startDate.trim()).isBefore(YearMonth.from(today));
+            }
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+}
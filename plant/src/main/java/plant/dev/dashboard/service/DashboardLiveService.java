@@ -0,0 +1,25 @@
+package plant.dev.dashboard.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/*
+ * 실시간 대시보드(SSE) 서비스 인터페이스
+ * - 검사 결과가 커밋될 때마다 메모리 집계기에 누적
+ * - 1초 단위로 증분을 병합하여 모든 구독자(브라우저 탭)에게 한 번에 전송
+ * - 구독자 수와 무관하게 DB 조회가 발생하지 않음
+ *
+ * @author : yeonsu
+ * @fileName : DashboardLiveService
+ * @since : 251019
+ */
+public interface DashboardLiveService {
+
+    /** SSE 구독 등록 (text/event-stream) */
+    SseEmitter subscribe();
+
+    /** 검사 결과 1건 누적 (productResult: defect/normal/null, defectType: Damage-H/Damage-B/null) */
+    void record(String productResult, String defectType);
+
+    /** 현재 구독자 수 */
+    int getSubscriberCount();
+}
@@ -0,0 +1,190 @@
+package plant.dev.dashboard.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import plant.com.config.MessageConverterConfig;
+import plant.dev.dashboard.dto.DashboardDTO.QualityLiveEvent;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * 실시간 대시보드(SSE) 서비스 구현체
+ * - record(): 요청 스레드에서 누적 LongAdder 증가만 수행 (락 없음)
+ * - flush(): 1초마다 누적값과 직전 전송값의 차이(증분)를 계산하고, 이벤트를 한 번만 직렬화하여 모든 구독자에게 전송
+ *   (구간 교체 방식과 달리 경계 시점에 들어온 건도 유실되지 않고 다음 구간에 반영됨)
+ * - 변화가 없는 구간은 전송하지 않고, heartbeat 주기마다 주석 라인(:)만 보내 프록시 연결 끊김을 방지
+ */
+@Slf4j
+@Service
+public class DashboardLiveServiceImpl implements DashboardLiveService {
+
+    private static final String EVENT_NAME = "quality";
+
+    // HTTP 응답과 같은 XSS 방어 설정으로 직렬화 (기본 ObjectMapper 는 필터링 없음)
+    private final ObjectMapper objectMapper = MessageConverterConfig.createSecureObjectMapper();
+    private final long emitterTimeoutMs;
+    // 구독자 한도 - 확인과 등록 사이 경합으로 한도를 넘지 않도록 슬롯을 먼저 확보 (해제는 목록에서 제거될 때 한 번)
+    private final Semaphore subscriberSlots;
+    private final long heartbeatIntervalMs;
+
+    private final CopyOnWriteArrayList<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    // 서버 기동 이후 누적 건수 (record 스레드에서 증가)
+    private final LongAdder normalTotal = new LongAdder();
+    private final LongAdder defectTotal = new LongAdder();
+    private final LongAdder holdTotal = new LongAdder();
+    private final Map<String, LongAdder> defectTypeTotals = new ConcurrentHashMap<>();
+
+    // 직전 flush 시점의 누적값 (스케줄러 단일 스레드에서만 접근)
+    private long lastNormal;
+    private long lastDefect;
+    private long lastHold;
+    private final Map<String, Long> lastDefectTypes = new HashMap<>();
+
+    // flush 직렬화 - SSE 전송(블로킹 쓰기)까지 잠금 안에서 수행하므로 monitor 대신 ReentrantLock
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private volatile long lastSentAt = System.currentTimeMillis();
+
+    public DashboardLiveServiceImpl(@Value("${dashboard.live.emitter-timeout-ms:1800000}") long emitterTimeoutMs,
+                                    @Value("${dashboard.live.max-subscribers:500}") int maxSubscribers,
+                                    @Value("${dashboard.live.heartbeat-interval-ms:15000}") long heartbeatIntervalMs) {
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.subscriberSlots = new Semaphore(maxSubscribers);
+        this.heartbeatIntervalMs = heartbeatIntervalMs;
+    }
+
+    @Override
+    public SseEmitter subscribe() {
+        if (!subscriberSlots.tryAcquire()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "실시간 대시보드 구독자 수가 한도를 초과했습니다.");
+        }
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        emitters.add(emitter);
+        emitter.onCompletion(() -> unregister(emitter));
+        emitter.onTimeout(() -> unregister(emitter));
+        emitter.onError(e -> unregister(emitter));
+
+        try {
+            // 연결 직후 재연결 간격 안내 (EventSource 자동 재연결)
+            emitter.send(SseEmitter.event().reconnectTime(3000).comment("connected"));
+        } catch (IOException e) {
+            unregister(emitter);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    // 완료 / 타임아웃 / 오류 콜백이 여러 번 와도 목록에서 실제로 빠진 경우에만 슬롯 반환
+    private void unregister(SseEmitter emitter) {
+        if (emitters.remove(emitter)) {
+            subscriberSlots.release();
+        }
+    }
+
+    @Override
+    public void record(String productResult, String defectType) {
+        if ("defect".equals(productResult)) {
+            defectTotal.increment();
+            if (defectType != null) {
+                defectTypeTotals.computeIfAbsent(defectType, k -> new LongAdder()).increment();
+            }
+        } else if ("normal".equals(productResult)) {
+            normalTotal.increment();
+        } else {
+            holdTotal.increment();
+        }
+    }
+
+    @Override
+    public int getSubscriberCount() {
+        return emitters.size();
+    }
+
+    /** 1초 단위 병합 전송 */
+    @Scheduled(fixedRateString = "${dashboard.live.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            long normalNow = normalTotal.sum();
+            long defectNow = defectTotal.sum();
+            long holdNow = holdTotal.sum();
+            long normal = normalNow - lastNormal;
+            long defect = defectNow - lastDefect;
+            long hold = holdNow - lastHold;
+            lastNormal = normalNow;
+            lastDefect = defectNow;
+            lastHold = holdNow;
+
+            Map<String, Long> defectTypes = new LinkedHashMap<>();
+            defectTypeTotals.forEach((type, adder) -> {
+                long total = adder.sum();
+                Long previous = lastDefectTypes.put(type, total);
+                long delta = total - (previous == null ? 0L : previous);
+                if (delta > 0) {
+                    defectTypes.put(type, delta);
+                }
+            });
+
+            if (emitters.isEmpty()) {
+                return;
+            }
+
+            long now = System.currentTimeMillis();
+
+            if (normal + defect + hold == 0) {
+                if (now - lastSentAt >= heartbeatIntervalMs) {
+                    broadcast(SseEmitter.event().comment("heartbeat").build());
+                    lastSentAt = now;
+                }
+                return;
+            }
+
+            long judged = normal + defect;
+            double defectRatePct = judged == 0 ? 0.0 : Math.round(defect * 10000.0 / judged) / 100.0;
+            QualityLiveEvent event = new QualityLiveEvent(now / 1000, normal, defect, hold, defectRatePct, defectTypes);
+
+            String json;
+            try {
+                json = objectMapper.writeValueAsString(event);
+            } catch (JsonProcessingException e) {
+                log.warn("[DASHBOARD][LIVE] 이벤트 직렬화 실패", e);
+                return;
+            }
+
+            // 구독자 수와 관계없이 직렬화는 한 번만 수행하고, 완성된 SSE 프레임을 공유한다.
+            broadcast(SseEmitter.event().name(EVENT_NAME).data(json, MediaType.TEXT_PLAIN).build());
+            lastSentAt = now;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void broadcast(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(frame);
+            } catch (IOException | IllegalStateException e) {
+                // 브라우저 탭이 닫힌 경우 등: 목록에서 제거하고 종료 처리
+                unregister(emitter);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
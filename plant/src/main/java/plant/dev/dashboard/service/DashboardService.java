@@ -18,6 +18,9 @@ import java.util.List;
  */
 public interface DashboardService {
 
+    /** 조건부 GET 리소스 이름 - 마감된 기간 조회만 대상 (DashboardClosedPeriodVersion) */
+    String CLOSED_PERIOD_RESOURCE = "dashboard.closed";
+
     /** G1: 정상/불량 건수(불량률 포함) */
     List<QualityTrendRow> getQualityTrend(String periodType, String startDate, String endDate);
 
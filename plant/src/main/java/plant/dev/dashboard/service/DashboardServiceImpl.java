@@ -3,6 +3,8 @@ package plant.dev.dashboard.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import plant.com.cmm.datasource.UseWorkload;
+import plant.com.cmm.datasource.Workload;
 import plant.dev.dashboard.dto.DashboardDTO.DefectCauseRow;
 import plant.dev.dashboard.dto.DashboardDTO.DeliveryComboRow;
 import plant.dev.dashboard.dto.DashboardDTO.ProductDeliveryRow;
@@ -16,10 +18,11 @@ import java.util.stream.Collectors;
  * 대시보드 서비스 구현체
  * - periodType(week/month/year)을 정규화해서 Mapper에 전달
  * - 연간(year)일 때만 2021~2024 더미 + 2025 라이브(DB) 병합 (동일 키는 라이브 우선)
- * - 읽기 전용 트랜잭션
+ * - 읽기 전용 트랜잭션, 분석용 커넥션 풀(analytics) 사용
  */
 @Service
 @RequiredArgsConstructor
+@UseWorkload(Workload.ANALYTICS)
 @Transactional(readOnly = true)
 public class DashboardServiceImpl implements DashboardService {
 
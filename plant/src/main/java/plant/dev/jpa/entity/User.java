@@ -8,8 +8,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
+import plant.dev.auth.service.AuthCacheEntityListener;
 
 @Entity
+@EntityListeners(AuthCacheEntityListener.class) // 변경 시 인증 캐시 비움
 @Table(name = "user_tbl")
 @Getter
 @NoArgsConstructor
@@ -36,4 +38,8 @@ public class User {
     @Column(name = "user_ip", nullable = false, length = 50)
     private String userIp;
 
+    /** 비밀번호 해시 교체 (로그인 시 해시 강도 상향) */
+    public void changePassword(String encodedPassword) {
+        this.userPswr = encodedPassword;
+    }
 }
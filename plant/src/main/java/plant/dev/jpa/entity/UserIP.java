@@ -2,13 +2,16 @@ package plant.dev.jpa.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import plant.dev.auth.service.AuthCacheEntityListener;
 
 @Entity
+@EntityListeners(AuthCacheEntityListener.class) // 변경 시 인증 캐시 비움
 @Table(name = "user_ip_tbl")
 @Getter
 @NoArgsConstructor
@@ -0,0 +1,12 @@
+// 사용자 접속 허용 IP 엔티티에 대한 데이터 접근을 담당하는 레포지토리입니다.
+package plant.dev.jpa.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import plant.dev.jpa.entity.UserIP;
+
+import java.util.List;
+
+public interface UserIPRepository extends JpaRepository<UserIP, String> {
+    // 사용 여부(ipYn)로 허용 IP/대역 목록을 찾는 메서드
+    List<UserIP> findByIpYn(String ipYn);
+}
@@ -2,13 +2,22 @@ package plant.dev.logplant.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import plant.com.cmm.exception.CustomException;
 import plant.com.cmm.util.map.CustomMap;
 import plant.dev.auth.dto.UserDto;
+import plant.dev.logplant.dto.LogPlantDTO.LogRow;
 import plant.dev.logplant.serviec.LogPlantService;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 
@@ -17,14 +26,89 @@ import java.util.Map;
 @RequiredArgsConstructor
 @Slf4j
 public class LogPlantController {
+    private static final DateTimeFormatter EXPORT_FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
     private final LogPlantService logPlantService;
     @PostMapping("/logs")
-    public ResponseEntity<List<CustomMap>> logs(@RequestBody Map<String, String> requestBody,
+    public ResponseEntity<List<LogRow>> logs(@RequestBody Map<String, String> requestBody,
                                                 @AuthenticationPrincipal UserDto userDto) {
         log.debug("verifyUserName request: {}", requestBody);
-        List<CustomMap> Plant_Log = logPlantService.getPlantLog();
+        List<LogRow> Plant_Log = logPlantService.getPlantLog();
         return ResponseEntity.ok(Plant_Log);
     }
 
+    /**
+     * 검출 로그 페이지 조회 (keyset 페이지네이션)
+     * 예: GET /api/logs/page?size=50&result=defect&defectType=Damage-H&from=2025-10-01&to=2025-10-19
+     *     다음 페이지: 응답의 nextCursor 값을 cursor 파라미터로 전달
+     */
+    @GetMapping("/logs/page")
+    public ResponseEntity<CustomMap> logPage(@RequestParam(required = false) Integer size,
+                                             @RequestParam(required = false) String cursor,
+                                             @RequestParam(required = false) String result,
+                                             @RequestParam(required = false) String defectType,
+                                             @RequestParam(required = false) String productCode,
+                                             @RequestParam(required = false) String from,
+                                             @RequestParam(required = false) String to) {
+        CustomMap condition = new CustomMap();
+        condition.put("size", size);
+        condition.put("cursor", cursor);
+        condition.put("result", result);
+        condition.put("defectType", defectType);
+        condition.put("productCode", productCode);
+        condition.put("from", from);
+        condition.put("to", to);
+        return ResponseEntity.ok(logPlantService.getPlantLogPage(condition));
+    }
+
+    /**
+     * 검출 로그 내보내기 (CSV / NDJSON 스트리밍)
+     * - DB 결과를 한 행씩 응답 스트림에 기록하므로 행 수와 관계없이 메모리 사용량이 일정함
+     * - gzip=true: .gz 파일로 다운로드, 그 외에는 Accept-Encoding: gzip 이면 전송 구간만 압축
+     * 예: GET /api/logs/export?format=csv&from=2025-10-01&to=2025-10-19&gzip=true
+     */
+    @GetMapping("/logs/export")
+    public ResponseEntity<StreamingResponseBody> exportLogs(@RequestParam(defaultValue = "csv") String format,
+                                                            @RequestParam(defaultValue = "false") boolean gzip,
+                                                            @RequestParam(required = false) String result,
+                                                            @RequestParam(required = false) String defectType,
+                                                            @RequestParam(required = false) String productCode,
+                                                            @RequestParam(required = false) String from,
+                                                            @RequestParam(required = false) String to,
+                                                            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        String normalizedFormat = format.trim().toLowerCase();
+        if (!"csv".equals(normalizedFormat) && !"ndjson".equals(normalizedFormat)) {
+            throw new CustomException("error.bad_request", "로그 내보내기", "format은 csv 또는 ndjson 이어야 합니다.");
+        }
+
+        CustomMap condition = new CustomMap();
+        condition.put("result", result);
+        condition.put("defectType", defectType);
+        condition.put("productCode", productCode);
+        condition.put("from", from);
+        condition.put("to", to);
+        // 스트리밍이 시작되면 상태 코드/헤더가 이미 전송되므로 조건 오류는 여기서 400 으로 처리
+        CustomMap filter = logPlantService.buildExportFilter(condition);
+
+        boolean transferGzip = !gzip && acceptEncoding != null && acceptEncoding.contains("gzip");
+        String fileName = "plant-logs-" + LocalDateTime.now().format(EXPORT_FILE_TIME) + "." + normalizedFormat + (gzip ? ".gz" : "");
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentDisposition(ContentDisposition.attachment().filename(fileName).build());
+        if (gzip) {
+            headers.setContentType(MediaType.parseMediaType("application/gzip"));
+        } else {
+            headers.setContentType("csv".equals(normalizedFormat)
+                    ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                    : MediaType.parseMediaType("application/x-ndjson;charset=UTF-8"));
+        }
+        if (transferGzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        StreamingResponseBody body = out -> logPlantService.exportPlantLog(filter, normalizedFormat, gzip || transferGzip, out);
+        return ResponseEntity.ok().headers(headers).body(body);
+    }
+
 
 }
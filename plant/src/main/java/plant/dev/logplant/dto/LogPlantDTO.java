@@ -0,0 +1,50 @@
+package plant.dev.logplant.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.LocalDateTime;
+
+/*
+ * 검출 로그 응답 DTO 모음
+ * - MyBatis 매핑 결과를 담는 데이터 전송 객체(Record) 정의
+ * - SQL alias와 동일한 필드명으로 선언해야 자동 매핑 가능
+ * - 조회 빈도가 높은 쿼리는 CustomMap 대신 Record로 매핑 (행마다 Map/키 리스트/대소문자 변환 비용 제거)
+ *
+ * @fileName : LogPlantDTO
+ * @since : 251019
+ */
+public final class LogPlantDTO {
+
+    // 로그 목록 1행 (logplantDAO.findlogs)
+    public record LogRow(
+            String timestamp,   // 촬영 시각 (yyyy-MM-dd HH:mm)
+            String productCode, // 제품 코드
+            String result,      // 판정 (양품 / 불량품 / 보류)
+            String type,        // 불량 유형
+            Double confidence,  // 검출 확률 (소수 둘째 자리 절삭)
+            String image        // 이미지 URL
+    ) {}
+
+    // 로그 페이지 1행 (logplantDAO.findLogPage)
+    public record LogPageRow(
+            Long id,                                 // log_id
+            @JsonIgnore LocalDateTime cursorDate,    // 커서 계산용 원본 시각 (응답 제외)
+            String timestamp,                        // 촬영 시각 (yyyy-MM-dd HH:mm)
+            String productCode,                      // 제품 코드
+            String result,                           // 판정 (양품 / 불량품 / 보류)
+            String type,                             // 불량 유형
+            Double confidence,                       // 검출 확률 (소수 둘째 자리 절삭)
+            String image                             // 이미지 URL
+    ) {}
+
+    // 내보내기(CSV / NDJSON) 1행
+    public record LogExportRow(
+            Long id,            // log_id
+            String timestamp,   // 촬영 시각 (yyyy-MM-dd HH:mm:ss)
+            String productCode, // 제품 코드
+            String result,      // 판정 (양품 / 불량품 / 보류)
+            String type,        // 불량 유형 (Damage-H, Damage-B)
+            String confidence,  // 검출 확률
+            String image        // 이미지 URL
+    ) {}
+}
@@ -2,9 +2,36 @@ package plant.dev.logplant.serviec;
 
 import plant.com.cmm.exception.CustomException;
 import plant.com.cmm.util.map.CustomMap;
+import plant.dev.logplant.dto.LogPlantDTO.LogRow;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface LogPlantService {
-    public List<CustomMap> getPlantLog() throws CustomException;
+    /** 최근 로그 목록 (logplant.legacy.max-rows 건으로 제한) */
+    public List<LogRow> getPlantLog() throws CustomException;
+
+    /**
+     * 검출 로그 페이지 조회 (keyset 페이지네이션)
+     * @param condition size, cursor, result(defect/normal/hold), defectType, productCode, from, to
+     * @return items(로그 목록), nextCursor(다음 페이지 커서, 없으면 null), hasNext
+     */
+    public CustomMap getPlantLogPage(CustomMap condition) throws CustomException;
+
+    /**
+     * 내보내기 조건 검증/변환 - 응답 헤더가 나가기 전에 호출 (잘못된 조건은 400)
+     * @param condition result, defectType, productCode, from, to
+     * @return exportPlantLog 에 전달할 조회 파라미터
+     */
+    public CustomMap buildExportFilter(CustomMap condition) throws CustomException;
+
+    /**
+     * 검출 로그 내보내기 (행 단위 스트리밍)
+     * @param filter buildExportFilter 결과
+     * @param format csv / ndjson
+     * @param gzip true면 gzip으로 압축하여 기록
+     * @param out 응답 스트림
+     */
+    public void exportPlantLog(CustomMap filter, String format, boolean gzip, OutputStream out) throws IOException;
 }
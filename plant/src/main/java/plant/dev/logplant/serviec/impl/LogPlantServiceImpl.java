@@ -1,23 +1,334 @@
 package plant.dev.logplant.serviec.impl;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import jakarta.annotation.Resource;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import plant.com.cmm.compression.DeflaterPool;
+import plant.com.cmm.compression.PooledGzipOutputStream;
 import plant.com.cmm.dao.AbstractDAO;
+import plant.com.cmm.datasource.UseWorkload;
+import plant.com.cmm.datasource.Workload;
 import plant.com.cmm.exception.CustomException;
 import plant.com.cmm.util.map.CustomMap;
+import plant.dev.logplant.dto.LogPlantDTO.LogExportRow;
+import plant.dev.logplant.dto.LogPlantDTO.LogPageRow;
+import plant.dev.logplant.dto.LogPlantDTO.LogRow;
 import plant.dev.logplant.serviec.LogPlantService;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
+import java.util.Set;
 
 @Service("LogPlantService")
 public class LogPlantServiceImpl implements LogPlantService {
 
+    private static final Set<String> ALLOWED_RESULTS = Set.of("defect", "normal", "hold");
+    private static final DateTimeFormatter MINUTE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final DateTimeFormatter SECOND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    // 내보내기 전용: XSS 이스케이프 없이 원본 값을 기록 (다운로드 파일이므로 HTML 문맥이 아님)
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
     @Resource(name = "abstractDAO")
     private AbstractDAO abstractDAO;
 
+    @Resource(name = "deflaterPool")
+    private DeflaterPool deflaterPool;
+
+    @Value("${logplant.legacy.max-rows:1000}")
+    private int legacyMaxRows;
+
+    @Value("${logplant.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${logplant.page.max-size:500}")
+    private int maxPageSize;
+
     @Override
-    public List<CustomMap> getPlantLog() throws CustomException {
-        List<CustomMap> flatLogList = abstractDAO.selectList("logplantDAO.findlogs");
+    public List<LogRow> getPlantLog() throws CustomException {
+        // 전체 테이블을 메모리에 올리지 않도록 최근 N건으로 제한 (이후 데이터는 /api/logs/page 사용)
+        CustomMap param = new CustomMap();
+        param.put("limit", legacyMaxRows);
+        List<LogRow> flatLogList = abstractDAO.selectList("logplantDAO.findlogs", param);
         return flatLogList;
     }
+
+    @Override
+    public CustomMap getPlantLogPage(CustomMap condition) throws CustomException {
+        int size = condition.getInt("size", defaultPageSize);
+        if (size < 1) {
+            size = defaultPageSize;
+        }
+        size = Math.min(size, maxPageSize);
+
+        CustomMap param = buildFilter(condition);
+
+        String cursor = condition.getString("cursor", null);
+        if (cursor != null) {
+            decodeCursor(cursor, param);
+        }
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        param.put("fetchSize", size + 1);
+
+        List<LogPageRow> rows = abstractDAO.selectList("logplantDAO.findLogPage", param);
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            // 커서 계산용 원본 시각(cursorDate)은 @JsonIgnore로 응답에서 제외됨
+            LogPageRow last = rows.get(rows.size() - 1);
+            nextCursor = encodeCursor(last.cursorDate(), last.id());
+        }
+
+        CustomMap page = new CustomMap();
+        page.put("items", rows);
+        page.put("nextCursor", nextCursor);
+        page.put("hasNext", hasNext);
+        return page;
+    }
+
+    @Override
+    public CustomMap buildExportFilter(CustomMap condition) throws CustomException {
+        return buildFilter(condition);
+    }
+
+    // 전체 기간 스캔 - 분석용 풀에서 실행 (수집/일반 조회 풀을 오래 점유하지 않도록)
+    @Override
+    @UseWorkload(Workload.ANALYTICS)
+    public void exportPlantLog(CustomMap param, String format, boolean gzip, OutputStream out) throws IOException {
+        // gzip 은 풀의 Deflater 사용 (중간에 끊겨도 finally 에서 반납)
+        PooledGzipOutputStream gzipOut = gzip ? new PooledGzipOutputStream(out, deflaterPool, false) : null;
+        OutputStream target = gzipOut != null ? gzipOut : out;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 64 * 1024);
+        LogExportWriter exportWriter = "ndjson".equals(format)
+                ? new NdjsonLogExportWriter(writer)
+                : new CsvLogExportWriter(writer);
+
+        try {
+            exportWriter.writeHeader();
+            abstractDAO.<LogExportRow>select("logplantDAO.exportLogs", param, context -> {
+                try {
+                    exportWriter.writeRow(context.getResultObject());
+                } catch (IOException e) {
+                    // 클라이언트 연결 종료 등: 결과 읽기를 중단하고 예외를 밖으로 전달
+                    context.stop();
+                    throw new UncheckedIOException(e);
+                }
+            });
+            exportWriter.finish();
+            writer.flush();
+            if (gzipOut != null) {
+                gzipOut.finish();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            if (gzipOut != null) {
+                gzipOut.release();
+            }
+        }
+    }
+
+    /** 공통 필터 파라미터 (페이지 조회 / 내보내기) */
+    private static CustomMap buildFilter(CustomMap condition) {
+        CustomMap param = new CustomMap();
+        String result = condition.getString("result", null);
+        if (result != null) {
+            result = result.trim().toLowerCase();
+            if (!ALLOWED_RESULTS.contains(result)) {
+                throw new CustomException("error.bad_request", "로그 조회", "result는 defect, normal, hold 중 하나여야 합니다.");
+            }
+            param.put("result", result);
+        }
+        param.put("defectType", condition.getString("defectType", null));
+        param.put("productCode", condition.getString("productCode", null));
+        LocalDateTime from = parseDateTime(condition.getString("from", null), false);
+        LocalDateTime to = parseDateTime(condition.getString("to", null), true);
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new CustomException("error.bad_request", "로그 조회", "from은 to보다 이전이어야 합니다.");
+        }
+        param.put("from", from);
+        param.put("to", to);
+        return param;
+    }
+
+    /**
+     * 커서 = Base64URL("input_date|log_id")
+     * 클라이언트는 값을 해석하지 않고 그대로 다음 요청에 전달한다.
+     */
+    private static String encodeCursor(LocalDateTime inputDate, Object logId) {
+        String raw = inputDate + "|" + logId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void decodeCursor(String cursor, CustomMap param) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            param.put("cursorDate", LocalDateTime.parse(raw.substring(0, sep)));
+            param.put("cursorId", Long.parseLong(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new CustomException("error.bad_request", "로그 조회", "잘못된 커서 값입니다.");
+        }
+    }
+
+    /**
+     * 조회 기간 파라미터 파싱
+     * - yyyy-MM-dd: from은 해당일 00:00, to는 다음날 00:00 (해당일 포함)
+     * - yyyy-MM-dd HH:mm[:ss] 또는 ISO-8601
+     */
+    private static LocalDateTime parseDateTime(String value, boolean exclusiveEnd) {
+        if (value == null) {
+            return null;
+        }
+        String v = value.trim();
+        try {
+            if (v.length() == 10) {
+                LocalDate date = LocalDate.parse(v);
+                return exclusiveEnd ? date.plusDays(1).atStartOfDay() : date.atStartOfDay();
+            }
+            if (v.length() == 16 && v.charAt(10) == ' ') {
+                return LocalDateTime.parse(v, MINUTE_FORMAT);
+            }
+            if (v.length() == 19 && v.charAt(10) == ' ') {
+                return LocalDateTime.parse(v, SECOND_FORMAT);
+            }
+            return LocalDateTime.parse(v);
+        } catch (DateTimeParseException e) {
+            throw new CustomException("error.bad_request", "로그 조회", "기간 형식이 올바르지 않습니다: " + value);
+        }
+    }
+
+    /** 내보내기 형식별 행 기록기 */
+    private interface LogExportWriter {
+        void writeHeader() throws IOException;
+
+        void writeRow(LogExportRow row) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    /**
+     * CSV (RFC 4180)
+     * - 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM 추가
+     * - =, +, -, @ 로 시작하는 문자열은 수식으로 실행되지 않도록 ' 를 앞에 붙임 (CSV Injection 방지)
+     */
+    private static final class CsvLogExportWriter implements LogExportWriter {
+        private final Writer writer;
+
+        CsvLogExportWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void writeHeader() throws IOException {
+            writer.write('\uFEFF');
+            writer.write("id,timestamp,productCode,result,type,confidence,image\r\n");
+        }
+
+        @Override
+        public void writeRow(LogExportRow row) throws IOException {
+            if (row.id() != null) {
+                writer.write(Long.toString(row.id()));
+            }
+            writer.write(',');
+            writeCell(row.timestamp());
+            writer.write(',');
+            writeCell(row.productCode());
+            writer.write(',');
+            writeCell(row.result());
+            writer.write(',');
+            writeCell(row.type());
+            writer.write(',');
+            writeCell(row.confidence());
+            writer.write(',');
+            writeCell(row.image());
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void finish() {
+        }
+
+        private void writeCell(String value) throws IOException {
+            if (value == null || value.isEmpty()) {
+                return;
+            }
+            char first = value.charAt(0);
+            boolean formula = first == '=' || first == '+' || first == '-' || first == '@';
+            boolean quote = formula;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\r' || c == '\n';
+            }
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            if (formula) {
+                writer.write('\'');
+            }
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    writer.write('"');
+                }
+                writer.write(c);
+            }
+            writer.write('"');
+        }
+    }
+
+    /** NDJSON: 한 줄에 JSON 객체 1개 */
+    private static final class NdjsonLogExportWriter implements LogExportWriter {
+        private final JsonGenerator generator;
+
+        NdjsonLogExportWriter(Writer writer) throws IOException {
+            this.generator = JSON_FACTORY.createGenerator(writer);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void writeHeader() {
+        }
+
+        @Override
+        public void writeRow(LogExportRow row) throws IOException {
+            generator.writeStartObject();
+            if (row.id() != null) {
+                generator.writeNumberField("id", row.id());
+            } else {
+                generator.writeNullField("id");
+            }
+            generator.writeStringField("timestamp", row.timestamp());
+            generator.writeStringField("productCode", row.productCode());
+            generator.writeStringField("result", row.result());
+            generator.writeStringField("type", row.type());
+            generator.writeStringField("confidence", row.confidence());
+            generator.writeStringField("image", row.image());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
 }
@@ -3,16 +3,22 @@ package plant.dev.menu.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import plant.com.cmm.util.map.CustomMap;
 import plant.com.cmm.util.map.DtoToCustomMapConverter;
+import plant.dev.auth.dto.UserDto;
+import plant.dev.menu.dto.MenuDTO.MenuSnapshot;
 import plant.dev.menu.service.MenuService;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api")
 @RequiredArgsConstructor
@@ -21,10 +27,35 @@ public class MenuController{
     private final MenuService menuService;
     private final DtoToCustomMapConverter converter;
 
+    /**
+     * 현재 사용자 권한의 메뉴 트리 - 미리 직렬화한 JSON 을 그대로 응답
+     * If-None-Match 가 ETag 와 같으면 본문 없이 304
+     */
     @GetMapping("/menus")
-    public ResponseEntity<List<CustomMap>> getMenus() {
-        List<CustomMap> menus = menuService.getMenusForCurrentUser();
-        return ResponseEntity.ok(menus);
+    public ResponseEntity<byte[]> getMenus(WebRequest webRequest) {
+        MenuSnapshot snapshot = menuService.getMenuSnapshotForCurrentUser();
+        if (webRequest.checkNotModified(snapshot.etag())) {
+            return null; // 304 응답은 checkNotModified 가 설정
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache().cachePrivate()) // 권한별 응답이므로 공유 캐시 금지, 매번 재검증
+                .body(snapshot.json());
+    }
+
+    /** 메뉴/권한 변경 후 관리자가 스냅샷 재생성을 요청 */
+    @PostMapping("/menus/refresh")
+    public ResponseEntity<CustomMap> refreshMenus(@AuthenticationPrincipal UserDto userDto) {
+        if (userDto == null || !"ROLE_ADMIN".equals(userDto.getRolGrade())) {
+            throw new AccessDeniedException("메뉴 재생성 권한 없음");
+        }
+        menuService.refreshMenus();
+        log.info("메뉴 스냅샷 재생성 요청: {}", userDto.getUserId());
+
+        CustomMap responseBody = new CustomMap();
+        responseBody.put("refreshed", true);
+        return ResponseEntity.ok(responseBody);
     }
 
 }
@@ -0,0 +1,61 @@
+package plant.dev.menu.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * 메뉴 DTO 모음
+ * - MenuRow: menuDAO.findMenusByRole 조회 결과 (플랫 목록)
+ * - MenuNode: 계층 구조 응답 (children 포함)
+ * - MenuSnapshot: 권한(rolGrade)별로 미리 만든 메뉴 트리 + 응답 JSON 바이트 + ETag
+ * - 응답 JSON 키는 기존 CustomMap 응답과 동일 (id, label, path, level, prnt_id, order, children)
+ *
+ * @fileName : MenuDTO
+ * @since : 251019
+ */
+public final class MenuDTO {
+
+    // 메뉴 1행 (SELECT 컬럼 순서와 동일하게 선언)
+    public record MenuRow(
+            String id,        // 메뉴 ID
+            String label,     // 메뉴명
+            String path,      // 메뉴 URL
+            String level,     // 메뉴 레벨
+            String prntId,    // 상위 메뉴 ID
+            Integer order     // 레벨 내 순서
+    ) {}
+
+    // 계층형 메뉴 노드
+    public record MenuNode(
+            String id,
+            String label,
+            String path,
+            String level,
+            @JsonProperty("prnt_id") String prntId,
+            Integer order,
+            List<MenuNode> children
+    ) {
+        public static MenuNode of(MenuRow row) {
+            return new MenuNode(row.id(), row.label(), row.path(), row.level(), row.prntId(), row.order(), new ArrayList<>());
+        }
+
+        // children 까지 변경 불가 목록으로 복사 (캐시 공유용)
+        public MenuNode freeze() {
+            List<MenuNode> frozen = new ArrayList<>(children.size());
+            for (MenuNode child : children) {
+                frozen.add(child.freeze());
+            }
+            return new MenuNode(id, label, path, level, prntId, order, List.copyOf(frozen));
+        }
+    }
+
+    // 권한별 메뉴 스냅샷 (불변, 교체 방식으로 갱신)
+    public record MenuSnapshot(
+            String rolGrade,
+            List<MenuNode> menus,   // 변경 불가 트리
+            byte[] json,            // 응답 JSON (XSS 출력 필터 적용, 공유하므로 수정 금지)
+            String etag             // "json MD5"
+    ) {}
+}
@@ -2,10 +2,17 @@
 package plant.dev.menu.service;
 
 import plant.com.cmm.exception.CustomException;
-import plant.com.cmm.util.map.CustomMap;
+import plant.dev.menu.dto.MenuDTO.MenuNode;
+import plant.dev.menu.dto.MenuDTO.MenuSnapshot;
 
 import java.util.List;
 
 public interface MenuService {
-    public List<CustomMap> getMenusForCurrentUser() throws CustomException;
+    public List<MenuNode> getMenusForCurrentUser() throws CustomException;
+
+    // 현재 사용자 권한의 메뉴 스냅샷 (트리 + 응답 JSON + ETag)
+    public MenuSnapshot getMenuSnapshotForCurrentUser() throws CustomException;
+
+    // 메뉴/권한 변경 후 스냅샷 재생성 (적재된 권한 전체를 새로 만들어 한 번에 교체)
+    public void refreshMenus() throws CustomException;
 }
@@ -1,45 +1,136 @@
 // 메뉴 관련 비즈니스 로직을 구현하는 서비스 클래스입니다.
 package plant.dev.menu.service.impl;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.Resource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
 import plant.com.cmm.dao.AbstractDAO;
 import plant.com.cmm.exception.CustomException;
-import plant.com.cmm.util.map.CustomMap;
+import plant.com.config.MessageConverterConfig;
 import plant.dev.auth.dto.UserDto;
+import plant.dev.menu.dto.MenuDTO.MenuNode;
+import plant.dev.menu.dto.MenuDTO.MenuRow;
+import plant.dev.menu.dto.MenuDTO.MenuSnapshot;
 import plant.dev.menu.service.MenuService;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * 메뉴 조회
+ * - 권한(rolGrade)별 메뉴 트리를 처음 요청 시 한 번 만들어 불변 스냅샷(트리 + 응답 JSON + ETag)으로 보관
+ * - 스냅샷 맵은 통째로 교체 (조회는 volatile 읽기 1회, 락 없음)
+ * - refreshMenus(관리자 요청) 또는 menu.cache.refresh-interval-ms 주기로 적재된 권한 전체를 다시 만들어 교체
+ * - JSON 은 응답 컨버터와 같은 보안 ObjectMapper(XSS 출력 필터)로 직렬화
+ */
+@Slf4j
 @Service("MenuService")
 public class MenuServiceImpl implements MenuService {
 
+    private static final ObjectMapper SECURE_MAPPER = MessageConverterConfig.createSecureObjectMapper();
+
     @Resource(name = "abstractDAO")
     private AbstractDAO abstractDAO;
 
+    private volatile Map<String, MenuSnapshot> snapshots = Map.of();
+    // 재생성 시 증가 - 재생성 전에 조회를 시작한 스냅샷이 새 맵을 덮어쓰지 않도록 사용
+    private final AtomicLong generation = new AtomicLong();
+    // 재생성은 잠금 안에서 DB 를 조회하므로 synchronized 대신 ReentrantLock (가상 스레드 pinning 방지)
+    private final ReentrantLock publishLock = new ReentrantLock();
+
+    @Override
+    public List<MenuNode> getMenusForCurrentUser() throws CustomException {
+        return getMenuSnapshotForCurrentUser().menus();
+    }
+
+    @Override
+    public MenuSnapshot getMenuSnapshotForCurrentUser() throws CustomException {
+        String rolGrade = currentRolGrade();
+        MenuSnapshot snapshot = snapshots.get(rolGrade);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        long loadedGeneration = generation.get();
+        snapshot = buildSnapshot(rolGrade);
+        publishLock.lock();
+        try {
+            if (generation.get() == loadedGeneration && !snapshots.containsKey(rolGrade)) {
+                Map<String, MenuSnapshot> next = new HashMap<>(snapshots);
+                next.put(rolGrade, snapshot);
+                snapshots = Map.copyOf(next);
+            }
+        } finally {
+            publishLock.unlock();
+        }
+        return snapshot;
+    }
+
     @Override
-    public List<CustomMap> getMenusForCurrentUser() throws CustomException {
+    public void refreshMenus() throws CustomException {
+        publishLock.lock();
+        try {
+            generation.incrementAndGet();
+            Map<String, MenuSnapshot> next = new HashMap<>();
+            for (String rolGrade : snapshots.keySet()) {
+                next.put(rolGrade, buildSnapshot(rolGrade));
+            }
+            snapshots = Map.copyOf(next);
+            log.info("메뉴 스냅샷 재생성: {}", next.keySet());
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${menu.cache.refresh-interval-ms:600000}", initialDelayString = "${menu.cache.refresh-interval-ms:600000}")
+    public void scheduledRefresh() {
+        try {
+            refreshMenus();
+        } catch (RuntimeException e) {
+            // 재생성 실패 시 기존 스냅샷 유지
+            log.warn("메뉴 스냅샷 주기 재생성 실패: {}", e.getMessage());
+        }
+    }
 
+    private static String currentRolGrade() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String rolGrade = "ANONYMOUS"; // 기본은 비로그인 사용자
 
         // JWT를 통해 인증된 사용자인지 확인
-        if (authentication != null && authentication.getPrincipal() instanceof UserDto) {
-            UserDto userDto = (UserDto) authentication.getPrincipal();
+        if (authentication != null && authentication.getPrincipal() instanceof UserDto userDto && userDto.getRolGrade() != null) {
             rolGrade = userDto.getRolGrade();
         }
+        return rolGrade;
+    }
+
+    private MenuSnapshot buildSnapshot(String rolGrade) {
         // 1. MyBatis를 통해 DB에서 플랫한 메뉴 리스트를 가져옵니다.
         //    이때 SQL은 요청하신대로 id, label, path 등의 별칭(alias)을 사용해야 합니다.
-        List<CustomMap> flatMenuList = abstractDAO.selectList("menuDAO.findMenusByRole", rolGrade);
+        List<MenuRow> flatMenuList = abstractDAO.selectList("menuDAO.findMenusByRole", rolGrade);
 
-        // 2. 계층 구조로 변환하는 로직
-        return buildMenuHierarchy(flatMenuList);
-        //return abstractDAO.selectList("menuDAO.findMenusByRole", rolGrade);
+        // 2. 계층 구조로 변환한 뒤 변경 불가 트리로 고정합니다.
+        List<MenuNode> menus = new ArrayList<>();
+        for (MenuNode node : buildMenuHierarchy(flatMenuList)) {
+            menus.add(node.freeze());
+        }
+        menus = List.copyOf(menus);
+
+        // 3. 응답 JSON 과 ETag 를 미리 만들어 둡니다.
+        try {
+            byte[] json = SECURE_MAPPER.writeValueAsBytes(menus);
+            return new MenuSnapshot(rolGrade, menus, json, "\"" + DigestUtils.md5DigestAsHex(json) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("메뉴 JSON 직렬화 실패", e);
+        }
     }
 
     /**
@@ -47,30 +138,30 @@ public class MenuServiceImpl implements MenuService {
      * @param flatList DB에서 조회한 원본 메뉴 리스트
      * @return 계층적으로 구성된 메뉴 리스트
      */
-    private List<CustomMap> buildMenuHierarchy(List<CustomMap> flatList) {
+    static List<MenuNode> buildMenuHierarchy(List<MenuRow> flatList) {
         // 최종적으로 반환할 계층형 메뉴 리스트 (최상위 메뉴들만 담김)
-        List<CustomMap> hierarchicalMenus = new ArrayList<>();
+        List<MenuNode> hierarchicalMenus = new ArrayList<>();
         // 메뉴 ID를 키로 사용하여 메뉴 객체를 빠르게 찾기 위한 맵
-        Map<String, CustomMap> menuMap = new HashMap<>();
+        Map<String, MenuNode> menuMap = new HashMap<>();
 
-        // 3. 모든 메뉴를 맵에 넣고, 자식 메뉴를 담을 'children' 리스트를 초기화합니다.
-        for (CustomMap menu : flatList) {
-            menu.put("children", new ArrayList<CustomMap>()); // 자식 리스트 추가
-            menuMap.put(menu.getString("id"), menu);
+        // 3. 모든 메뉴를 맵에 넣습니다. (자식 메뉴를 담을 'children' 리스트는 MenuNode.of에서 초기화)
+        List<MenuNode> nodes = new ArrayList<>(flatList.size());
+        for (MenuRow row : flatList) {
+            MenuNode node = MenuNode.of(row);
+            nodes.add(node);
+            menuMap.put(node.id(), node);
         }
 
         // 4. 각 메뉴를 순회하며 부모-자식 관계를 설정합니다.
-        for (CustomMap menu : flatList) {
-            String parentId = menu.getString("prnt_id");
+        for (MenuNode node : nodes) {
+            String parentId = node.prntId();
 
             // 부모 ID가 존재하고, 해당 부모가 맵에 있으면 자식으로 추가합니다.
             if (parentId != null && menuMap.containsKey(parentId)) {
-                CustomMap parentMenu = menuMap.get(parentId);
-                // 부모의 'children' 리스트를 가져와 현재 메뉴를 추가합니다.
-                ((List<CustomMap>) parentMenu.get("children")).add(menu);
+                menuMap.get(parentId).children().add(node);
             } else {
                 // 부모가 없으면 최상위 메뉴이므로 최종 리스트에 추가합니다.
-                hierarchicalMenus.add(menu);
+                hierarchicalMenus.add(node);
             }
         }
 
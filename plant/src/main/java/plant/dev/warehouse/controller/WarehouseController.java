@@ -3,6 +3,7 @@ package plant.dev.warehouse.controller;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import plant.com.cmm.web.ConditionalGet;
 import plant.dev.warehouse.service.WarehouseService;
 
 import java.time.LocalDate;
@@ -15,7 +16,8 @@ import java.util.Map;
 public class WarehouseController {
     private final WarehouseService service;
 
-    // 목록
+    // 목록 (재고 변경이 없으면 304, regDays 는 오늘 기준이라 날짜가 바뀌면 새로 조회)
+    @ConditionalGet(value = WarehouseService.VERSION_RESOURCE, daily = true)
     @GetMapping("/items")
     public Map<String, Object> list(
             @RequestParam(required=false) String search,
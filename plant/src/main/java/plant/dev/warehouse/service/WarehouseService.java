@@ -8,6 +8,9 @@ import java.util.Map;
 
 public interface WarehouseService {
 
+    /** 조건부 GET 리소스 이름 (재고 변경 시 버전 증가) */
+    String VERSION_RESOURCE = "inventory";
+
     // 조회
     List<InventoryItemDto> findItems(
             String search,
@@ -3,6 +3,7 @@ package plant.dev.warehouse.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import plant.com.cmm.web.ResourceVersionRegistry;
 import plant.dev.warehouse.dto.InventoryItemDto;
 import plant.dev.warehouse.mapper.WarehouseMapper;
 
@@ -19,6 +20,7 @@ import java.util.*;
 public class WarehouseServiceImpl implements WarehouseService {
 
     private final WarehouseMapper mapper;
+    private final ResourceVersionRegistry resourceVersionRegistry;
 
     // ========================= 조회 =========================
     @Override
@@ -69,6 +71,7 @@ public class WarehouseServiceImpl implements WarehouseService {
         p.put("id", id);
         p.put("outDate", outDate);
         mapper.markDone(p);  // <-- Mapper에 markDone 구현 필요
+        resourceVersionRegistry.bumpAfterCommit(VERSION_RESOURCE);
 
         Map<String, Object> res = new LinkedHashMap<>();
         res.put("ok", true);
@@ -84,6 +87,7 @@ public class WarehouseServiceImpl implements WarehouseService {
     @Transactional
     public void delete(Long id) {
         mapper.deleteItem(id);
+        resourceVersionRegistry.bumpAfterCommit(VERSION_RESOURCE);
     }
 
     // ========================= 한도 변경 =========================
@@ -91,6 +95,7 @@ public class WarehouseServiceImpl implements WarehouseService {
     @Transactional
     public void updateLimit(Long id, int limit) {
         mapper.updateLimit(id, limit);
+        resourceVersionRegistry.bumpAfterCommit(VERSION_RESOURCE);
     }
 
     @Override
@@ -106,6 +111,7 @@ public class WarehouseServiceImpl implements WarehouseService {
                 cnt++;
             }
         }
+        if (cnt > 0) resourceVersionRegistry.bumpAfterCommit(VERSION_RESOURCE);
         return cnt;
     }
 
@@ -173,6 +179,7 @@ public class WarehouseServiceImpl implements WarehouseService {
             }
             lot++;
         }
+        resourceVersionRegistry.bumpAfterCommit(VERSION_RESOURCE);
         return ids;
     }
 
@@ -0,0 +1,180 @@
+package plant.com.cmm.compression;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ResponseCompressionFilter gzip 압축 / Deflater 재사용 테스트")
+class ResponseCompressionFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DeflaterPool deflaterPool = new DeflaterPool(meterRegistry, 6, 2);
+    private final ResponseCompressionFilter filter = new ResponseCompressionFilter(deflaterPool, meterRegistry, 64,
+            new String[]{"application/json", "text/csv"}, new String[]{"/api/dashboard/live"});
+
+    private static String json(int rows) {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < rows; i++) {
+            body.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append(",\"result\":\"양품\"}");
+        }
+        return body.append(']').toString();
+    }
+
+    private MockHttpServletResponse call(String uri, String acceptEncoding, String contentType, String contentEncoding, String body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (acceptEncoding != null) {
+            request.addHeader("Accept-Encoding", acceptEncoding);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setContentType(contentType);
+                if (contentEncoding != null) {
+                    resp.setHeader("Content-Encoding", contentEncoding);
+                }
+                resp.setContentLength(bytes.length);
+                // 버퍼 경계를 넘도록 나누어 기록
+                resp.getOutputStream().write(bytes, 0, Math.min(10, bytes.length));
+                resp.getOutputStream().write(bytes, Math.min(10, bytes.length), bytes.length - Math.min(10, bytes.length));
+                resp.getOutputStream().flush();
+            }
+        };
+        filter.doFilter(request, response, new MockFilterChain(servlet));
+        return response;
+    }
+
+    private static String gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    @DisplayName("임계값을 넘는 JSON 은 gzip (JDK GZIPInputStream 으로 복원 가능), Deflater 는 풀에서 재사용")
+    void compressesLargeResponses() throws Exception {
+        String body = json(500);
+
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletResponse response = call("/api/logs/page", "gzip, deflate, br", "application/json", null, body);
+
+            assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+            assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+            assertThat(response.getHeader("Content-Length")).isNull();
+            assertThat(response.getContentAsByteArray().length).isLessThan(body.length() / 5);
+            assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(body);
+        }
+        assertThat(meterRegistry.get("http.compression.deflater.created").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("http.compression.deflater.idle").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("http.compression.bytes").tag("stage", "original").counter().count())
+                .isEqualTo(3.0 * body.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    @DisplayName("작은 응답 / 압축 대상이 아닌 형식 / 이미 인코딩된 응답 / gzip 미지원 / 제외 경로는 그대로 전달")
+    void passesThroughOtherResponses() throws Exception {
+        String small = json(1);
+        MockHttpServletResponse smallResponse = call("/api/menus", "gzip", "application/json", null, small);
+        assertThat(smallResponse.getHeader("Content-Encoding")).isNull();
+        assertThat(smallResponse.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(small);
+        assertThat(smallResponse.getContentLength()).isEqualTo(small.getBytes(StandardCharsets.UTF_8).length);
+
+        String large = json(500);
+        assertThat(call("/static/frames/a.jpg", "gzip", "image/jpeg", null, large).getHeader("Content-Encoding")).isNull();
+        MockHttpServletResponse encoded = call("/api/logs/export", "gzip", "text/csv", "identity", large);
+        assertThat(encoded.getHeader("Content-Encoding")).isEqualTo("identity");
+        assertThat(encoded.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(large);
+        assertThat(call("/api/logs/page", "gzip;q=0, *", "application/json", null, large).getHeader("Content-Encoding")).isNull();
+        assertThat(call("/api/logs/page", null, "application/json", null, large).getHeader("Content-Encoding")).isNull();
+        assertThat(call("/api/dashboard/live", "gzip", "application/json", null, large).getHeader("Content-Encoding")).isNull();
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding 협상 - q=0 은 거부, * 는 gzip 허용")
+    void negotiatesEncoding() {
+        assertThat(ResponseCompressionFilter.negotiate("gzip, deflate, br")).isEqualTo("gzip");
+        assertThat(ResponseCompressionFilter.negotiate("br;q=1.0, gzip;q=0.8")).isEqualTo("gzip");
+        assertThat(ResponseCompressionFilter.negotiate("*")).isEqualTo("gzip");
+        assertThat(ResponseCompressionFilter.negotiate("gzip;q=0, *")).isNull();
+        assertThat(ResponseCompressionFilter.negotiate("br")).isNull();
+        assertThat(ResponseCompressionFilter.negotiate("identity")).isNull();
+        assertThat(ResponseCompressionFilter.negotiate(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("비동기 모드가 아닌 요청의 WriteListener 설정은 IllegalStateException (Servlet 규약)")
+    void rejectsWriteListenerOutsideAsync() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/logs/page");
+        request.addHeader("Accept-Encoding", "gzip");
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.getOutputStream().setWriteListener(new WriteListener() {
+                    @Override
+                    public void onWritePossible() {
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                    }
+                });
+            }
+        };
+
+        assertThatThrownBy(() -> filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(servlet)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("압축 중 비동기로 넘어간 응답은 비동기 완료 시 트레일러 기록 후 Deflater 반납")
+    void finishesGzipWhenAsyncCompletes() throws Exception {
+        String head = json(200);
+        String tail = json(300);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/logs/page");
+        request.addHeader("Accept-Encoding", "gzip");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<AsyncContext> asyncContext = new AtomicReference<>();
+        AtomicReference<ServletOutputStream> output = new AtomicReference<>();
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setContentType("application/json");
+                output.set(resp.getOutputStream());
+                output.get().write(head.getBytes(StandardCharsets.UTF_8));
+                asyncContext.set(req.startAsync(req, resp));
+            }
+        };
+
+        filter.doFilter(request, response, new MockFilterChain(servlet));
+        assertThat(meterRegistry.get("http.compression.deflater.idle").gauge().value()).isZero();
+
+        // 작업 스레드가 이어서 쓰고 완료
+        output.get().write(tail.getBytes(StandardCharsets.UTF_8));
+        asyncContext.get().complete();
+
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(head + tail);
+        assertThat(meterRegistry.get("http.compression.deflater.idle").gauge().value()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,106 @@
+package plant.com.cmm.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.env.MockEnvironment;
+import plant.com.cmm.exception.TooManyRequestsException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("작업 유형별 동시 실행 제한 테스트")
+class WorkloadBulkheadTest {
+
+    public static class IngestService {
+        private IngestService inner;
+
+        @UseWorkload(Workload.INGEST)
+        public Workload save(CountDownLatch entered, CountDownLatch release) throws InterruptedException {
+            entered.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return WorkloadContext.current();
+        }
+
+        @UseWorkload(Workload.INGEST)
+        public Workload saveNested() throws InterruptedException {
+            return inner.save(new CountDownLatch(1), new CountDownLatch(0));
+        }
+    }
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        WorkloadContext.restore(null);
+    }
+
+    private WorkloadBulkhead bulkhead(int permits, long timeoutMillis) {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("db.pool.ingest.bulkhead-permits", String.valueOf(permits))
+                .withProperty("db.pool.ingest.bulkhead-timeout-ms", String.valueOf(timeoutMillis));
+        return new WorkloadBulkhead(environment, meterRegistry);
+    }
+
+    private static IngestService proxy(IngestService target, WorkloadBulkhead bulkhead) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new WorkloadDataSourceAspect(bulkhead));
+        return factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("허가 수만큼만 동시에 실행하고, 대기 시간을 넘기면 429 로 거절")
+    void limitsConcurrentCalls() throws Exception {
+        WorkloadBulkhead bulkhead = bulkhead(1, 50);
+        IngestService service = proxy(new IngestService(), bulkhead);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Workload> first = executor.submit(() -> service.save(entered, release));
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> service.save(new CountDownLatch(1), new CountDownLatch(0)))
+                    .isInstanceOf(TooManyRequestsException.class);
+            assertThat(meterRegistry.get("db.bulkhead.rejected").tag("pool", "ingest").counter().count()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(Workload.INGEST);
+        } finally {
+            executor.shutdownNow();
+        }
+        // 반납된 허가로 다시 실행
+        assertThat(service.save(new CountDownLatch(1), new CountDownLatch(0))).isEqualTo(Workload.INGEST);
+    }
+
+    @Test
+    @DisplayName("중첩 호출은 바깥 호출의 허가를 그대로 사용 (허가 1개여도 멈추지 않음)")
+    void nestedCallReusesPermit() throws Exception {
+        WorkloadBulkhead bulkhead = bulkhead(1, 50);
+        IngestService outer = new IngestService();
+        outer.inner = proxy(new IngestService(), bulkhead);
+
+        assertThat(proxy(outer, bulkhead).saveNested()).isEqualTo(Workload.INGEST);
+        assertThat(WorkloadContext.isAssigned()).isFalse();
+    }
+
+    @Test
+    @DisplayName("설정이 없는 유형은 제한하지 않음")
+    void unlimitedWithoutPermits() {
+        WorkloadBulkhead bulkhead = bulkhead(1, 50);
+
+        assertThat(bulkhead.acquire(Workload.OLTP)).isFalse();
+        assertThat(bulkhead.acquire(Workload.INGEST)).isTrue();
+        bulkhead.release(Workload.INGEST);
+    }
+}
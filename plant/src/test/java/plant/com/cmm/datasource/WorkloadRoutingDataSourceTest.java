@@ -0,0 +1,108 @@
+package plant.com.cmm.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.boot.actuate.health.CompositeHealthContributor;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import plant.com.config.PersistenceConfig;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("작업 유형별 커넥션 풀 라우팅 테스트")
+class WorkloadRoutingDataSourceTest {
+
+    @UseWorkload(Workload.ANALYTICS)
+    public static class SampleService {
+        public Workload scan() {
+            return WorkloadContext.current();
+        }
+
+        @UseWorkload(Workload.INGEST)
+        public Workload ingest() {
+            return WorkloadContext.current();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        WorkloadContext.restore(null);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("작업 유형에 맞는 풀에서 커넥션을 얻고, 지정이 없으면 OLTP 풀 사용")
+    void routesByWorkload() throws Exception {
+        Map<Workload, HikariDataSource> pools = new EnumMap<>(Workload.class);
+        Map<Workload, Connection> connections = new EnumMap<>(Workload.class);
+        for (Workload workload : Workload.values()) {
+            HikariDataSource pool = mock(HikariDataSource.class);
+            Connection connection = mock(Connection.class);
+            when(pool.getConnection()).thenReturn(connection);
+            pools.put(workload, pool);
+            connections.put(workload, connection);
+        }
+        WorkloadRoutingDataSource dataSource = new WorkloadRoutingDataSource(pools);
+
+        assertThat(dataSource.getConnection()).isSameAs(connections.get(Workload.OLTP));
+        Workload previous = WorkloadContext.set(Workload.ANALYTICS);
+        assertThat(dataSource.getConnection()).isSameAs(connections.get(Workload.ANALYTICS));
+        WorkloadContext.restore(previous);
+        assertThat(dataSource.getConnection()).isSameAs(connections.get(Workload.OLTP));
+    }
+
+    @Test
+    @DisplayName("메서드 지정이 클래스 지정보다 우선, 호출 후 복원, 진행 중인 트랜잭션 안에서는 바꾸지 않음")
+    void aspectSetsAndRestoresWorkload() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new WorkloadDataSourceAspect(new WorkloadBulkhead(new MockEnvironment(), new SimpleMeterRegistry())));
+        SampleService service = factory.getProxy();
+
+        assertThat(service.scan()).isEqualTo(Workload.ANALYTICS);
+        assertThat(service.ingest()).isEqualTo(Workload.INGEST);
+        assertThat(WorkloadContext.current()).isEqualTo(Workload.OLTP);
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        assertThat(service.ingest()).isEqualTo(Workload.OLTP);
+    }
+
+    @Test
+    @DisplayName("상태 점검은 라우팅 대상(OLTP)만이 아니라 풀마다 따로 수행")
+    void healthCoversEveryPool() throws Exception {
+        Map<Workload, HikariDataSource> pools = new EnumMap<>(Workload.class);
+        for (Workload workload : Workload.values()) {
+            HikariDataSource pool = mock(HikariDataSource.class);
+            Connection connection = mock(Connection.class);
+            DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+            when(metaData.getDatabaseProductName()).thenReturn("MySQL");
+            when(connection.getMetaData()).thenReturn(metaData);
+            when(connection.isValid(anyInt())).thenReturn(workload != Workload.INGEST);
+            when(pool.getConnection()).thenReturn(connection);
+            pools.put(workload, pool);
+        }
+
+        CompositeHealthContributor contributor = (CompositeHealthContributor)
+                new PersistenceConfig().dbHealthContributor(new WorkloadRoutingDataSource(pools));
+
+        for (Workload workload : Workload.values()) {
+            HealthIndicator indicator = (HealthIndicator) contributor.getContributor(workload.key());
+            assertThat(indicator.health().getStatus())
+                    .isEqualTo(workload == Workload.INGEST ? Status.DOWN : Status.UP);
+        }
+    }
+}
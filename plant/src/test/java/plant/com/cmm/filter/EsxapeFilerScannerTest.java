@@ -0,0 +1,77 @@
+package plant.com.cmm.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EsxapeFilerScanner 단일 스캔 / 정규식 체인 동등성 테스트")
+class EsxapeFilerScannerTest {
+
+    // 패턴 조각 위주로 조합하여 경계 케이스(대소문자, 개행, 겹침, 비ASCII 대소문자)를 만든다
+    private static final String[] TOKENS = {
+            "on", "ON", "oN", "click", "Load", "=", " ", "\t", "\n", "\r", "\u000B", "\f", " ",
+            "<", ">", "/", "script", "SCRIPT", "object", "applet", "embed", "form", "Form",
+            "src", "SRC", "\"", "href", "HREF", "hr", "ef", "style", "Style", "sty", "le",
+            "eval", "expression", "alert", "(", ")", "javascript", "vbscript", ":",
+            "a", "x", "o", "n", "s", "1", "_", "&", "ſ", "K", "İ", "양품", "불량",
+            "Banana", "2025-10-19 10:00", "/images/defect_01.jpg"
+    };
+
+    @Test
+    @DisplayName("일반 데이터는 변경 없이 같은 인스턴스를 반환")
+    void returnsSameInstanceWhenUnchanged() {
+        String[] values = {"", "Banana", "2025-10-19 10:00:00", "양품", "/images/defect_01.jpg",
+                "Melon on the conveyor", "confidence 0.97", "hre f"};
+        for (String value : values) {
+            assertThat(EsxapeFilerPattern.esxapeFilerPattern(value)).isSameAs(value);
+        }
+    }
+
+    @Test
+    @DisplayName("단일 스캔 치환 결과가 정규식 체인과 동일")
+    void rewritesLikeRegexChain() {
+        String[] values = {"onclick=alert", "<a HREF='x' OnMouseOver  =go>", "Style=color:red",
+                "ononclick=x", "onstyle=1", "hrefstyle", "on=1", "on1x=", "ſtyle K href"};
+        for (String value : values) {
+            assertThat(EsxapeFilerPattern.esxapeFilerPattern(value))
+                    .as(value)
+                    .isEqualTo(EsxapeFilerPattern.regexEsxapeFilerPattern(value));
+        }
+        assertThat(EsxapeFilerScanner.sanitize("<a HREF='x' OnMouseOver  =go>")).isEqualTo("<a h_ref='x'  go>");
+    }
+
+    @Test
+    @DisplayName("공격 패턴 후보는 정규식 체인으로 위임")
+    void delegatesAttackPatternsToRegexChain() {
+        String[] values = {"<script>x</script>", "</FORM>", "<embed", "eval(1)", "EXPRESSION(",
+                "alert(1)", "JavaScript:void", "vbscript:x", "onsrc=\"x\"", "src\r\n=\n\"a\""};
+        for (String value : values) {
+            assertThat(EsxapeFilerScanner.sanitize(value)).as(value).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("무작위 조합 차등 퍼즈 테스트")
+    void differentialFuzz() {
+        Random random = new Random(20251019L);
+        StringBuilder sb = new StringBuilder();
+        for (int round = 0; round < 200_000; round++) {
+            sb.setLength(0);
+            int count = random.nextInt(12);
+            for (int k = 0; k < count; k++) {
+                if (random.nextInt(8) == 0) {
+                    sb.append((char) random.nextInt(0x300));
+                } else {
+                    sb.append(TOKENS[random.nextInt(TOKENS.length)]);
+                }
+            }
+            String value = sb.toString();
+            assertThat(EsxapeFilerPattern.esxapeFilerPattern(value))
+                    .as("input: %s", value)
+                    .isEqualTo(EsxapeFilerPattern.regexEsxapeFilerPattern(value));
+        }
+    }
+}
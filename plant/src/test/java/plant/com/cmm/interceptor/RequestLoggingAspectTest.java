@@ -0,0 +1,153 @@
+package plant.com.cmm.interceptor;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RequestLoggingAspect 구조화/표본 로그 테스트")
+class RequestLoggingAspectTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(RequestLoggingAspect.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @RestController
+    static class SampleController {
+        public List<String> list(String keyword) {
+            return Collections.nCopies(1000, "row");
+        }
+
+        public ResponseEntity<String> missing() {
+            return ResponseEntity.status(404).body("결과 없음");
+        }
+
+        public String login(Object request) {
+            throw new IllegalStateException("인증 실패");
+        }
+    }
+
+    record LoginRequest(String username, String password) {
+    }
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/logs");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private static SampleController proxy(double successRate, String... excludePaths) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleController());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new RequestLoggingAspect(true, successRate, 1.0, 60_000, 64, excludePaths));
+        return factory.getProxy();
+    }
+
+    private static Map<String, Object> keyValues(ILoggingEvent event) {
+        return event.getKeyValuePairs().stream().collect(Collectors.toMap(kv -> kv.key, kv -> kv.value));
+    }
+
+    @Test
+    @DisplayName("요청 1건당 1개 이벤트, 응답 본문은 타입/건수만 기록")
+    void writesSingleStructuredEvent() {
+        proxy(1.0).list("banana");
+
+        assertThat(appender.list).hasSize(1);
+        Map<String, Object> kv = keyValues(appender.list.get(0));
+        assertThat(appender.list.get(0).getMessage()).isEqualTo("request");
+        assertThat(kv).containsEntry("method", "GET")
+                .containsEntry("uri", "/api/logs")
+                .containsEntry("status", 200)
+                .containsEntry("args", "[banana]")
+                .containsEntry("result", "CopiesList(size=1000)");
+        assertThat(kv.get("handler").toString()).contains("SampleController.list");
+    }
+
+    @Test
+    @DisplayName("정상 응답은 표본 비율을 따르고, 4xx/예외는 오류 비율(100%)로 기록")
+    void samplesSuccessAndKeepsErrors() {
+        SampleController controller = proxy(0.0);
+
+        controller.list("banana");
+        assertThat(appender.list).isEmpty();
+
+        controller.missing();
+        assertThatThrownBy(() -> controller.login(new LoginRequest("admin", "secret-password-value")))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(appender.list).hasSize(2);
+        assertThat(keyValues(appender.list.get(0))).containsEntry("status", 404);
+        Map<String, Object> error = keyValues(appender.list.get(1));
+        assertThat(error).containsEntry("status", 500).containsEntry("error", "IllegalStateException: 인증 실패");
+        assertThat(error.get("args").toString()).contains("password=***").doesNotContain("secret");
+    }
+
+    @Test
+    @DisplayName("제외 경로는 기록하지 않음")
+    void skipsExcludedPaths() {
+        proxy(1.0, "/api/logs/**").list("banana");
+
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("password 값 마스킹 (toString / JSON 형태)")
+    void masksPasswords() {
+        assertThat(RequestLoggingAspect.maskPassword("LoginRequest[username=admin, password=1234]"))
+                .isEqualTo("LoginRequest[username=admin, password=***]");
+        assertThat(RequestLoggingAspect.maskPassword("{\"Password\":\"1234\",\"id\":1}"))
+                .isEqualTo("{\"Password\":***,\"id\":1}");
+        assertThat(RequestLoggingAspect.maskPassword("passwordless")).isEqualTo("passwordless");
+    }
+
+    @Test
+    @DisplayName("값에 쉼표/괄호가 있어도 다음 키 경계(또는 인자 끝)까지 마스킹")
+    void masksPasswordsContainingDelimiters() {
+        assertThat(RequestLoggingAspect.maskPassword("password=a,b")).isEqualTo("password=***");
+        assertThat(RequestLoggingAspect.maskPassword("LoginRequest[username=admin, password=a,b]"))
+                .isEqualTo("LoginRequest[username=admin, password=***]");
+        assertThat(RequestLoggingAspect.maskPassword("LoginRequest[password=a,b)c, username=admin]"))
+                .isEqualTo("LoginRequest[password=***, username=admin]");
+        assertThat(RequestLoggingAspect.maskPassword("{\"password\":\"a,\\\"b}\",\"id\":1}"))
+                .isEqualTo("{\"password\":***,\"id\":1}");
+    }
+
+    @Test
+    @DisplayName("키 이름에 password/pwd/pswr 가 포함되면 마스킹 (passwordConfirm, newPassword, currentPassword 등)")
+    void masksPasswordLikeKeys() {
+        assertThat(RequestLoggingAspect.maskPassword(
+                "ChangeRequest[currentPassword=old1, newPassword=new1, passwordConfirm=new1, userId=admin]"))
+                .isEqualTo("ChangeRequest[currentPassword=***, newPassword=***, passwordConfirm=***, userId=admin]");
+        assertThat(RequestLoggingAspect.maskPassword("{\"passwordConfirm\":\"new1\",\"NEW_PWD\":\"x\",\"id\":1}"))
+                .isEqualTo("{\"passwordConfirm\":***,\"NEW_PWD\":***,\"id\":1}");
+        assertThat(RequestLoggingAspect.maskPassword("UserDto(userId=admin, userPswr=$2a$10$abc, userName=관리자)"))
+                .isEqualTo("UserDto(userId=admin, userPswr=***, userName=관리자)");
+        assertThat(RequestLoggingAspect.maskPassword("url=http://host:8080/password-reset, memo=password"))
+                .isEqualTo("url=http://host:8080/password-reset, memo=password");
+    }
+}
@@ -0,0 +1,93 @@
+package plant.com.cmm.interceptor.jpa;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.p6spy.engine.logging.Category;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("P6SpyFormatter FAST/FULL 모드 및 비동기 appender 테스트")
+class P6SpyFormatterTest {
+
+    private static final String PREPARED = "select *\n  from user\n where username = ?";
+    private static final String SQL = "select *\n  from user\n where username = 'a?b'";
+
+    @AfterEach
+    void tearDown() {
+        P6SpyFormatter.setMode(P6SpyFormatter.Mode.FULL);
+    }
+
+    private String callFromHere(P6SpyFormatter formatter) {
+        return formatter.formatMessage(1, "0", 12, Category.STATEMENT.getName(), PREPARED, SQL, "jdbc:p6spy:mysql://db");
+    }
+
+    @Test
+    @DisplayName("FAST: 호출 위치 1줄 + 한 줄 SQL, 값이 채워진 SQL 을 그대로 사용")
+    void formatsSingleLineWithCaller() {
+        P6SpyFormatter.setMode(P6SpyFormatter.Mode.FAST);
+
+        String message = callFromHere(new P6SpyFormatter());
+
+        assertThat(message).startsWith("[statement] | 12 ms | plant.com.cmm.interceptor.jpa.P6SpyFormatterTest.callFromHere(")
+                .endsWith(" | select * from user where username = 'a?b'")
+                .doesNotContain("\n");
+    }
+
+    @Test
+    @DisplayName("FAST: 같은 SQL 은 최초 호출 위치를 재사용")
+    void cachesCallerPerStatement() {
+        P6SpyFormatter.setMode(P6SpyFormatter.Mode.FAST);
+
+        String first = P6SpyFormatter.captureCaller(PREPARED);
+        String second = callFromHere(new P6SpyFormatter());
+
+        assertThat(first).contains("cachesCallerPerStatement");
+        assertThat(second).contains("cachesCallerPerStatement").doesNotContain("callFromHere");
+    }
+
+    @Test
+    @DisplayName("FULL: plant 프레임 전체 + 정렬된 SQL, STATEMENT 외 카테고리는 원문")
+    void formatsFullStack() {
+        String message = callFromHere(new P6SpyFormatter());
+
+        assertThat(message).contains("\n    plant.com.cmm.interceptor.jpa.P6SpyFormatterTest.callFromHere(")
+                .contains("\n    plant.com.cmm.interceptor.jpa.P6SpyFormatterTest.formatsFullStack(")
+                .doesNotContain("P6SpyFormatter.captureCaller")
+                .endsWith("username = 'a?b'");
+        assertThat(new P6SpyFormatter().formatMessage(1, "0", 3, Category.COMMIT.getName(), "", "", "url"))
+                .isEqualTo("[commit] | 3 ms | ");
+        assertThat(P6SpyFormatter.singleLine("  select a,\n\t b   from t \n")).isEqualTo("select a, b from t");
+    }
+
+    @Test
+    @DisplayName("비동기 appender: 호출 위치는 요청 스레드 기준, 출력은 p6spy-log 스레드")
+    void writesOffThread() throws InterruptedException {
+        P6SpyFormatter.setMode(P6SpyFormatter.Mode.FAST);
+        Logger logger = (Logger) LoggerFactory.getLogger("p6spy");
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        try {
+            new AsyncP6SpyLogger().logSQL(1, "0", 7, Category.STATEMENT, PREPARED, SQL, "url");
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (appender.list.isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(appender.list).hasSize(1);
+            ILoggingEvent event = appender.list.get(0);
+            assertThat(event.getThreadName()).isEqualTo("p6spy-log");
+            assertThat(event.getFormattedMessage()).contains("P6SpyFormatterTest.writesOffThread(")
+                    .endsWith("select * from user where username = 'a?b'");
+        } finally {
+            logger.detachAppender(appender);
+        }
+    }
+}
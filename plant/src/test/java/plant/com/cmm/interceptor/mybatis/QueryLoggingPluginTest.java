@@ -0,0 +1,102 @@
+package plant.com.cmm.interceptor.mybatis;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import plant.com.cmm.metrics.SqlMetricsRegistry;
+import plant.com.cmm.metrics.SqlStatementStats;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("QueryLoggingPlugin SQL 바인딩 출력 테스트")
+class QueryLoggingPluginTest {
+
+    private final Configuration configuration = new Configuration();
+
+    private ParameterMapping mapping(String property) {
+        return new ParameterMapping.Builder(configuration, property, Object.class).build();
+    }
+
+    @Test
+    @DisplayName("Map/추가 파라미터 바인딩, '$' '\\' 가 들어간 값도 그대로 출력")
+    void rendersMapParameters() {
+        Map<String, Object> param = Map.of("keyword", "a$1\\b", "limit", 50);
+        BoundSql boundSql = new BoundSql(configuration,
+                "SELECT * FROM log WHERE memo LIKE ? AND id > ? LIMIT ?",
+                List.of(mapping("keyword"), mapping("__frch_id_0"), mapping("limit")), param);
+        boundSql.setAdditionalParameter("__frch_id_0", 10L);
+
+        assertThat(QueryLoggingPlugin.renderSql(configuration, boundSql, param))
+                .isEqualTo("SELECT * FROM log WHERE memo LIKE 'a$1\\b' AND id > 10 LIMIT 50");
+    }
+
+    @Test
+    @DisplayName("단일 타입 파라미터 / null / 파라미터 없음")
+    void rendersSimpleParameters() {
+        BoundSql single = new BoundSql(configuration, "SELECT * FROM log WHERE id = ?", List.of(mapping("id")), 7L);
+        BoundSql none = new BoundSql(configuration, "SELECT 1", List.of(), null);
+        BoundSql nullParam = new BoundSql(configuration, "SELECT * FROM log WHERE id = ?", List.of(mapping("id")), null);
+
+        assertThat(QueryLoggingPlugin.renderSql(configuration, single, 7L)).isEqualTo("SELECT * FROM log WHERE id = 7");
+        assertThat(QueryLoggingPlugin.renderSql(configuration, none, null)).isEqualTo("SELECT 1");
+        assertThat(QueryLoggingPlugin.renderSql(configuration, nullParam, null)).isEqualTo("SELECT * FROM log WHERE id = null");
+    }
+
+    @Test
+    @DisplayName("ResultHandler 조회는 느린 쿼리 WARN / 구문 히스토그램에서 제외하고 스트리밍 타이머에만 기록")
+    void streamedQueriesSkipSlowWarning() throws Throwable {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SqlMetricsRegistry sqlMetricsRegistry = new SqlMetricsRegistry(meterRegistry);
+        QueryLoggingPlugin plugin = new QueryLoggingPlugin(sqlMetricsRegistry, 0);
+        MappedStatement exportLogs = new MappedStatement.Builder(configuration, "logplantDAO.exportLogs",
+                new StaticSqlSource(configuration, "SELECT 1"), SqlCommandType.SELECT).build();
+        MappedStatement findLogs = new MappedStatement.Builder(configuration, "logplantDAO.findlogs",
+                new StaticSqlSource(configuration, "SELECT 1"), SqlCommandType.SELECT).build();
+        Executor executor = mock(Executor.class);
+
+        Logger logger = (Logger) LoggerFactory.getLogger(QueryLoggingPlugin.class);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        try {
+            plugin.intercept(query(executor, exportLogs, context -> { }));
+            plugin.intercept(query(executor, findLogs, null));
+        } finally {
+            logger.detachAppender(appender);
+        }
+
+        assertThat(appender.list).filteredOn(event -> event.getLevel() == Level.WARN)
+                .extracting(ILoggingEvent::getFormattedMessage)
+                .allMatch(message -> message.contains("logplantDAO.findlogs"))
+                .hasSize(1);
+        assertThat(sqlMetricsRegistry.snapshot()).extracting(SqlStatementStats::id).containsExactly("logplantDAO.findlogs");
+        assertThat(meterRegistry.get("mybatis.statement.streamed").tag("statement", "logplantDAO.exportLogs").timer().count())
+                .isEqualTo(1);
+    }
+
+    private static Invocation query(Executor executor, MappedStatement statement, ResultHandler<?> resultHandler)
+            throws NoSuchMethodException {
+        return new Invocation(executor,
+                Executor.class.getMethod("query", MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class),
+                new Object[]{statement, null, RowBounds.DEFAULT, resultHandler});
+    }
+}
@@ -0,0 +1,94 @@
+package plant.com.cmm.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("SQL 실행 시간 히스토그램/통계 테스트")
+class SqlMetricsRegistryTest {
+
+    @Test
+    @DisplayName("버킷 경계: 작은 값은 정확히, 큰 값은 상대 오차 1/32 이내")
+    void bucketsWithinRelativeError() {
+        Random random = new Random(38L);
+        for (int i = 0; i < 100_000; i++) {
+            long value = i < 64 ? i : random.nextLong(1L << 40);
+            int index = LatencyHistogram.bucketIndex(value);
+            long upper = LatencyHistogram.highestEquivalentValue(index);
+            assertThat(upper).isGreaterThanOrEqualTo(value);
+            assertThat(upper - value).isLessThanOrEqualTo(value / 32);
+            if (index > 0) {
+                assertThat(LatencyHistogram.highestEquivalentValue(index - 1)).isLessThan(value);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("백분위/평균/최댓값")
+    void computesPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long ms = 1; ms <= 100; ms++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(ms));
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(100);
+        assertThat(histogram.getMaxNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(histogram.getMeanNanos()).isCloseTo(50.5e6, within(1.0));
+        assertThat(histogram.getValueAtPercentile(50) / 1e6).isCloseTo(50.0, within(50.0 / 32));
+        assertThat(histogram.getValueAtPercentile(99) / 1e6).isCloseTo(99.0, within(99.0 / 32));
+        assertThat(histogram.getValueAtPercentile(100)).isEqualTo(histogram.getMaxNanos());
+        assertThat(new LatencyHistogram().getValueAtPercentile(99)).isZero();
+    }
+
+    @Test
+    @DisplayName("동시 기록 시 건수 누락 없음 (Micrometer 타이머 포함)")
+    void recordsConcurrently() throws InterruptedException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SqlMetricsRegistry registry = new SqlMetricsRegistry(meterRegistry);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch done = new CountDownLatch(4);
+        for (int t = 0; t < 4; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    registry.record("logplantDAO.findLogPage", 1_000 + i, i % 100 == 0);
+                }
+                done.countDown();
+            });
+        }
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        SqlStatementStats stats = registry.snapshot().get(0);
+        assertThat(stats.count()).isEqualTo(40_000);
+        assertThat(stats.errors()).isEqualTo(400);
+        assertThat(meterRegistry.get("mybatis.statement").tag("outcome", "success").timer().count()).isEqualTo(39_600);
+        assertThat(meterRegistry.get("mybatis.statement").tag("outcome", "error").timer().count()).isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("느린 구문 상위 N건은 p99 내림차순")
+    void ranksSlowStatements() {
+        SqlMetricsRegistry registry = new SqlMetricsRegistry(new SimpleMeterRegistry());
+        for (int i = 0; i < 100; i++) {
+            registry.record("fast", TimeUnit.MILLISECONDS.toNanos(1), false);
+            registry.record("medium", TimeUnit.MILLISECONDS.toNanos(20), false);
+        }
+        registry.record("slow", TimeUnit.MILLISECONDS.toNanos(900), false);
+
+        List<SqlStatementStats> top = registry.topSlow(2);
+
+        assertThat(top).extracting(SqlStatementStats::id).containsExactly("slow", "medium");
+        assertThat(registry.snapshot()).extracting(SqlStatementStats::id).containsExactly("medium", "slow", "fast");
+        assertThat(registry.topSlow(10)).hasSize(3);
+    }
+}
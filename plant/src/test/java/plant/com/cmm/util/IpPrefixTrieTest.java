@@ -0,0 +1,56 @@
+package plant.com.cmm.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("IpPrefixTrie 주소/CIDR 대역 포함 검사 테스트")
+class IpPrefixTrieTest {
+
+    @Test
+    @DisplayName("단일 주소는 정확히 일치, 대역은 서브넷 전체 포함")
+    void matchesAddressesAndRanges() {
+        IpPrefixTrie trie = new IpPrefixTrie();
+        trie.add("192.168.0.15");
+        trie.add("10.20.0.0/16");
+        trie.add("172.16.5.128/25");
+
+        assertThat(trie.contains("192.168.0.15")).isTrue();
+        assertThat(trie.contains("192.168.0.16")).isFalse();
+        assertThat(trie.contains("10.20.255.1")).isTrue();
+        assertThat(trie.contains("10.21.0.1")).isFalse();
+        assertThat(trie.contains("172.16.5.200")).isTrue();
+        assertThat(trie.contains("172.16.5.127")).isFalse();
+        assertThat(trie.contains(" 10.20.0.1 ")).isTrue();
+        assertThat(trie.contains("::1")).isFalse();
+        assertThat(trie.contains(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("상위 대역에 포함된 항목은 생략, 0.0.0.0/0 은 전체 허용")
+    void collapsesCoveredEntries() {
+        IpPrefixTrie trie = new IpPrefixTrie();
+        trie.add("10.0.0.0/8");
+        trie.add("10.1.2.3");
+        trie.add("10.0.0.0/8");
+        assertThat(trie.size()).isEqualTo(1);
+
+        IpPrefixTrie all = new IpPrefixTrie();
+        assertThat(all.contains("1.2.3.4")).isFalse();
+        all.add("0.0.0.0/0");
+        assertThat(all.contains("255.255.255.255")).isTrue();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 주소/대역은 등록 거부")
+    void rejectsMalformedInput() {
+        IpPrefixTrie trie = new IpPrefixTrie();
+        for (String invalid : new String[]{"10.0.0", "10.0.0.256", "10..0.1", "10.0.0.1.2", "10.0.0.0/33", "10.0.0.0/x", "host"}) {
+            assertThatThrownBy(() -> trie.add(invalid)).as(invalid).isInstanceOf(IllegalArgumentException.class);
+        }
+        assertThat(IpPrefixTrie.parseIpv4("255.255.255.255")).isEqualTo(-1);
+        assertThat(trie.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,281 @@
+package plant.com.cmm.util.map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CustomMap 호환성 테스트")
+class CustomMapTest {
+
+    @Test
+    @DisplayName("입력 순서 유지 및 toString 형식")
+    void keepsInsertionOrder() {
+        CustomMap map = new CustomMap();
+        map.put("timestamp", "2025-10-19 10:00");
+        map.put("productCode", "Banana");
+        map.put("result", "양품");
+
+        assertThat(map.keySet()).containsExactly("timestamp", "productCode", "result");
+        assertThat(map.toString()).isEqualTo("{timestamp=2025-10-19 10:00, productCode=Banana, result=양품}");
+    }
+
+    @Test
+    @DisplayName("대소문자 구분 없이 조회 (기존: 원본/소문자/대문자 키 조회 포함)")
+    void getIgnoresCase() {
+        CustomMap map = new CustomMap();
+        map.put("user_id", "u1");
+        map.put("USER_NAME", "홍길동");
+        map.put("rolGrade", "ADMIN");
+
+        assertThat(map.get("USER_ID")).isEqualTo("u1");
+        assertThat(map.get("user_name")).isEqualTo("홍길동");
+        assertThat(map.get("rolGrade")).isEqualTo("ADMIN");
+        assertThat(map.get("ROLGRADE")).isEqualTo("ADMIN");
+        assertThat(map.get("RolGrade")).isEqualTo("ADMIN");
+        assertThat(map.containsKey("USER_id")).isTrue();
+        assertThat(map.get("missing")).isNull();
+        assertThat(map.get(null)).isNull();
+        assertThat(map.get(1)).isNull();
+    }
+
+    @Test
+    @DisplayName("대소문자만 다른 키로 put 하면 중복 없이 교체 (위치 유지, 키 표기는 마지막 값)")
+    void putReplacesCaseVariant() {
+        CustomMap map = new CustomMap();
+        map.put("id", "a");
+        map.put("name", "n");
+
+        Object previous = map.put("ID", "b");
+
+        assertThat(previous).isEqualTo("a");
+        assertThat(map).hasSize(2);
+        assertThat(map.keySet()).containsExactly("ID", "name");
+        assertThat(map.get("id")).isEqualTo("b");
+    }
+
+    @Test
+    @DisplayName("공백 1칸은 빈 문자열로, undefined 키는 무시")
+    void putRules() {
+        CustomMap map = new CustomMap();
+        map.put("blank", " ");
+        map.put("spaces", "  ");
+        assertThat(map.put("undefined", "x")).isNull();
+
+        assertThat(map.get("blank")).isEqualTo("");
+        assertThat(map.get("spaces")).isEqualTo("  ");
+        assertThat(map.containsKey("undefined")).isFalse();
+        assertThat(map).hasSize(2);
+
+        Map<String, Object> source = new LinkedHashMap<>();
+        source.put("a", " ");
+        source.put("undefined", "x");
+        CustomMap copied = new CustomMap(source);
+        assertThat(copied).hasSize(1);
+        assertThat(copied.get("A")).isEqualTo("");
+        assertThat(new CustomMap(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("null 값 저장 및 null 키 거부")
+    void nullHandling() {
+        CustomMap map = new CustomMap();
+        map.put("nullable", null);
+
+        assertThat(map.containsKey("NULLABLE")).isTrue();
+        assertThat(map.get("nullable")).isNull();
+        assertThat(map.getString("nullable", "def")).isEqualTo("def");
+        assertThatThrownBy(() -> map.put(null, "x")).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    @DisplayName("삭제 및 반복자 삭제")
+    void removeAndIterate() {
+        CustomMap map = new CustomMap();
+        for (int i = 0; i < 10; i++) {
+            map.put("key" + i, i);
+        }
+        assertThat(map.remove("KEY3")).isEqualTo(3);
+        assertThat(map.remove("nothing")).isNull();
+
+        Iterator<Map.Entry<String, Object>> it = map.entrySet().iterator();
+        while (it.hasNext()) {
+            if (((Integer) it.next().getValue()) % 2 == 0) {
+                it.remove();
+            }
+        }
+        assertThat(map.keySet()).containsExactly("key1", "key5", "key7", "key9");
+
+        map.put("key0", 0);
+        assertThat(map.keySet()).containsExactly("key1", "key5", "key7", "key9", "key0");
+
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            entry.setValue("v");
+        }
+        assertThat(map.values()).containsOnly("v");
+
+        map.clear();
+        assertThat(map).isEmpty();
+        map.put("again", 1);
+        assertThat(map.get("AGAIN")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("순회 중 구조 변경 시 ConcurrentModificationException")
+    void failFastIterator() {
+        CustomMap map = new CustomMap();
+        map.put("a", 1);
+        map.put("b", 2);
+
+        assertThatThrownBy(() -> {
+            for (String key : map.keySet()) {
+                map.put(key + "x", 0);
+            }
+        }).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    @DisplayName("무작위 put/remove 결과가 기준 모델(소문자 키 LinkedHashMap)과 일치")
+    void matchesReferenceModel() {
+        Random random = new Random(20251019L);
+        CustomMap map = new CustomMap();
+        Map<String, Object> model = new LinkedHashMap<>();
+        Map<String, String> spelling = new LinkedHashMap<>();
+
+        for (int step = 0; step < 200_000; step++) {
+            String base = "col_" + random.nextInt(500);
+            String key = random.nextBoolean() ? base.toUpperCase(Locale.ROOT) : base;
+            String folded = base.toLowerCase(Locale.ROOT);
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(model.remove(folded));
+                spelling.remove(folded);
+            } else {
+                Object value = step;
+                assertThat(map.put(key, value)).isEqualTo(model.put(folded, value));
+                spelling.put(folded, key);
+            }
+            if (step % 10_000 == 0) {
+                assertThat(map).hasSize(model.size());
+            }
+        }
+
+        assertThat(map).hasSize(model.size());
+        List<String> expectedKeys = new ArrayList<>();
+        model.keySet().forEach(k -> expectedKeys.add(spelling.get(k)));
+        assertThat(new ArrayList<>(map.keySet())).isEqualTo(expectedKeys);
+        model.forEach((k, v) -> assertThat(map.get(k.toUpperCase(Locale.ROOT))).isEqualTo(v));
+    }
+
+    @Test
+    @DisplayName("유니코드 키도 String.equalsIgnoreCase 규칙으로 비교")
+    void unicodeKeys() {
+        CustomMap map = new CustomMap();
+        map.put("제품명", "바나나");
+        map.put("straße", 1);
+        map.put("ÀBC", 2);
+
+        assertThat(map.get("제품명")).isEqualTo("바나나");
+        assertThat(map.get("STRAßE")).isEqualTo(1);
+        assertThat(map.get("àbc")).isEqualTo(2);
+        assertThat(CustomMap.keyEquals("ſ", "S")).isEqualTo("ſ".equalsIgnoreCase("S"));
+        assertThat(CustomMap.hash("ſ")).isEqualTo(CustomMap.hash("s"));
+    }
+
+    @Test
+    @DisplayName("getter 유틸리티 메서드")
+    void typedGetters() {
+        CustomMap map = new CustomMap();
+        map.put("str", "value");
+        map.put("empty", "");
+        map.put("intDecimal", "3.7");
+        map.put("badInt", "abc");
+        map.put("double", 1.25);
+        map.put("decimal", "10.50");
+        map.put("list", List.of(Map.of("a", 1), "skip"));
+        map.put("strings", List.of("x", 2));
+        map.put("ints", new String[]{"1", "x"});
+        map.put("map", Map.of("inner", "v"));
+
+        assertThat(map.getString("STR")).isEqualTo("value");
+        assertThat(map.getString("empty")).isEqualTo("");
+        assertThat(map.getString("empty", "def")).isEqualTo("def");
+        assertThat(map.getInt("intDecimal")).isEqualTo(3);
+        assertThat(map.getInt("badInt", 9)).isEqualTo(9);
+        assertThat(map.getDouble("double")).isEqualTo(1.25);
+        assertThat(map.getFloat("double")).isEqualTo(1.25f);
+        assertThat(map.getBigDecimal("decimal")).isEqualByComparingTo(new BigDecimal("10.5"));
+        assertThat(map.getBigDecimal("missing")).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(map.getList("list")).hasSize(1);
+        assertThat(map.getList("list").get(0).getInt("A")).isEqualTo(1);
+        assertThat(map.getList("str")).isEmpty();
+        assertThat(map.getStringArray("strings")).containsExactly("x", "2");
+        assertThat(map.getIntArray("ints")).containsExactly(1, 0);
+        assertThat(map.getMap("map").getString("INNER")).isEqualTo("v");
+        assertThat(map.getMap("str")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Jackson 직렬화/역직렬화 (CustomMapJsonDeserializer)")
+    @SuppressWarnings("unchecked")
+    void jacksonRoundTrip() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        String json = "{\"id\":\"u1\",\"blank\":\" \",\"nested\":{\"Name\":\"n\"},\"items\":[{\"k\":1},\"s\",2]}";
+
+        CustomMap map = mapper.readValue(json, CustomMap.class);
+
+        assertThat(map.keySet()).containsExactly("id", "blank", "nested", "items");
+        assertThat(map.getString("ID")).isEqualTo("u1");
+        assertThat(map.get("blank")).isEqualTo("");
+        assertThat(map.get("nested")).isInstanceOf(CustomMap.class);
+        assertThat(map.getMap("nested").getString("name")).isEqualTo("n");
+        List<Object> items = (List<Object>) map.get("items");
+        assertThat(items.get(0)).isInstanceOf(CustomMap.class);
+        assertThat(items.subList(1, 3)).containsExactly("s", 2);
+
+        assertThat(mapper.writeValueAsString(map))
+                .isEqualTo("{\"id\":\"u1\",\"blank\":\"\",\"nested\":{\"Name\":\"n\"},\"items\":[{\"k\":1},\"s\",2]}");
+    }
+
+    @Test
+    @DisplayName("equals/hashCode 및 Java 직렬화")
+    void equalityAndSerialization() throws Exception {
+        CustomMap map = new CustomMap();
+        map.put("a", 1);
+        map.put("b", "two");
+        map.remove("a");
+        map.put("c", null);
+
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("b", "two");
+        expected.put("c", null);
+        assertThat(map).isEqualTo(expected);
+        assertThat(map.hashCode()).isEqualTo(expected.hashCode());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(map);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            CustomMap restored = (CustomMap) in.readObject();
+            assertThat(restored).isEqualTo(map);
+            assertThat(restored.keySet()).containsExactly("b", "c");
+            assertThat(restored.get("B")).isEqualTo("two");
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package plant.com.cmm.web;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import plant.com.cmm.interceptor.ConditionalGetInterceptor;
+import plant.com.cmm.web.ResourceVersionRegistry.VersionStamp;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConditionalGetInterceptor ETag / 304 테스트")
+class ConditionalGetInterceptorTest {
+
+    static class SampleController {
+        @ConditionalGet("settings")
+        public String settings() {
+            return "settings";
+        }
+
+        @ConditionalGet(value = "inventory", daily = true)
+        public String items() {
+            return "items";
+        }
+
+        @ConditionalGet("closed")
+        public String closed() {
+            return "closed";
+        }
+
+        public String plain() {
+            return "plain";
+        }
+    }
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ResourceVersionRegistry registry;
+    private final ConditionalGetInterceptor interceptor;
+
+    ConditionalGetInterceptorTest() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("closedVersion", new VersionStampProvider() {
+            @Override
+            public String resource() {
+                return "closed";
+            }
+
+            @Override
+            public VersionStamp stamp(HttpServletRequest request) {
+                return "2024".equals(request.getParameter("year")) ? new VersionStamp("closed-2024", 0) : null;
+            }
+        });
+        registry = new ResourceVersionRegistry(beanFactory.getBeanProvider(VersionStampProvider.class));
+        interceptor = new ConditionalGetInterceptor(registry, meterRegistry);
+    }
+
+    private MockHttpServletResponse call(String method, String handlerMethod, String ifNoneMatch, boolean[] proceeded) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/x");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return call(request, handlerMethod, proceeded);
+    }
+
+    private MockHttpServletResponse call(MockHttpServletRequest request, String handlerMethod, boolean[] proceeded) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HandlerMethod handler = new HandlerMethod(new SampleController(), SampleController.class.getMethod(handlerMethod));
+        proceeded[0] = interceptor.preHandle(request, response, handler);
+        return response;
+    }
+
+    @Test
+    @DisplayName("버전이 같으면 304 로 종료, 쓰기(bump) 후에는 새 ETag 로 진행")
+    void notModifiedUntilBumped() throws Exception {
+        boolean[] proceeded = new boolean[1];
+        MockHttpServletResponse first = call("GET", "settings", null, proceeded);
+        String etag = first.getHeader("ETag");
+
+        assertThat(proceeded[0]).isTrue();
+        assertThat(etag).startsWith("W/\"settings.");
+        assertThat(first.getHeader("Cache-Control")).isEqualTo("no-cache, private");
+        assertThat(first.getHeader("Last-Modified")).isNotNull();
+
+        MockHttpServletResponse second = call("GET", "settings", etag, proceeded);
+        assertThat(proceeded[0]).isFalse();
+        assertThat(second.getStatus()).isEqualTo(304);
+        assertThat(second.getContentAsByteArray()).isEmpty();
+        assertThat(meterRegistry.get("http.conditional.not_modified").tag("resource", "settings").counter().count()).isEqualTo(1);
+
+        registry.bumpAfterCommit("settings");
+        MockHttpServletResponse third = call("GET", "settings", etag, proceeded);
+        assertThat(proceeded[0]).isTrue();
+        assertThat(third.getStatus()).isEqualTo(200);
+        assertThat(third.getHeader("ETag")).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("같은 초 안의 연속 쓰기도 Last-Modified 가 증가")
+    void lastModifiedAdvancesPerWrite() {
+        VersionStamp before = registry.stamp("inventory");
+        registry.bump("inventory");
+        VersionStamp once = registry.stamp("inventory");
+        registry.bump("inventory");
+        VersionStamp twice = registry.stamp("inventory");
+
+        assertThat(once.tag()).isNotEqualTo(before.tag());
+        assertThat(once.lastModifiedMillis()).isGreaterThanOrEqualTo(before.lastModifiedMillis() + 1000);
+        assertThat(twice.lastModifiedMillis()).isGreaterThanOrEqualTo(once.lastModifiedMillis() + 1000);
+    }
+
+    @Test
+    @DisplayName("daily 는 날짜를 태그에 포함, 제공자가 null 이면 조건부 처리 없음, 미지정 핸들러/POST 는 통과")
+    void dailyProviderAndPassThrough() throws Exception {
+        boolean[] proceeded = new boolean[1];
+        assertThat(call("GET", "items", null, proceeded).getHeader("ETag")).endsWith("." + LocalDate.now() + "\"");
+
+        MockHttpServletResponse open = call("GET", "closed", null, proceeded);
+        assertThat(proceeded[0]).isTrue();
+        assertThat(open.getHeader("ETag")).isNull();
+        MockHttpServletRequest closedYear = new MockHttpServletRequest("GET", "/api/x");
+        closedYear.setParameter("year", "2024");
+        assertThat(call(closedYear, "closed", proceeded).getHeader("ETag")).isEqualTo("W/\"closed-2024\"");
+
+        MockHttpServletResponse plain = call("GET", "plain", "*", proceeded);
+        assertThat(proceeded[0]).isTrue();
+        assertThat(plain.getHeader("ETag")).isNull();
+
+        String etag = call("GET", "settings", null, proceeded).getHeader("ETag");
+        call("POST", "settings", etag, proceeded);
+        assertThat(proceeded[0]).isTrue();
+    }
+}
@@ -0,0 +1,99 @@
+package plant.com.cmm.xss;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.CharacterEscapes;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.text.StringEscapeUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HtmlCharacterEscapes 사전 계산 표 테스트")
+class HtmlCharacterEscapesTest {
+
+    /** 표 도입 전 구현 (문자마다 escapeHtml4 호출) */
+    static class LegacyHtmlCharacterEscapes extends CharacterEscapes {
+        private final int[] asciiEscapes = CharacterEscapes.standardAsciiEscapesForJSON();
+
+        LegacyHtmlCharacterEscapes() {
+            for (char c : new char[]{'<', '>', '"', '(', ')', '#', '\''}) {
+                asciiEscapes[c] = CharacterEscapes.ESCAPE_CUSTOM;
+            }
+        }
+
+        @Override
+        public int[] getEscapeCodesForAscii() {
+            return asciiEscapes;
+        }
+
+        @Override
+        public SerializableString getEscapeSequence(int ch) {
+            return new SerializedString(StringEscapeUtils.escapeHtml4(Character.toString((char) ch)));
+        }
+    }
+
+    private static String writeUtf8(CharacterEscapes escapes, String value) throws IOException {
+        JsonFactory factory = new JsonFactory();
+        factory.setCharacterEscapes(escapes);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = factory.createGenerator(out)) {
+            generator.writeString(value);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static String writeChars(CharacterEscapes escapes, String value) throws IOException {
+        JsonFactory factory = new JsonFactory();
+        factory.setCharacterEscapes(escapes);
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = factory.createGenerator(out)) {
+            generator.writeString(value);
+        }
+        return out.toString();
+    }
+
+    @Test
+    @DisplayName("BMP 전체 문자에 대해 기존 구현과 같은 JSON 출력 (바이트/문자 생성기 모두)")
+    void matchesLegacyOutputForEveryChar() throws IOException {
+        HtmlCharacterEscapes current = new HtmlCharacterEscapes();
+        LegacyHtmlCharacterEscapes legacy = new LegacyHtmlCharacterEscapes();
+
+        StringBuilder all = new StringBuilder();
+        for (int ch = 0; ch <= 0xFFFF; ch++) {
+            if (!Character.isSurrogate((char) ch)) {
+                all.append((char) ch);
+            }
+        }
+        String value = all.toString();
+
+        assertThat(writeUtf8(current, value)).isEqualTo(writeUtf8(legacy, value));
+        assertThat(writeChars(current, value)).isEqualTo(writeChars(legacy, value));
+    }
+
+    @Test
+    @DisplayName("치환 대상만 엔티티로 바꾸고 나머지는 그대로")
+    void escapesHtmlCharacters() throws IOException {
+        assertThat(writeUtf8(new HtmlCharacterEscapes(), "<a href=\"#\">불량 (é) & 'x'</a>"))
+                .isEqualTo("\"&lt;a href=&quot;#&quot;&gt;불량 (&eacute;) & 'x'&lt;/a&gt;\"");
+        assertThat(new HtmlCharacterEscapes().getEscapeSequence('양')).isNull();
+    }
+
+    @Test
+    @DisplayName("보충 문자(이모지)도 직렬화 가능 (기존 구현은 서로게이트를 개별 치환하다 예외 발생)")
+    void writesSupplementaryCharacters() throws IOException {
+        ObjectMapper reader = new ObjectMapper();
+        assertThat(reader.readValue(writeUtf8(new HtmlCharacterEscapes(), "바나나🍌<"), String.class))
+                .isEqualTo("바나나🍌&lt;");
+        assertThat(reader.readValue(writeChars(new HtmlCharacterEscapes(), "바나나🍌<"), String.class))
+                .isEqualTo("바나나🍌&lt;");
+    }
+}
@@ -0,0 +1,70 @@
+package plant.com.cmm.xss;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("XssInputSanitizer 스트리밍 JSON 필터링 테스트")
+class XssInputSanitizerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static String sanitize(String body, Charset charset) throws IOException {
+        return new String(XssInputSanitizer.sanitizeJson(new ByteArrayInputStream(body.getBytes(charset)), charset), charset);
+    }
+
+    @Test
+    @DisplayName("문자열 값만 이스케이프하고 키/숫자/불리언/null/중첩 구조는 유지")
+    void sanitizesOnlyStringValues() throws IOException {
+        String body = "{\"<key>\":\"<b>양품</b>\",\"qty\":12,\"ratio\":0.97,\"ok\":true,\"memo\":null,"
+                + "\"items\":[{\"name\":\"Tom's \\\"apple\\\"\",\"tags\":[\"a&b\",1]}],\"link\":\"href\"}";
+
+        JsonNode result = objectMapper.readTree(sanitize(body, StandardCharsets.UTF_8));
+
+        assertThat(result.get("<key>").asText()).isEqualTo("&lt;b&gt;양품&lt;/b&gt;");
+        assertThat(result.get("qty").intValue()).isEqualTo(12);
+        assertThat(result.get("ratio").doubleValue()).isEqualTo(0.97);
+        assertThat(result.get("ok").booleanValue()).isTrue();
+        assertThat(result.get("memo").isNull()).isTrue();
+        assertThat(result.at("/items/0/name").asText()).isEqualTo("Tom&apos;s &quot;apple&quot;");
+        assertThat(result.at("/items/0/tags/0").asText()).isEqualTo("a&amp;b");
+        assertThat(result.at("/items/0/tags/1").intValue()).isEqualTo(1);
+        assertThat(result.get("link").asText()).isEqualTo("h_ref");
+    }
+
+    @Test
+    @DisplayName("요청 문자셋이 UTF-8이 아니면 같은 문자셋으로 다시 인코딩")
+    void keepsRequestCharset() throws IOException {
+        Charset eucKr = Charset.forName("EUC-KR");
+
+        assertThat(sanitize("{\"result\":\"불량<\"}", eucKr)).isEqualTo("{\"result\":\"불량&lt;\"}");
+    }
+
+    @Test
+    @DisplayName("빈 본문은 빈 본문, 잘못된 JSON은 예외")
+    void emptyAndMalformedBodies() throws IOException {
+        assertThat(sanitize("  ", StandardCharsets.UTF_8)).isEmpty();
+
+        assertThatThrownBy(() -> sanitize("{\"a\":[1,2", StandardCharsets.UTF_8))
+                .isInstanceOf(JsonProcessingException.class);
+    }
+
+    @Test
+    @DisplayName("특수문자가 없으면 같은 인스턴스, null 은 null")
+    void sanitizeHtmlKeepsCleanInput() {
+        String clean = "Banana-1";
+        assertThat(XssInputSanitizer.sanitizeHtml(clean)).isSameAs(clean);
+        assertThat(XssInputSanitizer.sanitizeHtml(null)).isNull();
+        assertThat(XssInputSanitizer.sanitizeHtml("<b>")).isEqualTo("&lt;b&gt;");
+    }
+}
@@ -0,0 +1,259 @@
+package plant.com.cmm.xss;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import plant.com.cmm.filter.EscapeFilter;
+import plant.com.cmm.filter.EscapeParameterRequestWrapper;
+import plant.com.cmm.util.map.CustomMap;
+import plant.com.config.MessageConverterConfig;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("XSS 경로별 정책 결정 / 필터 / 응답 컨버터 테스트")
+class XssPolicyResolverTest {
+
+    @AfterEach
+    void clearRequestContext() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent("{\"memo\":\"<b>\"}".getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    @Test
+    @DisplayName("설정 경로는 구체적인 패턴 우선, 일치하지 않으면 기본 정책")
+    void resolvesConfiguredPaths() {
+        XssPolicyResolver resolver = new XssPolicyResolver(XssPolicy.Mode.SANITIZE_OUTPUT,
+                new String[]{"/api/pi/**"}, new String[]{"/api/pi/settings"}, new String[]{""});
+
+        assertThat(resolver.resolve(request("POST", "/api/pi/frame"))).isEqualTo(XssPolicy.Mode.RAW);
+        assertThat(resolver.resolve(request("POST", "/api/pi/settings"))).isEqualTo(XssPolicy.Mode.SANITIZE_INPUT);
+        assertThat(resolver.resolve(request("GET", "/api/logs"))).isEqualTo(XssPolicy.Mode.SANITIZE_OUTPUT);
+    }
+
+    @Test
+    @DisplayName("@XssPolicy 는 메서드 > 클래스 순으로 적용되고 HTTP 메서드까지 구분")
+    void resolvesAnnotatedHandlers() {
+        try (AnnotationConfigWebApplicationContext context = new AnnotationConfigWebApplicationContext()) {
+            context.setServletContext(new MockServletContext());
+            context.register(WebConfig.class);
+            context.refresh();
+            XssPolicyResolver resolver = context.getBean(XssPolicyResolver.class);
+
+            assertThat(resolver.resolve(request("POST", "/device/frame"))).isEqualTo(XssPolicy.Mode.RAW);
+            assertThat(resolver.resolve(request("GET", "/device/frame"))).isEqualTo(XssPolicy.Mode.SANITIZE_INPUT);
+            assertThat(resolver.resolve(request("GET", "/device/status/7"))).isEqualTo(XssPolicy.Mode.SANITIZE_INPUT);
+            assertThat(resolver.resolve(request("GET", "/other"))).isEqualTo(XssPolicy.Mode.SANITIZE_OUTPUT);
+        }
+    }
+
+    @Test
+    @DisplayName("SANITIZE_INPUT 의 파라미터 요청만 감싸고 (JSON 본문은 컨버터가 필터링), 모든 정책은 요청 속성에 기록")
+    void filterWrapsOnlySanitizeInput() throws Exception {
+        XssPolicyResolver resolver = new XssPolicyResolver(XssPolicy.Mode.SANITIZE_OUTPUT,
+                new String[]{"/api/pi/**"}, new String[]{"/api/warehouse/**"}, new String[0]);
+        EscapeFilter filter = new EscapeFilter(resolver);
+
+        MockHttpServletRequest raw = request("POST", "/api/pi/infer");
+        assertThat(passedRequest(filter, raw)).isSameAs(raw);
+        assertThat(raw.getAttribute(XssPolicyContext.ATTRIBUTE)).isEqualTo(XssPolicy.Mode.RAW);
+
+        MockHttpServletRequest output = request("GET", "/api/logs");
+        assertThat(passedRequest(filter, output)).isSameAs(output);
+        assertThat(output.getAttribute(XssPolicyContext.ATTRIBUTE)).isEqualTo(XssPolicy.Mode.SANITIZE_OUTPUT);
+
+        MockHttpServletRequest input = request("POST", "/api/warehouse/batch");
+        assertThat(passedRequest(filter, input)).isSameAs(input);
+        assertThat(input.getAttribute(XssPolicyContext.ATTRIBUTE)).isEqualTo(XssPolicy.Mode.SANITIZE_INPUT);
+
+        MockHttpServletRequest form = new MockHttpServletRequest("POST", "/api/warehouse/batch");
+        form.setContentType(MediaType.APPLICATION_FORM_URLENCODED_VALUE);
+        assertThat(passedRequest(filter, form)).isInstanceOf(EscapeParameterRequestWrapper.class);
+    }
+
+    @Test
+    @DisplayName("응답 필터링 대상이 아닌 요청은 일반 ObjectMapper 로 직렬화")
+    void converterFollowsRequestPolicy() throws IOException {
+        XssPolicyJackson2HttpMessageConverter converter = new XssPolicyJackson2HttpMessageConverter(
+                MessageConverterConfig.createSecureObjectMapper(), new ObjectMapper(),
+                MessageConverterConfig.createInputSanitizingObjectMapper());
+        Map<String, String> body = Map.of("memo", "<b>");
+
+        assertThat(write(converter, body, null)).isEqualTo("{\"memo\":\"&lt;b&gt;\"}");
+        assertThat(write(converter, body, XssPolicy.Mode.SANITIZE_OUTPUT)).isEqualTo("{\"memo\":\"&lt;b&gt;\"}");
+        assertThat(write(converter, body, XssPolicy.Mode.RAW)).isEqualTo("{\"memo\":\"<b>\"}");
+    }
+
+    record BatchItem(String name, List<String> tags, int qty) {
+    }
+
+    @Test
+    @DisplayName("SANITIZE_INPUT 요청 본문은 역직렬화하면서 필터링 (DTO / Map / JsonNode / CustomMap, 스트리밍 필터링과 같은 결과)")
+    void converterSanitizesInputWhileReading() throws IOException {
+        XssPolicyJackson2HttpMessageConverter converter = new XssPolicyJackson2HttpMessageConverter(
+                MessageConverterConfig.createSecureObjectMapper(), new ObjectMapper(),
+                MessageConverterConfig.createInputSanitizingObjectMapper());
+        String body = "{\"name\":\"<b>Tom's</b>\",\"tags\":[\"a&b\",\"href\"],\"qty\":3}";
+
+        BatchItem expected = new ObjectMapper().readValue(XssInputSanitizer.sanitizeJson(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8), BatchItem.class);
+
+        BatchItem item = (BatchItem) read(converter, BatchItem.class, body, XssPolicy.Mode.SANITIZE_INPUT);
+        assertThat(item).isEqualTo(expected);
+        assertThat(item.name()).isEqualTo("&lt;b&gt;Tom&apos;s&lt;/b&gt;");
+
+        Map<?, ?> map = (Map<?, ?>) read(converter, Map.class, body, XssPolicy.Mode.SANITIZE_INPUT);
+        assertThat(map.get("name")).isEqualTo(expected.name());
+        assertThat(map.get("tags")).isEqualTo(expected.tags());
+
+        JsonNode node = (JsonNode) read(converter, JsonNode.class, body, XssPolicy.Mode.SANITIZE_INPUT);
+        assertThat(node.get("name").asText()).isEqualTo(expected.name());
+
+        CustomMap customMap = (CustomMap) read(converter, CustomMap.class, body, XssPolicy.Mode.SANITIZE_INPUT);
+        assertThat(customMap.get("name")).isEqualTo(expected.name());
+
+        assertThat(((BatchItem) read(converter, BatchItem.class, body, XssPolicy.Mode.SANITIZE_OUTPUT)).name())
+                .isEqualTo("<b>Tom's</b>");
+        assertThat(((BatchItem) read(converter, BatchItem.class, body, XssPolicy.Mode.RAW)).name())
+                .isEqualTo("<b>Tom's</b>");
+    }
+
+    @Test
+    @DisplayName("SANITIZE_INPUT 의 @RequestBody String 은 JSON 본문이면 문자열 값만 필터링, 그 외 형식은 그대로")
+    void stringConverterSanitizesJsonBodyOnly() throws IOException {
+        XssSanitizingStringHttpMessageConverter converter = new XssSanitizingStringHttpMessageConverter();
+        String body = "{\"name\":\"<b>Tom's</b>\",\"qty\":3}";
+
+        assertThat(readString(converter, body, MediaType.APPLICATION_JSON, XssPolicy.Mode.SANITIZE_INPUT))
+                .isEqualTo("{\"name\":\"&lt;b&gt;Tom&apos;s&lt;/b&gt;\",\"qty\":3}");
+        assertThat(readString(converter, body, MediaType.APPLICATION_JSON, XssPolicy.Mode.SANITIZE_OUTPUT)).isEqualTo(body);
+        assertThat(readString(converter, body, MediaType.APPLICATION_JSON, XssPolicy.Mode.RAW)).isEqualTo(body);
+        // JSON 이 아닌 본문은 구조를 알 수 없으므로 RAW 로 전달 (EscapeFilter 는 파라미터만 이스케이프)
+        assertThat(readString(converter, "<b>memo</b>", MediaType.TEXT_PLAIN, XssPolicy.Mode.SANITIZE_INPUT))
+                .isEqualTo("<b>memo</b>");
+        assertThatThrownBy(() -> readString(converter, "{\"a\":[1,2", MediaType.APPLICATION_JSON, XssPolicy.Mode.SANITIZE_INPUT))
+                .isInstanceOf(HttpMessageNotReadableException.class);
+    }
+
+    private static String readString(XssSanitizingStringHttpMessageConverter converter, String body, MediaType contentType,
+                                     XssPolicy.Mode mode) throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(XssPolicyContext.ATTRIBUTE, mode);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        MockHttpInputMessage input = new MockHttpInputMessage(body.getBytes(StandardCharsets.UTF_8));
+        input.getHeaders().setContentType(contentType);
+        return converter.read(String.class, input);
+    }
+
+    private static ServletRequest passedRequest(EscapeFilter filter, MockHttpServletRequest request) throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return chain.getRequest();
+    }
+
+    private static Object read(XssPolicyJackson2HttpMessageConverter converter, Class<?> type, String body,
+                               XssPolicy.Mode mode) throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(XssPolicyContext.ATTRIBUTE, mode);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        MockHttpInputMessage input = new MockHttpInputMessage(body.getBytes(StandardCharsets.UTF_8));
+        input.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return converter.read(type, null, input);
+    }
+
+    private static String write(XssPolicyJackson2HttpMessageConverter converter, Object body, XssPolicy.Mode mode)
+            throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (mode != null) {
+            request.setAttribute(XssPolicyContext.ATTRIBUTE, mode);
+        }
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(body, MediaType.APPLICATION_JSON, output);
+        return output.getBodyAsString(StandardCharsets.UTF_8);
+    }
+
+    @Configuration
+    @EnableWebMvc
+    static class WebConfig {
+
+        @Bean
+        XssPolicyResolver xssPolicyResolver() {
+            return new XssPolicyResolver(XssPolicy.Mode.SANITIZE_OUTPUT, new String[0], new String[0], new String[0]);
+        }
+
+        @Bean
+        DeviceController deviceController() {
+            return new DeviceController();
+        }
+
+        @Bean
+        OtherController otherController() {
+            return new OtherController();
+        }
+    }
+
+    @RestController
+    @RequestMapping("/device")
+    @XssPolicy(XssPolicy.Mode.SANITIZE_INPUT)
+    static class DeviceController {
+
+        @XssPolicy(XssPolicy.Mode.RAW)
+        @PostMapping("/frame")
+        public String upload() {
+            return "ok";
+        }
+
+        @GetMapping("/frame")
+        public String frame() {
+            return "ok";
+        }
+
+        @GetMapping("/status/{id}")
+        public String status() {
+            return "ok";
+        }
+    }
+
+    @RestController
+    static class OtherController {
+
+        @GetMapping("/other")
+        public String other() {
+            return "ok";
+        }
+    }
+}
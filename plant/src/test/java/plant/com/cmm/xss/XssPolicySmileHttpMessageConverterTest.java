@@ -0,0 +1,61 @@
+package plant.com.cmm.xss;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import plant.com.config.MessageConverterConfig;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Smile 컨버터 XSS 정책 적용 테스트")
+class XssPolicySmileHttpMessageConverterTest {
+
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+    private static final String PAYLOAD = "<img src=x onerror=eval(1)>";
+
+    private final XssPolicySmileHttpMessageConverter converter = new XssPolicySmileHttpMessageConverter(
+            MessageConverterConfig.createSmileObjectMapper(), MessageConverterConfig.createRawSmileObjectMapper());
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private String writeAndRead(XssPolicy.Mode mode) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (mode != null) {
+            request.setAttribute(XssPolicyContext.ATTRIBUTE, mode);
+        }
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(Map.of("value", PAYLOAD), SMILE, output);
+        ObjectMapper reader = MessageConverterConfig.createRawSmileObjectMapper();
+        return reader.readTree(output.getBodyAsBytes()).get("value").asText();
+    }
+
+    @Test
+    @DisplayName("기본 정책은 JSON 과 같이 필터링하고, RAW / SANITIZE_INPUT 은 그대로 전송")
+    void selectsMapperByPolicy() throws Exception {
+        String sanitized = writeAndRead(null);
+        assertThat(sanitized).isNotEqualTo(PAYLOAD);
+        assertThat(writeAndRead(XssPolicy.Mode.SANITIZE_OUTPUT)).isEqualTo(sanitized);
+        assertThat(writeAndRead(XssPolicy.Mode.RAW)).isEqualTo(PAYLOAD);
+        assertThat(writeAndRead(XssPolicy.Mode.SANITIZE_INPUT)).isEqualTo(PAYLOAD);
+    }
+
+    @Test
+    @DisplayName("Smile 요청 본문은 읽지 않음 (응답 전용)")
+    void doesNotReadRequestBody() {
+        assertThat(converter.canRead(Map.class, SMILE)).isFalse();
+        assertThat(converter.canWrite(Map.class, SMILE)).isTrue();
+    }
+}
@@ -0,0 +1,75 @@
+package plant.com.cmm.xss;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import plant.com.cmm.filter.EsxapeFilerPattern;
+import plant.com.config.MessageConverterConfig;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("XssSanitizerSerializer 버퍼 직접 기록 테스트")
+class XssSanitizerSerializerTest {
+
+    private static final String[] TOKENS = {
+            "on", "Load", "=", " ", "\n", "href", "STYLE", "<", ">", "\"", "'", "&", "\\", "\t", "\u0001",
+            "é", "양품", "🍌", "<script>", "eval(", ")", "Banana", "/static/frames/a.jpg"
+    };
+
+    /** 필터링 결과 String 을 만든 뒤 기록하는 기존 방식 */
+    static class StringSanitizerSerializer extends com.fasterxml.jackson.databind.JsonSerializer<String> {
+        @Override
+        public void serialize(String value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeString(EsxapeFilerPattern.esxapeFilerPattern(value));
+        }
+    }
+
+    private static ObjectMapper stringBasedMapper() {
+        ObjectMapper mapper = MessageConverterConfig.createRawObjectMapper();
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(String.class, new StringSanitizerSerializer());
+        mapper.registerModule(module);
+        mapper.getFactory().setCharacterEscapes(new HtmlCharacterEscapes());
+        return mapper;
+    }
+
+    @Test
+    @DisplayName("치환/무변경/정규식 경로 모두 기존 방식과 같은 JSON (문자/바이트 출력)")
+    void matchesStringBasedSerialization() throws IOException {
+        ObjectMapper fused = MessageConverterConfig.createSecureObjectMapper();
+        ObjectMapper expected = stringBasedMapper();
+        Random random = new Random(36L);
+
+        for (int round = 0; round < 2_000; round++) {
+            List<Object> values = new ArrayList<>();
+            for (int v = 0; v < 8; v++) {
+                StringBuilder sb = new StringBuilder();
+                int count = random.nextInt(10);
+                for (int k = 0; k < count; k++) {
+                    sb.append(TOKENS[random.nextInt(TOKENS.length)]);
+                }
+                values.add(Map.of("memo", sb.toString()));
+            }
+            assertThat(fused.writeValueAsString(values)).isEqualTo(expected.writeValueAsString(values));
+            assertThat(fused.writeValueAsBytes(values)).isEqualTo(expected.writeValueAsBytes(values));
+        }
+    }
+
+    @Test
+    @DisplayName("스레드 버퍼보다 긴 문자열도 치환")
+    void rewritesLongValues() throws IOException {
+        String value = "style=".repeat(10_000);
+        String json = MessageConverterConfig.createSecureObjectMapper().writeValueAsString(value);
+
+        assertThat(json).isEqualTo("\"" + "s_tyle=".repeat(10_000) + "\"");
+    }
+}
@@ -0,0 +1,45 @@
+package plant.com.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import plant.dev.dashboard.service.DashboardLiveService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MetricsConfig 게이지 등록 테스트")
+class MetricsConfigTest {
+
+    @Test
+    @DisplayName("구독자 수/비동기 로그 대기열 게이지는 스크레이프 시점 값을 읽음")
+    void registersGauges() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        int[] subscribers = {3};
+        DashboardLiveService liveService = new DashboardLiveService() {
+            @Override
+            public SseEmitter subscribe() {
+                return null;
+            }
+
+            @Override
+            public void record(String productResult, String defectType) {
+            }
+
+            @Override
+            public int getSubscriberCount() {
+                return subscribers[0];
+            }
+        };
+        MetricsConfig config = new MetricsConfig();
+        config.dashboardLiveMetrics(liveService).bindTo(registry);
+        config.asyncLogQueueMetrics().bindTo(registry);
+
+        assertThat(registry.get("dashboard.live.subscribers").gauge().value()).isEqualTo(3.0);
+        subscribers[0] = 5;
+        assertThat(registry.get("dashboard.live.subscribers").gauge().value()).isEqualTo(5.0);
+        assertThat(registry.get("log.async.queue.size").tag("appender", "request").gauge().value()).isZero();
+        assertThat(registry.get("log.async.queue.size").tag("appender", "p6spy").gauge().value()).isZero();
+        assertThat(registry.get("log.async.dropped").functionCounter().count()).isZero();
+    }
+}
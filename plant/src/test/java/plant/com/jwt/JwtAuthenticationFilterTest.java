@@ -0,0 +1,75 @@
+package plant.com.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import plant.dev.auth.dto.UserDto;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JwtAuthenticationFilter 제외 경로 / 검증 결과 분기 테스트")
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "plant-test-secret-key-0123456789-abcdef";
+
+    private final JwtUtil jwtUtil = new JwtUtil(new SimpleMeterRegistry(), SECRET, 900, 100);
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtUtil, List.of("/api/pi/frame", "/static/**"));
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private String token() {
+        UserDto userDto = new UserDto();
+        userDto.setUserId("admin@plant.com");
+        userDto.setRolGrade("ROLE_ADMIN");
+        return jwtUtil.generateToken(userDto);
+    }
+
+    private Authentication run(String uri, String token) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.addHeader(JwtAuthenticationFilter.HEADER_STRING, JwtAuthenticationFilter.TOKEN_PREFIX + token);
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        assertThat(chain.getRequest()).isNotNull();
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Test
+    @DisplayName("유효한 토큰은 인증 정보 설정")
+    void authenticatesValidToken() throws ServletException, IOException {
+        Authentication authentication = run("/api/logs", token());
+
+        assertThat(authentication).isNotNull();
+        assertThat(((UserDto) authentication.getPrincipal()).getUserId()).isEqualTo("admin@plant.com");
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("제외 경로는 토큰이 있어도 처리하지 않음")
+    void skipsConfiguredPaths() throws ServletException, IOException {
+        assertThat(run("/api/pi/frame", token())).isNull();
+        assertThat(run("/static/frames/a.jpg", token())).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 토큰은 예외 없이 미인증으로 다음 필터 진행")
+    void passesInvalidTokenThrough() throws ServletException, IOException {
+        assertThat(run("/api/logs", "not-a-jwt")).isNull();
+        assertThat(jwtUtil.validateToken("not-a-jwt").status()).isEqualTo(JwtValidationResult.Status.INVALID);
+        assertThat(jwtUtil.validateToken("not-a-jwt").errorCode()).isEqualTo("JWT_INVALID");
+        // 빈 jwt_token 쿠키 - 파서가 IllegalArgumentException 을 던지는 경우도 INVALID
+        assertThat(jwtUtil.validateToken("").status()).isEqualTo(JwtValidationResult.Status.INVALID);
+    }
+}
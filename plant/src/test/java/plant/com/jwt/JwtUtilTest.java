@@ -0,0 +1,95 @@
+package plant.com.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import plant.com.cmm.exception.CustomException;
+import plant.dev.auth.dto.UserDto;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwtUtil 파서 재사용 / 검증 토큰 캐시 테스트")
+class JwtUtilTest {
+
+    private static final String SECRET = "plant-test-secret-key-0123456789-abcdef";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private static UserDto user() {
+        UserDto userDto = new UserDto();
+        userDto.setUserId("admin@plant.com");
+        userDto.setUserName("관리자");
+        userDto.setRolGrade("ROLE_ADMIN");
+        return userDto;
+    }
+
+    private long verifyCount(String outcome) {
+        return meterRegistry.get("jwt.verify").tag("outcome", outcome).timer().count();
+    }
+
+    @Test
+    @DisplayName("같은 토큰의 두 번째 요청부터는 서명 검증 없이 캐시에서 반환")
+    void reusesVerifiedClaims() throws CustomException {
+        JwtUtil jwtUtil = new JwtUtil(meterRegistry, SECRET, 900, 100);
+        String token = jwtUtil.generateToken(user());
+
+        UserDto first = jwtUtil.getUserDtoFromToken(token);
+        UserDto second = jwtUtil.getUserDtoFromToken(token);
+
+        assertThat(second.getUserId()).isEqualTo("admin@plant.com");
+        assertThat(second.getUserName()).isEqualTo("관리자");
+        assertThat(second.getRolGrade()).isEqualTo("ROLE_ADMIN");
+        assertThat(second).isNotSameAs(first);
+        assertThat(jwtUtil.getUserIdFromToken(token)).isEqualTo("admin@plant.com");
+        assertThat(jwtUtil.getClaimFromToken(token, "rolGrade", String.class)).isEqualTo("ROLE_ADMIN");
+        assertThat(verifyCount("valid")).isEqualTo(1);
+        assertThat(verifyCount("cached")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("변조/다른 키 토큰은 캐시되지 않고 매번 JWT_INVALID")
+    void rejectsTamperedTokens() throws CustomException {
+        JwtUtil jwtUtil = new JwtUtil(meterRegistry, SECRET, 900, 100);
+        String token = jwtUtil.generateToken(user());
+        jwtUtil.getUserDtoFromToken(token);
+        String foreign = new JwtUtil(new SimpleMeterRegistry(), SECRET.replace('0', '9'), 900, 0).generateToken(user());
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        for (String invalid : new String[]{foreign, foreign, tampered}) {
+            assertThatThrownBy(() -> jwtUtil.getUserDtoFromToken(invalid))
+                    .isInstanceOf(CustomException.class)
+                    .extracting("errorCode").isEqualTo("JWT_INVALID");
+        }
+        assertThat(verifyCount("invalid")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("캐시 항목은 exp 이후 제거, exp 없는 토큰은 보관하지 않고 크기 상한 유지")
+    void respectsExpirationAndBound() {
+        JwtClaimsCache cache = new JwtClaimsCache(2);
+        long now = System.currentTimeMillis();
+        Claims claims = Jwts.claims().subject("a").expiration(new Date(now + TimeUnit.MINUTES.toMillis(5))).build();
+        JwtClaimsCache.TokenKey key = JwtClaimsCache.keyOf("token-a");
+
+        cache.put(key, claims, now);
+        assertThat(cache.get(key, now + TimeUnit.MINUTES.toMillis(1))).isSameAs(claims);
+        assertThat(cache.get(key, now + TimeUnit.MINUTES.toMillis(5))).isNull();
+        assertThat(cache.size()).isZero();
+
+        cache.put(JwtClaimsCache.keyOf("no-exp"), Jwts.claims().subject("b").build(), now);
+        assertThat(cache.size()).isZero();
+
+        for (int i = 0; i < 5; i++) {
+            cache.put(JwtClaimsCache.keyOf("token-" + i), claims, now);
+            assertThat(cache.size()).isLessThanOrEqualTo(2);
+        }
+        assertThat(JwtClaimsCache.keyOf("token-1")).isEqualTo(JwtClaimsCache.keyOf("token-1"))
+                .isNotEqualTo(JwtClaimsCache.keyOf("token-2"));
+    }
+}
@@ -0,0 +1,94 @@
+package plant.com.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RefreshTokenStore 회전 / 재사용 감지 / 최대 수명 / TTL 정리 테스트")
+class RefreshTokenStoreTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RefreshTokenStore store = new RefreshTokenStore(meterRegistry, 3600, 86400, 10);
+
+    @Test
+    @DisplayName("갱신할 때마다 새 토큰을 발급하고 이전 토큰은 더 이상 사용할 수 없음")
+    void rotatesOnEveryUse() {
+        String first = store.issue("admin@plant.com");
+
+        RefreshTokenStore.Rotation rotation = store.rotate(first);
+
+        assertThat(rotation.userId()).isEqualTo("admin@plant.com");
+        assertThat(rotation.token()).isNotEqualTo(first).hasSize(43);
+        assertThat(store.rotate(rotation.token()).userId()).isEqualTo("admin@plant.com");
+        assertThat(store.rotate("unknown-token")).isNull();
+        assertThat(store.rotate(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("유예 시간이 지난 뒤 사용한 토큰이 다시 들어오면 계열 전체 폐기 (정상 사용자의 최신 토큰 포함)")
+    void revokesFamilyOnReuse() {
+        long now = System.currentTimeMillis();
+        String stolen = store.issue("admin@plant.com");
+        String other = store.issue("user@plant.com");
+        String latest = store.rotate(stolen, now).token();
+
+        assertThat(store.rotate(stolen, now + TimeUnit.SECONDS.toMillis(11))).isNull();
+        assertThat(store.rotate(latest)).isNull();
+        assertThat(store.rotate(other)).isNotNull();
+        assertThat(meterRegistry.get("jwt.refresh.reuse").counter().count()).isEqualTo(1);
+
+        String next = store.issue("admin@plant.com");
+        store.revoke(next);
+        assertThat(store.rotate(next)).isNull();
+    }
+
+    @Test
+    @DisplayName("회전 직후 같은 토큰으로 다시 갱신하면 (동시 갱신) 같은 후속 토큰을 반환하고 계열은 유지")
+    void returnsSameSuccessorWithinGrace() {
+        long now = System.currentTimeMillis();
+        String token = store.issue("admin@plant.com");
+
+        String successor = store.rotate(token, now).token();
+
+        assertThat(store.rotate(token, now + 500).token()).isEqualTo(successor);
+        assertThat(store.rotate(successor, now + 1000).userId()).isEqualTo("admin@plant.com");
+        assertThat(meterRegistry.get("jwt.refresh.reuse").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("회전을 계속해도 계열의 첫 발급 후 최대 수명이 지나면 만료")
+    void enforcesAbsoluteLifetime() {
+        long now = System.currentTimeMillis();
+        String token = store.issue("admin@plant.com");
+        // 유효 시간(1시간)이 지나기 전에 50분마다 회전 (23시간 20분까지)
+        for (int minutes = 50; minutes <= 1400; minutes += 50) {
+            token = store.rotate(token, now + TimeUnit.MINUTES.toMillis(minutes)).token();
+        }
+        assertThat(token).isNotNull();
+
+        // 마지막 토큰은 발급 후 1시간이 안 됐지만 계열 최대 수명(24시간)이 지남
+        assertThat(store.rotate(token, now + TimeUnit.MINUTES.toMillis(1445))).isNull();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 거부하고, 정리 시 만료 시각이 지난 항목만 제거")
+    void purgesExpiredEntries() {
+        long now = System.currentTimeMillis();
+        String token = store.issue("admin@plant.com");
+        store.rotate(token);
+        assertThat(store.size()).isEqualTo(2);
+
+        long afterExpiry = now + TimeUnit.HOURS.toMillis(2);
+        assertThat(store.rotate(store.issue("user@plant.com"), afterExpiry)).isNull();
+
+        store.purgeExpired(now);
+        assertThat(store.size()).isEqualTo(3);
+        store.purgeExpired(afterExpiry);
+        assertThat(store.size()).isZero();
+        assertThat(meterRegistry.get("jwt.refresh.store.size").gauge().value()).isZero();
+    }
+}
@@ -0,0 +1,72 @@
+package plant.com.jwt.password;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import plant.com.cmm.exception.TooManyRequestsException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PasswordHashExecutor 전용 스레드 / 대기열 거절 / 해시 강도 상향 테스트")
+class PasswordHashExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordHashExecutor executor = new PasswordHashExecutor(meterRegistry, 1, 1, 2000);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("해시 작업은 password-hash 스레드에서 실행하고 결과/예외를 그대로 전달")
+    void runsOnDedicatedThread() {
+        assertThat(executor.call(() -> Thread.currentThread().getName())).isEqualTo("password-hash-1");
+        assertThatThrownBy(() -> executor.call(() -> {
+            throw new IllegalArgumentException("잘못된 해시");
+        })).isInstanceOf(IllegalArgumentException.class).hasMessage("잘못된 해시");
+    }
+
+    @Test
+    @DisplayName("실행 중 1건 + 대기열 1건이 차 있으면 다음 요청은 즉시 429")
+    void rejectsWhenQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> executor.call(() -> {
+            started.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> executor.call(() -> true));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("password.hash.queue.size").gauge().value() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertThatThrownBy(() -> executor.call(() -> true))
+                .isInstanceOfSatisfying(TooManyRequestsException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo("LOGIN_BUSY"));
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장된 BCrypt 해시의 강도가 설정보다 낮으면 상향 대상")
+    void detectsOutdatedBcryptCost() {
+        BCryptPasswordEncoderComponent encoder = new BCryptPasswordEncoderComponent(6);
+        String oldHash = new BCryptPasswordEncoder(4).encode("secret");
+
+        assertThat(encoder.upgradeEncoding(oldHash)).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode("secret"))).isFalse();
+        assertThat(encoder.matches("secret", oldHash)).isTrue();
+    }
+}
@@ -0,0 +1,120 @@
+package plant.com.security;
+
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DeviceAuthenticationFilter HMAC 장비 인증 테스트")
+class DeviceAuthenticationFilterTest {
+
+    private static final byte[] KEY = "pi-01-device-secret".getBytes(StandardCharsets.UTF_8);
+
+    private final DeviceAuthenticationFilter filter = new DeviceAuthenticationFilter(
+            List.of("pi-01:" + Base64.getEncoder().encodeToString(KEY)), List.of("/api/pi/frame", "/api/pi/infer"), 300);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletRequest request(String uri, String deviceId, long timestamp, String nonce, String signature) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.addHeader(DeviceAuthenticationFilter.DEVICE_ID_HEADER, deviceId);
+        request.addHeader(DeviceAuthenticationFilter.TIMESTAMP_HEADER, Long.toString(timestamp));
+        request.addHeader(DeviceAuthenticationFilter.NONCE_HEADER, nonce);
+        request.addHeader(DeviceAuthenticationFilter.SIGNATURE_HEADER, signature);
+        return request;
+    }
+
+    private static long now() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    @Test
+    @DisplayName("올바른 서명은 ROLE_DEVICE 로 인증 후 다음 필터 진행")
+    void acceptsValidSignature() throws ServletException, IOException {
+        long timestamp = now();
+        String signature = DeviceAuthenticationFilter.sign(KEY, "pi-01", timestamp, "n-1", "POST", "/api/pi/frame");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("/api/pi/frame", "pi-01", timestamp, "n-1", signature), new MockHttpServletResponse(), chain);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(authentication.getName()).isEqualTo("pi-01");
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_DEVICE");
+    }
+
+    @Test
+    @DisplayName("서명 불일치/다른 경로 서명/미등록 장비/시각 초과는 401")
+    void rejectsInvalidRequests() throws ServletException, IOException {
+        long timestamp = now();
+        String frameSignature = DeviceAuthenticationFilter.sign(KEY, "pi-01", timestamp, "n-1", "POST", "/api/pi/frame");
+        List<MockHttpServletRequest> requests = List.of(
+                request("/api/pi/frame", "pi-01", timestamp, "n-1", Base64.getEncoder().encodeToString(new byte[32])),
+                request("/api/pi/infer", "pi-01", timestamp, "n-1", frameSignature),
+                request("/api/pi/frame", "pi-99", timestamp, "n-1", frameSignature),
+                request("/api/pi/frame", "pi-01", timestamp, "n-2", frameSignature),
+                request("/api/pi/frame", "pi-01", timestamp - 600, "n-1",
+                        DeviceAuthenticationFilter.sign(KEY, "pi-01", timestamp - 600, "n-1", "POST", "/api/pi/frame")),
+                new MockHttpServletRequest("POST", "/api/pi/frame"));
+
+        for (MockHttpServletRequest request : requests) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(request, response, chain);
+
+            assertThat(response.getStatus()).isEqualTo(401);
+            assertThat(chain.getRequest()).isNull();
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 서명(nonce)으로 다시 보낸 요청은 본문이 달라도 401")
+    void rejectsReplayedNonce() throws ServletException, IOException {
+        long timestamp = now();
+        String signature = DeviceAuthenticationFilter.sign(KEY, "pi-01", timestamp, "n-7", "POST", "/api/pi/infer");
+
+        MockHttpServletRequest first = request("/api/pi/infer", "pi-01", timestamp, "n-7", signature);
+        first.setParameter("capture_id", "cap-1");
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+        filter.doFilter(first, firstResponse, new MockFilterChain());
+        assertThat(firstResponse.getStatus()).isEqualTo(200);
+        SecurityContextHolder.clearContext();
+
+        MockHttpServletRequest replay = request("/api/pi/infer", "pi-01", timestamp, "n-7", signature);
+        replay.setParameter("capture_id", "forged");
+        MockHttpServletResponse replayResponse = new MockHttpServletResponse();
+        MockFilterChain replayChain = new MockFilterChain();
+        filter.doFilter(replay, replayResponse, replayChain);
+
+        assertThat(replayResponse.getStatus()).isEqualTo(401);
+        assertThat(replayChain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("장비 경로가 아니면 검사하지 않음")
+    void ignoresOtherPaths() throws ServletException, IOException {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/logs"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isNotNull();
+    }
+}
@@ -0,0 +1,103 @@
+package plant.com.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import plant.com.cmm.exception.TooManyRequestsException;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LoginRateLimiter 토큰 버킷 테스트")
+class LoginRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("순간 허용량까지 통과, 이후는 채워지는 속도(분당 횟수)만큼만 허용")
+    void allowsBurstThenRefillRate() {
+        LoginRateLimiter.Buckets buckets = new LoginRateLimiter.Buckets(60, 3, 100);
+        long now = 1_000 * SECOND;
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(buckets.tryAcquire("admin", now)).isZero();
+        }
+        assertThat(buckets.tryAcquire("admin", now)).isEqualTo(SECOND);
+        assertThat(buckets.tryAcquire("other", now)).isZero();
+        assertThat(buckets.tryAcquire("admin", now + SECOND)).isZero();
+        assertThat(buckets.tryAcquire("admin", now + SECOND)).isPositive();
+    }
+
+    @Test
+    @DisplayName("가득 찬 버킷은 정리, 키 수 상한을 넘으면 가장 많이 찬 버킷부터 제거")
+    void boundsKeyCount() {
+        LoginRateLimiter.Buckets buckets = new LoginRateLimiter.Buckets(60, 2, 2);
+        long now = 1_000 * SECOND;
+
+        buckets.tryAcquire("a", now);
+        buckets.tryAcquire("b", now);
+        buckets.purge(now);
+        assertThat(buckets.size()).isEqualTo(2);
+        buckets.purge(now + 2 * SECOND);
+        assertThat(buckets.size()).isZero();
+
+        buckets.tryAcquire("a", now);
+        buckets.tryAcquire("a", now);
+        buckets.tryAcquire("b", now);
+        buckets.tryAcquire("c", now);
+        assertThat(buckets.size()).isEqualTo(2);
+        // 토큰을 더 쓴 a 는 남고 b 가 제거됨
+        assertThat(buckets.tryAcquire("a", now)).isPositive();
+    }
+
+    @Test
+    @DisplayName("키를 대량으로 만들어도 제한 중인 버킷은 유지")
+    void keySprayKeepsLimitedBucket() {
+        LoginRateLimiter.Buckets buckets = new LoginRateLimiter.Buckets(60, 3, 100);
+        long now = 1_000 * SECOND;
+
+        for (int i = 0; i < 3; i++) {
+            buckets.tryAcquire("admin", now);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            buckets.tryAcquire("spray-" + i, now);
+        }
+
+        assertThat(buckets.size()).isLessThanOrEqualTo(100);
+        assertThat(buckets.tryAcquire("admin", now)).isPositive();
+    }
+
+    @Test
+    @DisplayName("사용자 또는 IP 한도 초과 시 Retry-After 초를 담은 429 예외")
+    void rejectsWithRetryAfter() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LoginRateLimiter limiter = new LoginRateLimiter(meterRegistry, 1, 1, 100, 100, 100);
+
+        limiter.check("admin", "10.0.0.1");
+        limiter.check("operator", "10.0.0.1");
+
+        assertThatThrownBy(() -> limiter.check("admin", "10.0.0.2"))
+                .isInstanceOfSatisfying(TooManyRequestsException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo("LOGIN_RATE_LIMITED");
+                    assertThat(e.getRetryAfterSeconds()).isBetween(59L, 61L);
+                });
+        assertThat(meterRegistry.get("login.rate.limited").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("IP 한도에서 거절된 요청은 사용자 버킷을 소모하지 않음")
+    void ipRejectionDoesNotConsumeUserBucket() {
+        LoginRateLimiter limiter = new LoginRateLimiter(new SimpleMeterRegistry(), 2, 2, 1, 1, 100);
+
+        limiter.check("operator", "10.0.0.9");
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> limiter.check("admin", "10.0.0.9"))
+                    .isInstanceOf(TooManyRequestsException.class);
+        }
+
+        limiter.check("admin", "10.0.0.1");
+        limiter.check("admin", "10.0.0.2");
+    }
+}
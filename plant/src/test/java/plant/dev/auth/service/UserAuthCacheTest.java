@@ -0,0 +1,67 @@
+package plant.dev.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import plant.dev.jpa.entity.User;
+import plant.dev.jpa.entity.UserIP;
+import plant.dev.jpa.repository.UserIPRepository;
+import plant.dev.jpa.repository.UserRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("UserAuthCache / ApprovedIpRegistry 캐시 및 무효화 테스트")
+class UserAuthCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private static User user(String password) {
+        return new User("admin@plant.com", password, "관리자", "Y", "ROLE_ADMIN", "10.1.2.3");
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터 DB 없이 반환, evict 후 다시 조회 / 없는 사용자는 캐시하지 않음")
+    void cachesUntilEvicted() {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByUserId("admin@plant.com")).thenReturn(Optional.of(user("hash-1")), Optional.of(user("hash-2")));
+        UserAuthCache cache = new UserAuthCache(userRepository, meterRegistry, 300, 100);
+
+        assertThat(cache.find("admin@plant.com")).get().extracting(UserAuthCache.AuthUser::userPswr).isEqualTo("hash-1");
+        assertThat(cache.find("admin@plant.com")).get().extracting(UserAuthCache.AuthUser::userIp).isEqualTo("10.1.2.3");
+        verify(userRepository, times(1)).findByUserId("admin@plant.com");
+
+        cache.evict("admin@plant.com");
+        assertThat(cache.find("admin@plant.com")).get().extracting(UserAuthCache.AuthUser::userPswr).isEqualTo("hash-2");
+
+        assertThat(cache.find("nobody")).isEmpty();
+        assertThat(cache.find("nobody")).isEmpty();
+        verify(userRepository, times(2)).findByUserId("nobody");
+        assertThat(meterRegistry.get("auth.user.cache").tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("허용 IP 목록은 한 번만 적재하고 CIDR 대역 포함 검사, invalidate 후 다시 적재")
+    void reloadsApprovedIpsOnInvalidate() {
+        UserIPRepository userIPRepository = mock(UserIPRepository.class);
+        when(userIPRepository.findByIpYn("Y")).thenReturn(
+                List.of(new UserIP("10.1.2.0/24", "Y"), new UserIP("잘못된값", "Y")),
+                List.of(new UserIP("192.168.0.7", "Y")));
+        ApprovedIpRegistry registry = new ApprovedIpRegistry(userIPRepository, meterRegistry, 300);
+
+        assertThat(registry.isApproved("10.1.2.3")).isTrue();
+        assertThat(registry.isApproved("10.1.3.3")).isFalse();
+        verify(userIPRepository, times(1)).findByIpYn("Y");
+
+        registry.invalidate();
+        assertThat(registry.isApproved("10.1.2.3")).isFalse();
+        assertThat(registry.isApproved("192.168.0.7")).isTrue();
+        verify(userIPRepository, times(2)).findByIpYn("Y");
+    }
+}
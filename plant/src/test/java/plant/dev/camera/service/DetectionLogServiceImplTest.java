@@ -0,0 +1,69 @@
+package plant.dev.camera.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DuplicateKeyException;
+import plant.com.cmm.web.ResourceVersionRegistry;
+import plant.dev.camera.dto.DetectionLogDTO;
+import plant.dev.camera.mapper.DetectionLogMapper;
+import plant.dev.dashboard.service.DashboardLiveService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("DetectionLogServiceImpl 재전송(captureId 중복) 판별 테스트")
+class DetectionLogServiceImplTest {
+
+    private static final String RESULT = "{\"confidence\":0.9,\"classes\":[[1,0.9],[4,0.72]]}";
+
+    private final DetectionLogMapper detectionLogMapper = mock(DetectionLogMapper.class);
+    private final DashboardLiveService dashboardLiveService = mock(DashboardLiveService.class);
+    private final ResourceVersionRegistry resourceVersionRegistry = mock(ResourceVersionRegistry.class);
+    private final DetectionLogServiceImpl service =
+            new DetectionLogServiceImpl(detectionLogMapper, dashboardLiveService, resourceVersionRegistry);
+
+    @Test
+    @DisplayName("신규 captureId 는 실시간 집계에 반영하고 기존 행 갱신은 하지 않음")
+    void newCaptureIsCounted() {
+        when(detectionLogMapper.insertDetectionLog(any(DetectionLogDTO.class))).thenReturn(1);
+
+        service.saveInferJson("cap-1", RESULT, 1L);
+
+        verify(dashboardLiveService).record(eq("defect"), eq("Damage-B"));
+        verify(detectionLogMapper, never()).updateDetectionLog(any(DetectionLogDTO.class));
+        verify(resourceVersionRegistry, never()).bumpAfterCommit(anyString());
+    }
+
+    @Test
+    @DisplayName("재전송된 captureId 는 값이 같아도 갱신만 하고 실시간 집계에서 제외")
+    void resentCaptureIsNotCounted() {
+        when(detectionLogMapper.insertDetectionLog(any(DetectionLogDTO.class)))
+                .thenThrow(new DuplicateKeyException("Duplicate entry 'cap-1' for key 'capture_id'"));
+
+        service.saveInferJson("cap-1", RESULT, 2L);
+
+        verify(detectionLogMapper).updateDetectionLog(any(DetectionLogDTO.class));
+        verify(resourceVersionRegistry).bumpAfterCommit(DetectionLogService.REVISION_RESOURCE);
+        verify(dashboardLiveService, never()).record(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("classes 가 비어 있으면 보류(hold) 로 저장하고 보류로 집계")
+    void emptyClassesAreStoredAsHold() {
+        when(detectionLogMapper.insertDetectionLog(any(DetectionLogDTO.class))).thenReturn(1);
+
+        service.saveInferJson("cap-2", "{\"confidence\":0.1,\"classes\":[]}", 1L);
+
+        ArgumentCaptor<DetectionLogDTO> saved = ArgumentCaptor.forClass(DetectionLogDTO.class);
+        verify(detectionLogMapper).insertDetectionLog(saved.capture());
+        assertThat(saved.getValue().getProductResult()).isEqualTo("hold");
+        verify(dashboardLiveService).record("hold", null);
+    }
+}
@@ -0,0 +1,29 @@
+package plant.dev.dashboard.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DashboardClosedPeriodVersion 마감 기간 판별 테스트")
+class DashboardClosedPeriodVersionTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 9, 15);
+
+    @Test
+    @DisplayName("오늘 이전에 끝난 기간만 마감, 기간 없음/진행 중/형식 오류는 매번 조회")
+    void closedOnlyWhenPeriodEndedBeforeToday() {
+        assertThat(DashboardClosedPeriodVersion.isClosed("month", "2025-08", null, TODAY)).isTrue();
+        assertThat(DashboardClosedPeriodVersion.isClosed(null, "2025-08", null, TODAY)).isTrue();
+        assertThat(DashboardClosedPeriodVersion.isClosed("month", "2025-09", null, TODAY)).isFalse();
+        assertThat(DashboardClosedPeriodVersion.isClosed("year", "2024", null, TODAY)).isTrue();
+        assertThat(DashboardClosedPeriodVersion.isClosed("YEAR", "2025", null, TODAY)).isFalse();
+        assertThat(DashboardClosedPeriodVersion.isClosed("week", "2025-09-01", "2025-09-14", TODAY)).isTrue();
+        assertThat(DashboardClosedPeriodVersion.isClosed("week", "2025-09-08", "2025-09-15", TODAY)).isFalse();
+        assertThat(DashboardClosedPeriodVersion.isClosed("week", "2025-09-01", null, TODAY)).isFalse();
+        assertThat(DashboardClosedPeriodVersion.isClosed("month", null, null, TODAY)).isFalse();
+        assertThat(DashboardClosedPeriodVersion.isClosed("month", "2025/08", null, TODAY)).isFalse();
+    }
+}
@@ -0,0 +1,77 @@
+package plant.dev.dashboard.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DashboardLiveServiceImpl 구독자 한도 테스트")
+class DashboardLiveServiceImplTest {
+
+    @Test
+    @DisplayName("동시에 구독해도 한도를 넘지 않음")
+    void concurrentSubscribersStayWithinLimit() throws Exception {
+        int limit = 5;
+        int clients = 64;
+        DashboardLiveServiceImpl service = new DashboardLiveServiceImpl(60_000, limit, 15_000);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        service.subscribe();
+                        accepted.incrementAndGet();
+                    } catch (ResponseStatusException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(accepted.get()).isEqualTo(limit);
+        assertThat(rejected.get()).isEqualTo(clients - limit);
+        assertThat(service.getSubscriberCount()).isEqualTo(limit);
+    }
+
+    @Test
+    @DisplayName("끊어진 구독자가 정리되면 슬롯이 반환됨")
+    void closedSubscriberReleasesSlot() {
+        DashboardLiveServiceImpl service = new DashboardLiveServiceImpl(60_000, 1, 15_000);
+        SseEmitter first = service.subscribe();
+        assertThatThrownBy(service::subscribe).isInstanceOf(ResponseStatusException.class);
+
+        // 닫힌 emitter 는 다음 전송에서 실패하여 목록에서 제거됨
+        first.complete();
+        service.record("normal", null);
+        service.flush();
+
+        assertThat(service.getSubscriberCount()).isZero();
+        assertThat(service.subscribe()).isNotNull();
+        assertThat(service.getSubscriberCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,43 @@
+package plant.dev.logplant.serviec.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import plant.com.cmm.exception.CustomException;
+import plant.com.cmm.util.map.CustomMap;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("로그 내보내기 조건 검증 테스트")
+class LogPlantServiceImplTest {
+
+    private final LogPlantServiceImpl service = new LogPlantServiceImpl();
+
+    @Test
+    @DisplayName("날짜는 기간 경계로 변환, 형식 오류/역전된 기간/잘못된 result 는 스트리밍 전에 예외")
+    void buildExportFilter() {
+        CustomMap condition = new CustomMap();
+        condition.put("result", " Defect ");
+        condition.put("from", "2025-10-01");
+        condition.put("to", "2025-10-19");
+        CustomMap filter = service.buildExportFilter(condition);
+        assertThat(filter.get("result")).isEqualTo("defect");
+        assertThat(filter.get("from")).isEqualTo(LocalDateTime.of(2025, 10, 1, 0, 0));
+        assertThat(filter.get("to")).isEqualTo(LocalDateTime.of(2025, 10, 20, 0, 0));
+
+        CustomMap badDate = new CustomMap();
+        badDate.put("from", "2025-13-01");
+        assertThatThrownBy(() -> service.buildExportFilter(badDate)).isInstanceOf(CustomException.class);
+
+        CustomMap reversed = new CustomMap();
+        reversed.put("from", "2025-10-19");
+        reversed.put("to", "2025-10-01");
+        assertThatThrownBy(() -> service.buildExportFilter(reversed)).isInstanceOf(CustomException.class);
+
+        CustomMap badResult = new CustomMap();
+        badResult.put("result", "unknown");
+        assertThatThrownBy(() -> service.buildExportFilter(badResult)).isInstanceOf(CustomException.class);
+    }
+}
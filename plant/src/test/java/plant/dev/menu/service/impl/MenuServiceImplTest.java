@@ -0,0 +1,99 @@
+package plant.dev.menu.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import plant.com.cmm.dao.AbstractDAO;
+import plant.com.config.MessageConverterConfig;
+import plant.dev.auth.dto.UserDto;
+import plant.dev.menu.dto.MenuDTO.MenuNode;
+import plant.dev.menu.dto.MenuDTO.MenuRow;
+import plant.dev.menu.dto.MenuDTO.MenuSnapshot;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("MenuServiceImpl 권한별 메뉴 스냅샷 테스트")
+class MenuServiceImplTest {
+
+    private final AbstractDAO abstractDAO = mock(AbstractDAO.class);
+    private final MenuServiceImpl menuService = new MenuServiceImpl();
+
+    private static final List<MenuRow> ADMIN_ROWS = List.of(
+            new MenuRow("M1", "대시보드", "/dashboard", "1", null, 1),
+            new MenuRow("M2", "설정", "/settings", "1", null, 2),
+            new MenuRow("M21", "사용자 <관리>", "/settings/users", "2", "M2", 1));
+
+    MenuServiceImplTest() {
+        ReflectionTestUtils.setField(menuService, "abstractDAO", abstractDAO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static void loginAs(String rolGrade) {
+        UserDto userDto = new UserDto();
+        userDto.setUserId("user@plant.com");
+        userDto.setRolGrade(rolGrade);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(userDto, null, List.of()));
+    }
+
+    @Test
+    @DisplayName("권한별로 한 번만 조회하여 트리/JSON/ETag 를 만들고, JSON 은 응답 컨버터와 같은 결과")
+    void buildsSnapshotOncePerRole() throws Exception {
+        when(abstractDAO.selectList(eq("menuDAO.findMenusByRole"), anyString())).thenReturn((List) ADMIN_ROWS);
+        loginAs("ROLE_ADMIN");
+
+        MenuSnapshot first = menuService.getMenuSnapshotForCurrentUser();
+        MenuSnapshot second = menuService.getMenuSnapshotForCurrentUser();
+        SecurityContextHolder.clearContext();
+        MenuSnapshot anonymous = menuService.getMenuSnapshotForCurrentUser();
+
+        assertThat(second).isSameAs(first);
+        assertThat(anonymous.rolGrade()).isEqualTo("ANONYMOUS");
+        verify(abstractDAO, times(1)).selectList("menuDAO.findMenusByRole", "ROLE_ADMIN");
+        verify(abstractDAO, times(1)).selectList("menuDAO.findMenusByRole", "ANONYMOUS");
+
+        assertThat(first.menus()).extracting(MenuNode::id).containsExactly("M1", "M2");
+        assertThat(first.menus().get(1).children()).extracting(MenuNode::id).containsExactly("M21");
+        ObjectMapper secureMapper = MessageConverterConfig.createSecureObjectMapper();
+        assertThat(first.json()).isEqualTo(secureMapper.writeValueAsBytes(first.menus()));
+        assertThat(new String(first.json(), StandardCharsets.UTF_8)).contains("&lt;관리&gt;").contains("\"prnt_id\":\"M2\"");
+        assertThat(first.etag()).startsWith("\"").endsWith("\"").hasSize(34);
+        assertThatThrownBy(() -> first.menus().get(1).children().add(first.menus().get(0)))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("refreshMenus 는 적재된 권한 전체를 다시 만들어 교체, 내용이 바뀌면 ETag 도 변경")
+    void refreshSwapsSnapshots() {
+        when(abstractDAO.selectList(eq("menuDAO.findMenusByRole"), anyString()))
+                .thenReturn((List) ADMIN_ROWS, (List) ADMIN_ROWS.subList(0, 1));
+        loginAs("ROLE_ADMIN");
+        MenuSnapshot before = menuService.getMenuSnapshotForCurrentUser();
+
+        menuService.refreshMenus();
+        MenuSnapshot after = menuService.getMenuSnapshotForCurrentUser();
+
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.menus()).extracting(MenuNode::id).containsExactly("M1");
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        assertThat(menuService.getMenusForCurrentUser()).isSameAs(after.menus());
+        verify(abstractDAO, times(2)).selectList("menuDAO.findMenusByRole", "ROLE_ADMIN");
+    }
+}